@@ -2,3 +2,4 @@ export { default as apiClient } from './client';
 export { getNamespaces } from './namespaces';
 export { getPods, getPodDetails } from './pods';
 export { getServices, getServiceDetails } from './services';
+export { subscribeHealth } from './stream';
@@ -1,8 +1,10 @@
 import apiClient from './client';
 import type { NamespaceListResponse } from '../types';
 
-// List namespaces
-export async function getNamespaces(): Promise<NamespaceListResponse> {
-  const response = await apiClient.get<NamespaceListResponse>('/namespaces');
+// List namespaces, optionally only those starting with prefix
+export async function getNamespaces(prefix?: string): Promise<NamespaceListResponse> {
+  const response = await apiClient.get<NamespaceListResponse>('/namespaces', {
+    params: prefix ? { prefix } : undefined,
+  });
   return response.data;
 }
@@ -1,9 +1,11 @@
 import apiClient from './client';
 import type { PodDiagnosticResult, BulkPodDiagnosticResult } from '../types';
 
-// Bulk pods
+// Bulk pods (tile view: only what the tiles show; details come from getPodDetails)
 export async function getPods(namespace: string): Promise<BulkPodDiagnosticResult> {
-  const response = await apiClient.get<BulkPodDiagnosticResult>(`/debug/pods/${namespace}`);
+  const response = await apiClient.get<BulkPodDiagnosticResult>(`/debug/pods/${namespace}`, {
+    params: { view: 'tile' },
+  });
   return response.data;
 }
 
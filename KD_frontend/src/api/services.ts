@@ -1,10 +1,11 @@
 import apiClient from './client';
 import type { ServiceDiagnosticResult, BulkServiceDiagnosticResult } from '../types';
 
-// Bulk services
+// Bulk services (tile view: only what the tiles show; details come from getServiceDetails)
 export async function getServices(namespace: string): Promise<BulkServiceDiagnosticResult> {
   const response = await apiClient.get<BulkServiceDiagnosticResult>(
-    `/debug/services/${namespace}`
+    `/debug/services/${namespace}`,
+    { params: { view: 'tile' } }
   );
   return response.data;
 }
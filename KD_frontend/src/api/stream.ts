@@ -0,0 +1,20 @@
+import type { HealthChangeEvent } from '../types';
+
+// Live health changes for a namespace (server-sent events); returns a function that closes the stream.
+// A 503 (informers disabled) closes the EventSource without retrying.
+export function subscribeHealth(
+  namespace: string,
+  onChange: (event: HealthChangeEvent) => void
+): () => void {
+  const baseUrl = import.meta.env.VITE_API_BASE_URL || '/api';
+  const source = new EventSource(`${baseUrl}/stream/${namespace}`);
+
+  const handle = (message: MessageEvent<string>) => {
+    onChange(JSON.parse(message.data) as HealthChangeEvent);
+  };
+  source.addEventListener('added', handle);
+  source.addEventListener('changed', handle);
+  source.addEventListener('deleted', handle);
+
+  return () => source.close();
+}
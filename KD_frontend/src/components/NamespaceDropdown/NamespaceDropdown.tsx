@@ -5,6 +5,8 @@ interface NamespaceDropdownProps {
   namespaces: string[];
   selectedNamespace: string;
   onSelect: (namespace: string) => void;
+  // Server-side prefix search over the namespace catalog
+  onSearch: (prefix: string) => Promise<string[]>;
   isLoading: boolean;
   error: string | null;
 }
@@ -13,17 +15,46 @@ export function NamespaceDropdown({
   namespaces,
   selectedNamespace,
   onSelect,
+  onSearch,
   isLoading,
   error,
 }: NamespaceDropdownProps) {
   const [isOpen, setIsOpen] = useState(false);
   const [searchTerm, setSearchTerm] = useState('');
+  const [matches, setMatches] = useState<string[] | null>(null);
   const dropdownRef = useRef<HTMLDivElement>(null);
   const inputRef = useRef<HTMLInputElement>(null);
 
-  const filteredNamespaces = namespaces.filter((ns) =>
-    ns.toLowerCase().includes(searchTerm.toLowerCase())
-  );
+  // Namespace names are lowercase DNS labels
+  const prefix = searchTerm.trim().toLowerCase();
+
+  // Filter the loaded list right away, then show the server's matches once they arrive
+  const filteredNamespaces =
+    matches ?? (prefix ? namespaces.filter((ns) => ns.startsWith(prefix)) : namespaces);
+
+  // Ask the server for names starting with the search term (debounced)
+  useEffect(() => {
+    setMatches(null);
+    if (!prefix) {
+      return;
+    }
+    let cancelled = false;
+    const timer = setTimeout(() => {
+      onSearch(prefix)
+        .then((names) => {
+          if (!cancelled) {
+            setMatches(names);
+          }
+        })
+        .catch(() => {
+          // Keep the local filter
+        });
+    }, 200);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [prefix, onSearch]);
 
   // Close on outside click
   useEffect(() => {
@@ -6,6 +6,7 @@ interface TopBarProps {
   namespaces: string[];
   selectedNamespace: string;
   onNamespaceChange: (namespace: string) => void;
+  onNamespaceSearch: (prefix: string) => Promise<string[]>;
   onSearch: (type: 'pod' | 'service', namespace: string, name: string) => void;
   isNamespacesLoading: boolean;
   isSearchLoading: boolean;
@@ -16,6 +17,7 @@ export function TopBar({
   namespaces,
   selectedNamespace,
   onNamespaceChange,
+  onNamespaceSearch,
   onSearch,
   isNamespacesLoading,
   isSearchLoading,
@@ -48,6 +50,7 @@ export function TopBar({
             namespaces={namespaces}
             selectedNamespace={selectedNamespace}
             onSelect={onNamespaceChange}
+            onSearch={onNamespaceSearch}
             isLoading={isNamespacesLoading}
             error={namespacesError}
           />
@@ -14,6 +14,7 @@ import {
   getServices,
   getPodDetails,
   getServiceDetails,
+  subscribeHealth,
 } from '../api';
 import type {
   PodDiagnosticResult,
@@ -22,6 +23,27 @@ import type {
   BulkServiceDiagnosticResult,
 } from '../types';
 
+// Replace, add or remove one result and recount (Healthy and Completed count as healthy)
+function applyChange<T extends { resourceName: string; status: string }>(
+  results: T[],
+  name: string,
+  result: T | undefined
+) {
+  const next = results.filter((r) => r.resourceName !== name);
+  if (result) {
+    const index = results.findIndex((r) => r.resourceName === name);
+    next.splice(index >= 0 ? index : next.length, 0, result);
+  }
+  const criticalCount = next.filter((r) => r.status === 'Critical').length;
+  const healthyCount = next.filter((r) => r.status === 'Healthy' || r.status === 'Completed').length;
+  return {
+    results: next,
+    criticalCount,
+    healthyCount,
+    warningCount: next.length - criticalCount - healthyCount,
+  };
+}
+
 type SelectedResource =
   | { type: 'pod'; data: PodDiagnosticResult }
   | { type: 'service'; data: ServiceDiagnosticResult }
@@ -136,11 +158,42 @@ export function Dashboard() {
     }
   }, [selectedNamespace]);
 
+  // Live health changes for the selected namespace
+  useEffect(() => {
+    if (!selectedNamespace) {
+      return;
+    }
+    return subscribeHealth(selectedNamespace, (event) => {
+      if (event.namespace !== currentNamespaceRef.current) {
+        return;
+      }
+      if (event.kind === 'Pod') {
+        setPodsData((data) => {
+          if (!data) return data;
+          const patch = applyChange(data.results, event.name, event.result);
+          return { ...data, ...patch, totalPods: patch.results.length };
+        });
+      } else {
+        setServicesData((data) => {
+          if (!data) return data;
+          const patch = applyChange(data.results, event.name, event.result);
+          return { ...data, ...patch, totalServices: patch.results.length };
+        });
+      }
+    });
+  }, [selectedNamespace]);
+
   // Namespace change
   const handleNamespaceChange = useCallback((namespace: string) => {
     setSelectedNamespace(namespace);
   }, []);
 
+  // Namespace search (prefix match on the server)
+  const handleNamespaceSearch = useCallback(async (prefix: string) => {
+    const response = await getNamespaces(prefix);
+    return response.namespaces;
+  }, []);
+
   // Select pod
   const handlePodClick = useCallback(
     async (pod: PodDiagnosticResult) => {
@@ -224,6 +277,7 @@ export function Dashboard() {
         namespaces={namespaces}
         selectedNamespace={selectedNamespace}
         onNamespaceChange={handleNamespaceChange}
+        onNamespaceSearch={handleNamespaceSearch}
         onSearch={handleSearch}
         isNamespacesLoading={namespacesLoading}
         isSearchLoading={searchLoading}
@@ -1,6 +1,7 @@
 export * from './namespace';
 export * from './pod';
 export * from './service';
+export * from './stream';
 
 // Common API error response
 export interface ApiError {
@@ -0,0 +1,28 @@
+// Types based on API_REFERENCE.md - Live health stream events
+
+import type { PodDiagnosticResult } from './pod';
+import type { ServiceDiagnosticResult } from './service';
+
+export type HealthChangeType = 'added' | 'changed' | 'deleted';
+
+export type HealthChangeEvent =
+  | {
+      type: HealthChangeType;
+      kind: 'Pod';
+      namespace: string;
+      name: string;
+      status?: string;
+      previousStatus?: string;
+      eventTime: string;
+      result?: PodDiagnosticResult;
+    }
+  | {
+      type: HealthChangeType;
+      kind: 'Service';
+      namespace: string;
+      name: string;
+      status?: string;
+      previousStatus?: string;
+      eventTime: string;
+      result?: ServiceDiagnosticResult;
+    };
@@ -0,0 +1,72 @@
+package com.kubediagnose.benchmark;
+
+import com.kubediagnose.analyzer.PodAnalyzer;
+import com.kubediagnose.model.PodDiagnosticResult;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PodAnalyzer#analyze} over a synthetic namespace.
+ * {@code analyze} is one pod per operation (cycling through the namespace); {@code analyzeNamespace}
+ * is every pod once, as a bulk request does. Run with {@code -prof gc} for bytes allocated per operation.
+ * The result cache is off by default so the rules run every time; {@code -p resultCacheSize=20000}
+ * measures the unchanged-pod path instead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodAnalyzerBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int pods;
+
+    @Param({"HEALTHY", "MIXED", "CRASHLOOP", "OOM"})
+    public Fixtures.Mix mix;
+
+    @Param({"0"})
+    public int resultCacheSize;
+
+    @Param({"false"})
+    public boolean ruleTiming;
+
+    private PodAnalyzer analyzer;
+    private List<V1Pod> namespace;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        analyzer = Fixtures.podAnalyzer(resultCacheSize, ruleTiming);
+        namespace = Fixtures.pods(pods, mix);
+    }
+
+    @Benchmark
+    public PodDiagnosticResult analyze() {
+        V1Pod pod = namespace.get(next);
+        next = next + 1 == namespace.size() ? 0 : next + 1;
+        return analyzer.analyze(pod);
+    }
+
+    @Benchmark
+    public void analyzeNamespace(Blackhole blackhole) {
+        for (V1Pod pod : namespace) {
+            blackhole.consume(analyzer.analyze(pod));
+        }
+    }
+}
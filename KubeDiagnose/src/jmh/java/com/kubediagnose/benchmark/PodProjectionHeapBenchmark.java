@@ -0,0 +1,69 @@
+package com.kubediagnose.benchmark;
+
+import com.kubediagnose.cache.PodProjection;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap cost of a cached pod, one {@link Fixtures#fullPods} pod per operation; run with {@code -prof gc}.
+ * {@code decode} is the full {@link V1Pod} the informer builds from a watch event, {@code decodeCompact}
+ * adds the {@link PodProjection}, and {@code compact} is the projection alone: its
+ * {@code gc.alloc.rate.norm} is an upper bound on what the cache keeps per pod, since interned strings
+ * are not allocated again once the pool holds them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodProjectionHeapBenchmark {
+
+    @Param({"1000"})
+    public int pods;
+
+    private List<V1Pod> full;
+    private List<String> events;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        full = Fixtures.fullPods(pods);
+        events = full.stream().map(JSON::serialize).toList();
+    }
+
+    @Benchmark
+    public V1Pod decode() {
+        return JSON.deserialize(events.get(nextIndex()), V1Pod.class);
+    }
+
+    @Benchmark
+    public V1Pod decodeCompact() {
+        return PodProjection.compact(JSON.deserialize(events.get(nextIndex()), V1Pod.class));
+    }
+
+    @Benchmark
+    public V1Pod compact() {
+        return PodProjection.compact(full.get(nextIndex()));
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = next + 1 == pods ? 0 : next + 1;
+        return index;
+    }
+}
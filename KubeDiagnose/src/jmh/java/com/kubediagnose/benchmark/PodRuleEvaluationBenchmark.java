@@ -0,0 +1,136 @@
+package com.kubediagnose.benchmark;
+
+import com.kubediagnose.model.PodDiagnosticResult;
+import com.kubediagnose.rules.CrashLoopBackOffRule;
+import com.kubediagnose.rules.HighRestartCountRule;
+import com.kubediagnose.rules.ImagePullRule;
+import com.kubediagnose.rules.OomKilledRule;
+import com.kubediagnose.rules.PodDiagnosticRules;
+import com.kubediagnose.rules.PodRule;
+import com.kubediagnose.rules.PodRuleEngine;
+import com.kubediagnose.rules.ProbeFailureRule;
+import com.kubediagnose.rules.RulePlan;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rule evaluation for one pod per operation, without the analyzer around it.
+ * {@code multiPass} is the rule sequence PodAnalyzer ran before {@link PodRuleEngine}: one walk of the
+ * container statuses per rule, rebuilt here from the per-container checks. {@code singlePass} is the
+ * engine as the full view runs it and {@code findingsOnly} as the tile view runs it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PodRuleEvaluationBenchmark {
+
+    @Param({"5000"})
+    public int pods;
+
+    @Param({"HEALTHY", "MIXED"})
+    public Fixtures.Mix mix;
+
+    private List<V1Pod> namespace;
+    private RulePlan<PodRule> plan;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        namespace = Fixtures.pods(pods, mix);
+        plan = RulePlan.of(List.of(
+                new CrashLoopBackOffRule(),
+                new ImagePullRule(),
+                new OomKilledRule(),
+                new ProbeFailureRule(),
+                new HighRestartCountRule()));
+        for (V1Pod pod : namespace) {
+            PodRuleEngine.Evaluation evaluation = PodRuleEngine.evaluate(pod, plan);
+            List<String> causes = new ArrayList<>();
+            int restarts = multiPass(pod, causes, new ArrayList<>(), new ArrayList<>(), null);
+            if (!causes.equals(evaluation.getCauses()) || restarts != evaluation.getTotalRestarts()) {
+                throw new IllegalStateException("Engine output differs for pod " + pod.getMetadata().getName());
+            }
+        }
+    }
+
+    @Benchmark
+    public void multiPass(Blackhole blackhole) {
+        List<String> causes = new ArrayList<>();
+        List<PodDiagnosticResult.ContainerStatus> statuses = new ArrayList<>();
+        blackhole.consume(multiPass(nextPod(), causes, new ArrayList<>(), new ArrayList<>(), statuses));
+        blackhole.consume(causes);
+        blackhole.consume(statuses);
+    }
+
+    @Benchmark
+    public PodRuleEngine.Evaluation singlePass() {
+        return PodRuleEngine.evaluate(nextPod(), plan);
+    }
+
+    @Benchmark
+    public PodRuleEngine.Evaluation findingsOnly() {
+        return PodRuleEngine.evaluate(nextPod(), plan, null, false);
+    }
+
+    private V1Pod nextPod() {
+        V1Pod pod = namespace.get(next);
+        next = next + 1 == namespace.size() ? 0 : next + 1;
+        return pod;
+    }
+
+    /** One pass per rule, in plan order; returns the total restart count. */
+    private static int multiPass(V1Pod pod, List<String> causes, List<String> evidence, List<String> actions,
+                                 List<PodDiagnosticResult.ContainerStatus> statuses) {
+        if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+            return 0;
+        }
+        List<V1ContainerStatus> containers = pod.getStatus().getContainerStatuses();
+        for (V1ContainerStatus container : containers) {
+            PodDiagnosticRules.checkCrashLoopBackOff(pod, container, causes, evidence, actions);
+        }
+        for (V1ContainerStatus container : containers) {
+            PodDiagnosticRules.checkImagePullErrors(pod, container, causes, evidence, actions);
+        }
+        for (V1ContainerStatus container : containers) {
+            PodDiagnosticRules.checkOOMKilled(pod, container, causes, evidence, actions);
+        }
+        if (pod.getStatus().getConditions() != null) {
+            for (V1PodCondition condition : pod.getStatus().getConditions()) {
+                PodDiagnosticRules.checkReadinessProbeCondition(condition, causes, evidence, actions);
+            }
+        }
+        for (V1ContainerStatus container : containers) {
+            PodDiagnosticRules.checkLivenessProbeKill(container, causes, evidence, actions);
+        }
+        int restarts = 0;
+        for (V1ContainerStatus container : containers) {
+            restarts += PodDiagnosticRules.checkHighRestartCount(pod, container, causes, evidence, actions);
+        }
+        if (statuses != null) {
+            for (V1ContainerStatus container : containers) {
+                statuses.add(PodDiagnosticRules.buildContainerStatus(container));
+            }
+        }
+        return restarts;
+    }
+}
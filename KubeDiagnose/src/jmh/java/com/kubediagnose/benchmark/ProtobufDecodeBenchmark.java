@@ -0,0 +1,251 @@
+package com.kubediagnose.benchmark;
+
+import com.google.protobuf.ByteString;
+import com.kubediagnose.client.ProtoConverters;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.proto.IntStr;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Resource;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.V1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Decode cost of one pod list: JSON through the client's Gson versus protobuf plus {@link ProtoConverters}.
+ * Both payloads encode the same {@link Fixtures#fullPods} list; the JSON side serializes that list as built,
+ * not the narrower one the converters return. Payload sizes are printed at setup.
+ * <p>
+ * To measure real payloads, record the same list in both encodings:
+ * {@code kubectl get --raw /api/v1/pods > pods.json} and
+ * {@code kubectl get --raw /api/v1/pods -H "Accept: application/vnd.kubernetes.protobuf" > pods.pb},
+ * then pass {@code -p jsonFile=pods.json -p protobufFile=pods.pb}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtobufDecodeBenchmark {
+
+    // Kubernetes protobuf responses start with this magic, followed by a runtime.Unknown envelope
+    private static final byte[] PROTOBUF_MAGIC = {0x6b, 0x38, 0x73, 0x00};
+
+    @Param({"5000"})
+    public int pods;
+
+    @Param({""})
+    public String jsonFile;
+
+    @Param({""})
+    public String protobufFile;
+
+    private String jsonPayload;
+    private byte[] protobufPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (jsonFile.isEmpty() != protobufFile.isEmpty()) {
+            throw new IllegalArgumentException("Pass both jsonFile and protobufFile, or neither");
+        }
+        if (!jsonFile.isEmpty()) {
+            jsonPayload = Files.readString(Path.of(jsonFile));
+            protobufPayload = unwrapEnvelope(Files.readAllBytes(Path.of(protobufFile)));
+        } else {
+            V1PodList list = new V1PodList().apiVersion("v1").kind("PodList").items(Fixtures.fullPods(pods));
+            jsonPayload = JSON.serialize(list);
+            protobufPayload = podList(list).toByteArray();
+        }
+        System.out.printf("%njson %d bytes, protobuf %d bytes%n",
+                jsonPayload.getBytes(StandardCharsets.UTF_8).length, protobufPayload.length);
+    }
+
+    @Benchmark
+    public V1PodList decodeJson() {
+        return JSON.deserialize(jsonPayload, V1PodList.class);
+    }
+
+    @Benchmark
+    public V1PodList decodeProtobuf() throws IOException {
+        return ProtoConverters.podList(V1.PodList.parseFrom(protobufPayload));
+    }
+
+    private static byte[] unwrapEnvelope(byte[] response) throws IOException {
+        if (response.length < PROTOBUF_MAGIC.length
+                || !Arrays.equals(Arrays.copyOf(response, PROTOBUF_MAGIC.length), PROTOBUF_MAGIC)) {
+            throw new IOException("Not a Kubernetes protobuf response (missing k8s magic prefix)");
+        }
+        byte[] envelope = Arrays.copyOfRange(response, PROTOBUF_MAGIC.length, response.length);
+        return Runtime.Unknown.parseFrom(envelope).getRaw().toByteArray();
+    }
+
+    /** Protobuf form of the fixture list; covers the fields {@link Fixtures#fullPods} sets. */
+    private static V1.PodList podList(V1PodList list) {
+        V1.PodList.Builder builder = V1.PodList.newBuilder()
+                .setMetadata(Meta.ListMeta.newBuilder().setResourceVersion("48213377"));
+        for (V1Pod pod : list.getItems()) {
+            builder.addItems(pod(pod));
+        }
+        return builder.build();
+    }
+
+    private static V1.Pod pod(V1Pod pod) {
+        V1ObjectMeta metadata = pod.getMetadata();
+        Meta.ObjectMeta.Builder meta = Meta.ObjectMeta.newBuilder()
+                .setName(metadata.getName())
+                .setNamespace(metadata.getNamespace())
+                .setUid(metadata.getUid())
+                .setResourceVersion(metadata.getResourceVersion())
+                .setCreationTimestamp(time(metadata.getCreationTimestamp()))
+                .putAllLabels(metadata.getLabels())
+                .putAllAnnotations(metadata.getAnnotations());
+        metadata.getOwnerReferences().forEach(owner -> meta.addOwnerReferences(Meta.OwnerReference.newBuilder()
+                .setApiVersion(owner.getApiVersion()).setKind(owner.getKind())
+                .setName(owner.getName()).setUid(owner.getUid())));
+        metadata.getManagedFields().forEach(entry -> {
+            Meta.ManagedFieldsEntry.Builder managed = Meta.ManagedFieldsEntry.newBuilder()
+                    .setManager(entry.getManager()).setOperation(entry.getOperation())
+                    .setApiVersion(entry.getApiVersion()).setFieldsType(entry.getFieldsType())
+                    .setTime(time(entry.getTime()))
+                    .setFieldsV1(Meta.FieldsV1.newBuilder()
+                            .setRaw(ByteString.copyFromUtf8(JSON.serialize(entry.getFieldsV1()))));
+            if (entry.getSubresource() != null) {
+                managed.setSubresource(entry.getSubresource());
+            }
+            meta.addManagedFields(managed);
+        });
+
+        V1.PodSpec.Builder spec = V1.PodSpec.newBuilder()
+                .setNodeName(pod.getSpec().getNodeName())
+                .setServiceAccountName(pod.getSpec().getServiceAccountName());
+        for (V1Container container : pod.getSpec().getContainers()) {
+            spec.addContainers(container(container));
+        }
+        pod.getSpec().getVolumes().forEach(volume -> spec.addVolumes(V1.Volume.newBuilder()
+                .setName(volume.getName())
+                .setVolumeSource(V1.VolumeSource.newBuilder().setConfigMap(
+                        V1.ConfigMapVolumeSource.newBuilder()
+                                .setLocalObjectReference(V1.LocalObjectReference.newBuilder()
+                                        .setName(volume.getConfigMap().getName()))))));
+
+        V1.PodStatus.Builder status = V1.PodStatus.newBuilder()
+                .setPhase(pod.getStatus().getPhase())
+                .setHostIP(pod.getStatus().getHostIP())
+                .setPodIP(pod.getStatus().getPodIP())
+                .setQosClass(pod.getStatus().getQosClass())
+                .setStartTime(time(pod.getStatus().getStartTime()));
+        pod.getStatus().getConditions().forEach(condition -> {
+            V1.PodCondition.Builder proto = V1.PodCondition.newBuilder()
+                    .setType(condition.getType()).setStatus(condition.getStatus());
+            if (condition.getReason() != null) {
+                proto.setReason(condition.getReason());
+            }
+            status.addConditions(proto);
+        });
+        for (V1ContainerStatus containerStatus : pod.getStatus().getContainerStatuses()) {
+            status.addContainerStatuses(containerStatus(containerStatus));
+        }
+
+        return V1.Pod.newBuilder().setMetadata(meta).setSpec(spec).setStatus(status).build();
+    }
+
+    private static V1.Container container(V1Container container) {
+        V1.Container.Builder proto = V1.Container.newBuilder()
+                .setName(container.getName())
+                .setImage(container.getImage())
+                .setResources(V1.ResourceRequirements.newBuilder()
+                        .putAllRequests(quantities(container.getResources().getRequests()))
+                        .putAllLimits(quantities(container.getResources().getLimits())))
+                .setReadinessProbe(probe(container.getReadinessProbe()))
+                .setLivenessProbe(probe(container.getLivenessProbe()));
+        if (container.getPorts() != null) {
+            container.getPorts().forEach(port -> proto.addPorts(V1.ContainerPort.newBuilder()
+                    .setName(port.getName()).setContainerPort(port.getContainerPort())));
+        }
+        container.getEnv().forEach(env -> proto.addEnv(V1.EnvVar.newBuilder()
+                .setName(env.getName()).setValue(env.getValue())));
+        container.getVolumeMounts().forEach(mount -> proto.addVolumeMounts(V1.VolumeMount.newBuilder()
+                .setName(mount.getName()).setMountPath(mount.getMountPath())));
+        return proto.build();
+    }
+
+    private static V1.ContainerStatus containerStatus(V1ContainerStatus status) {
+        V1.ContainerStatus.Builder proto = V1.ContainerStatus.newBuilder()
+                .setName(status.getName())
+                .setImage(status.getImage())
+                .setImageID(status.getImageID())
+                .setReady(status.getReady())
+                .setRestartCount(status.getRestartCount())
+                .setState(containerState(status.getState()));
+        if (status.getLastState() != null) {
+            proto.setLastState(containerState(status.getLastState()));
+        }
+        return proto.build();
+    }
+
+    private static V1.ContainerState containerState(V1ContainerState state) {
+        V1.ContainerState.Builder proto = V1.ContainerState.newBuilder();
+        if (state.getRunning() != null) {
+            proto.setRunning(V1.ContainerStateRunning.newBuilder().setStartedAt(time(state.getRunning().getStartedAt())));
+        } else if (state.getWaiting() != null) {
+            proto.setWaiting(V1.ContainerStateWaiting.newBuilder()
+                    .setReason(state.getWaiting().getReason()).setMessage(state.getWaiting().getMessage()));
+        } else if (state.getTerminated() != null) {
+            V1.ContainerStateTerminated.Builder terminated = V1.ContainerStateTerminated.newBuilder()
+                    .setReason(state.getTerminated().getReason())
+                    .setExitCode(state.getTerminated().getExitCode());
+            if (state.getTerminated().getFinishedAt() != null) {
+                terminated.setFinishedAt(time(state.getTerminated().getFinishedAt()));
+            }
+            proto.setTerminated(terminated);
+        }
+        return proto.build();
+    }
+
+    private static V1.Probe probe(V1Probe probe) {
+        IntOrString port = probe.getHttpGet().getPort();
+        return V1.Probe.newBuilder()
+                .setHandler(V1.ProbeHandler.newBuilder().setHttpGet(V1.HTTPGetAction.newBuilder()
+                        .setPath(probe.getHttpGet().getPath())
+                        .setPort(IntStr.IntOrString.newBuilder().setType(0).setIntVal(port.getIntValue()))))
+                .build();
+    }
+
+    private static Map<String, Resource.Quantity> quantities(Map<String, Quantity> quantities) {
+        return quantities.entrySet().stream().collect(Collectors.toMap(
+                Map.Entry::getKey, entry -> Resource.Quantity.newBuilder().setString(entry.getValue().toSuffixedString()).build()));
+    }
+
+    private static Meta.Time time(OffsetDateTime time) {
+        return Meta.Time.newBuilder().setSeconds(time.toEpochSecond()).build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.kubediagnose.benchmark;
+
+import com.kubediagnose.rules.PodLabelIndex;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selector resolution: building a {@link PodLabelIndex}, matching one selector against it, and the
+ * linear label scan the index replaced, as a baseline. One operation is one selector (or one build).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SelectorMatchBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int pods;
+
+    @Param({"1", "2", "4"})
+    public int selectorKeys;
+
+    private List<V1Pod> namespacePods;
+    private List<Map<String, String>> selectors;
+    private PodLabelIndex index;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        namespacePods = Fixtures.pods(pods, Fixtures.Mix.HEALTHY);
+        selectors = Fixtures.services(pods, selectorKeys).stream()
+                .map(service -> service.getSpec().getSelector())
+                .toList();
+        index = PodLabelIndex.build(namespacePods);
+    }
+
+    @Benchmark
+    public PodLabelIndex buildIndex() {
+        return PodLabelIndex.build(namespacePods);
+    }
+
+    @Benchmark
+    public List<V1Pod> matchIndexed() {
+        return index.match(nextSelector()).getMatchingPods();
+    }
+
+    @Benchmark
+    public List<V1Pod> matchByScan() {
+        Map<String, String> selector = nextSelector();
+        List<V1Pod> matching = new ArrayList<>();
+        for (V1Pod pod : namespacePods) {
+            Map<String, String> labels = pod.getMetadata().getLabels();
+            if (labels != null && labels.entrySet().containsAll(selector.entrySet())) {
+                matching.add(pod);
+            }
+        }
+        return matching;
+    }
+
+    private Map<String, String> nextSelector() {
+        Map<String, String> selector = selectors.get(next);
+        next = next + 1 == selectors.size() ? 0 : next + 1;
+        return selector;
+    }
+}
@@ -0,0 +1,93 @@
+package com.kubediagnose.benchmark;
+
+import com.kubediagnose.analyzer.ServiceAnalyzer;
+import com.kubediagnose.cache.CoreDnsTracker;
+import com.kubediagnose.model.ServiceDiagnosticResult;
+import com.kubediagnose.rules.PodLabelIndex;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ServiceAnalyzer#analyze} over a synthetic namespace with one service per app.
+ * {@code analyze} is one service against a prebuilt pod label index; {@code analyzeNamespace}
+ * builds the index and analyzes every service, as a bulk request does. Run with {@code -prof gc}
+ * for bytes allocated per operation. The result cache is off by default.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceAnalyzerBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int pods;
+
+    @Param({"1", "2", "4"})
+    public int selectorKeys;
+
+    @Param({"HEALTHY", "MIXED"})
+    public Fixtures.Mix mix;
+
+    @Param({"0"})
+    public int resultCacheSize;
+
+    @Param({"false"})
+    public boolean ruleTiming;
+
+    private CoreDnsTracker coreDnsTracker;
+    private ServiceAnalyzer analyzer;
+    private List<V1Pod> namespacePods;
+    private List<V1Service> services;
+    private List<V1Endpoints> endpoints;
+    private PodLabelIndex index;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        coreDnsTracker = Fixtures.coreDnsTracker();
+        analyzer = Fixtures.serviceAnalyzer(coreDnsTracker, resultCacheSize, ruleTiming);
+        namespacePods = Fixtures.pods(pods, mix);
+        services = Fixtures.services(pods, selectorKeys);
+        endpoints = Fixtures.endpoints(namespacePods, services);
+        index = PodLabelIndex.build(namespacePods);
+    }
+
+    @TearDown
+    public void tearDown() {
+        coreDnsTracker.shutdown();
+    }
+
+    @Benchmark
+    public ServiceDiagnosticResult analyze() {
+        int i = next;
+        next = next + 1 == services.size() ? 0 : next + 1;
+        return analyzer.analyze(services.get(i), endpoints.get(i), index);
+    }
+
+    @Benchmark
+    public void analyzeNamespace(Blackhole blackhole) {
+        PodLabelIndex namespaceIndex = PodLabelIndex.build(namespacePods);
+        for (int i = 0; i < services.size(); i++) {
+            blackhole.consume(analyzer.analyze(services.get(i), endpoints.get(i), namespaceIndex));
+        }
+    }
+}
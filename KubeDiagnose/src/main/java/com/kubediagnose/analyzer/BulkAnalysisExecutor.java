@@ -0,0 +1,160 @@
+package com.kubediagnose.analyzer;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bounded-parallel analysis stage for bulk diagnostics.
+ * Items are split into contiguous chunks; each worker writes into its own slice of the
+ * output array, so results come back in input order without shared mutable state.
+ * {@link #analyzeEach} hands results to a sink one batch at a time.
+ */
+@Component
+public class BulkAnalysisExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkAnalysisExecutor.class);
+
+    // Chunks per worker, so one slow chunk does not leave other workers idle
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    // Items per worker in each streamed batch; bounds the results held while the sink catches up
+    private static final int STREAM_BATCH_PER_WORKER = 32;
+
+    private final int parallelism;
+    private final int minParallelItems;
+    private final ExecutorService executor;
+
+    public BulkAnalysisExecutor(@Value("${kubediagnose.analysis.parallelism:0}") int parallelism,
+                                @Value("${kubediagnose.analysis.min-parallel-items:64}") int minParallelItems) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.minParallelItems = minParallelItems;
+        this.executor = this.parallelism > 1
+                ? Executors.newFixedThreadPool(this.parallelism, workerThreadFactory())
+                : null;
+        logger.info("Bulk analysis parallelism: {}", this.parallelism);
+    }
+
+    /**
+     * Analyze every item, isolating failures per item.
+     *
+     * @param items Items to analyze
+     * @param analyzer Analysis function
+     * @param onError Builds the result for an item whose analysis threw
+     * @return Results in the same order as items
+     */
+    public <T, R> List<R> analyzeAll(List<T> items, Function<T, R> analyzer,
+                                     BiFunction<T, Exception, R> onError) {
+        int size = items.size();
+        Object[] results = new Object[size];
+
+        if (executor == null || size < minParallelItems) {
+            analyzeRange(items, 0, size, results, analyzer, onError);
+            return asList(results);
+        }
+
+        int chunks = Math.min(size, parallelism * CHUNKS_PER_WORKER);
+        int chunkSize = (size + chunks - 1) / chunks;
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            futures.add(executor.submit(() -> analyzeRange(items, start, end, results, analyzer, onError)));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk analysis interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("Bulk analysis failed", e.getCause());
+        }
+
+        return asList(results);
+    }
+
+    /**
+     * Analyze every item and pass each result to the sink, in input order.
+     * Items are analyzed in batches of {@link #streamBatchSize()}; each batch is written to the sink from
+     * the calling thread before the next starts. Workers only fill the batch and never wait on the sink,
+     * so a slow sink (usually a client socket) holds its own request thread, not the shared pool.
+     *
+     * @param items Items to analyze
+     * @param analyzer Analysis function
+     * @param onError Builds the result for an item whose analysis threw
+     * @param sink Receives each result; an exception from the sink stops the remaining batches
+     */
+    public <T, R> void analyzeEach(List<T> items, Function<T, R> analyzer,
+                                   BiFunction<T, Exception, R> onError, Consumer<R> sink) {
+        int size = items.size();
+        int batchSize = streamBatchSize();
+        for (int from = 0; from < size; from += batchSize) {
+            analyzeAll(items.subList(from, Math.min(size, from + batchSize)), analyzer, onError).forEach(sink);
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T, R> void analyzeRange(List<T> items, int start, int end, Object[] results,
+                                            Function<T, R> analyzer, BiFunction<T, Exception, R> onError) {
+        for (int i = start; i < end; i++) {
+            results[i] = analyzeOne(items.get(i), analyzer, onError);
+        }
+    }
+
+    /** Items per streamed batch: enough to keep every worker busy, never below the parallel threshold. */
+    private int streamBatchSize() {
+        return Math.max(minParallelItems, parallelism * STREAM_BATCH_PER_WORKER);
+    }
+
+    private static <T, R> R analyzeOne(T item, Function<T, R> analyzer, BiFunction<T, Exception, R> onError) {
+        try {
+            return analyzer.apply(item);
+        } catch (Exception e) {
+            return onError.apply(item, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> asList(Object[] results) {
+        return new ArrayList<>((List<R>) Arrays.asList(results));
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "bulk-analysis-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,14 +1,23 @@
 package com.kubediagnose.analyzer;
 
+import com.kubediagnose.cache.PodCache;
+import com.kubediagnose.metrics.DiagnosticMetrics;
+import com.kubediagnose.model.FindingCode;
 import com.kubediagnose.model.PodDiagnosticResult;
-import com.kubediagnose.rules.PodDiagnosticRules;
+import com.kubediagnose.model.ResultView;
+import com.kubediagnose.model.Severity;
+import com.kubediagnose.rules.PodRule;
+import com.kubediagnose.rules.PodRuleEngine;
+import com.kubediagnose.rules.RulePlan;
+import com.kubediagnose.rules.RulePlanner;
 import io.kubernetes.client.openapi.models.V1Pod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /** Pod diagnostics analyzer. */
 @Component
@@ -16,33 +25,94 @@ public class PodAnalyzer {
 
     private static final Logger logger = LoggerFactory.getLogger(PodAnalyzer.class);
 
-    /** Analyze a pod across all rules. */
+    private final RulePlanner rulePlanner;
+    private final ViewCache<PodDiagnosticResult> fullCache;
+    private final ViewCache<PodDiagnosticResult> tileCache;
+    private final DiagnosticMetrics metrics;
+    private final boolean ruleTiming;
+
+    public PodAnalyzer(RulePlanner rulePlanner, PodCache podCache, DiagnosticMetrics metrics,
+                       @Value("${kubediagnose.analysis.result-cache-size:20000}") int resultCacheSize,
+                       @Value("${kubediagnose.metrics.rule-timing:true}") boolean ruleTiming) {
+        this.rulePlanner = rulePlanner;
+        this.fullCache = ViewCache.create(metrics, "pod", resultCacheSize);
+        this.tileCache = ViewCache.create(metrics, "pod-tile", resultCacheSize);
+        this.metrics = metrics;
+        this.ruleTiming = ruleTiming;
+        podCache.addDeleteHandler(pod -> {
+            if (pod.getMetadata() != null && pod.getMetadata().getUid() != null) {
+                fullCache.cache().evict(pod.getMetadata().getUid());
+                tileCache.cache().evict(pod.getMetadata().getUid());
+            }
+        });
+    }
+
+    /**
+     * Analyze a pod across all rules.
+     * An unchanged pod (same UID and resourceVersion) returns its previous result.
+     */
     public PodDiagnosticResult analyze(V1Pod pod) {
+        return analyze(pod, ResultView.FULL);
+    }
+
+    /**
+     * Analyze a pod for the given view. A {@link ResultView#TILE} result has name, namespace, status,
+     * phase and restart count only; its rules record findings without building text.
+     */
+    public PodDiagnosticResult analyze(V1Pod pod, ResultView view) {
+        boolean detailed = view == ResultView.FULL;
+        ViewCache<PodDiagnosticResult> views = detailed ? fullCache : tileCache;
+        long start = System.nanoTime();
+        String uid = views.cache().isEnabled() ? ResultCache.uid(pod.getMetadata()) : null;
+        if (uid == null) {
+            PodDiagnosticResult result = evaluate(pod, detailed);
+            views.off().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        }
+        String version = pod.getMetadata().getResourceVersion();
+        PodDiagnosticResult cached = views.cache().get(uid, version);
+        if (cached != null) {
+            // Shared with other callers; the copy carries this request's diagnostic time
+            PodDiagnosticResult served = cached.restamped();
+            views.hit().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return served;
+        }
+        PodDiagnosticResult result = evaluate(pod, detailed);
+        views.cache().put(uid, version, result);
+        views.miss().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private PodDiagnosticResult evaluate(V1Pod pod, boolean detailed) {
         logger.debug("Analyzing pod: {}/{}",
                      pod.getMetadata().getNamespace(),
                      pod.getMetadata().getName());
 
         PodDiagnosticResult result = new PodDiagnosticResult();
-        List<String> causes = new ArrayList<>();
-        List<String> evidence = new ArrayList<>();
-        List<String> actions = new ArrayList<>();
 
         result.setResourceName(pod.getMetadata().getName());
         result.setNamespace(pod.getMetadata().getNamespace());
         result.setPhase(pod.getStatus() != null ? pod.getStatus().getPhase() : "Unknown");
 
-        PodDiagnosticRules.checkCrashLoopBackOff(pod, causes, evidence, actions);
-        PodDiagnosticRules.checkImagePullErrors(pod, causes, evidence, actions);
-        PodDiagnosticRules.checkOOMKilled(pod, causes, evidence, actions);
-        PodDiagnosticRules.checkProbeFailures(pod, causes, evidence, actions);
-
-        int totalRestarts = PodDiagnosticRules.checkHighRestartCount(pod, causes, evidence, actions);
-        result.setRestartCount(totalRestarts);
+        // One pass over conditions and container statuses feeds every enabled rule
+        RulePlan<PodRule> plan = rulePlanner.podPlan(pod.getMetadata().getNamespace());
+        long[] ruleNanos = ruleTiming ? new long[plan.getRules().size()] : null;
+        PodRuleEngine.Evaluation evaluation = PodRuleEngine.evaluate(pod, plan, ruleNanos, detailed);
+        if (ruleNanos != null) {
+            metrics.recordRules("pod", plan.getRules(), ruleNanos);
+        }
 
-        result.setContainerStatuses(PodDiagnosticRules.buildContainerStatuses(pod));
+        result.setRestartCount(evaluation.getTotalRestarts());
+        result.setFindings(evaluation.getFindings());
+        result.setSeverity(determineOverallStatus(pod, evaluation.getFindings()));
+        if (!detailed) {
+            return result;
+        }
 
-        String status = determineOverallStatus(pod, causes);
-        result.setStatus(status);
+        List<String> causes = evaluation.getCauses();
+        List<String> evidence = evaluation.getEvidence();
+        List<String> actions = evaluation.getActions();
+        result.setContainerStatuses(evaluation.getContainerStatuses());
 
         if (causes.isEmpty()) {
             causes.add("No issues detected");
@@ -86,46 +156,38 @@ public class PodAnalyzer {
         return summary;
     }
 
-    /** Determine overall status from phase and causes. */
-    private String determineOverallStatus(V1Pod pod, List<String> causes) {
+    /** Determine overall status from findings, falling back to phase. */
+    private Severity determineOverallStatus(V1Pod pod, List<FindingCode> findings) {
         if (pod.getStatus() == null) {
-            return "Unknown";
+            return Severity.UNKNOWN;
         }
 
-        String phase = pod.getStatus().getPhase();
-
-        for (String cause : causes) {
-            if (cause.contains("CrashLoopBackOff") ||
-                cause.contains("OOMKilled") ||
-                cause.contains("ImagePullBackOff") ||
-                cause.contains("ErrImagePull")) {
-                return "Critical";
-            }
-        }
-
-        if (!causes.isEmpty()) {
-            return "Warning";
+        // Any finding decides the status: the worst one wins
+        Severity worst = FindingCode.worst(findings);
+        if (worst != null) {
+            return worst;
         }
 
+        String phase = pod.getStatus().getPhase();
         if ("Running".equals(phase)) {
             if (pod.getStatus().getContainerStatuses() != null) {
                 boolean allReady = pod.getStatus().getContainerStatuses().stream()
                         .allMatch(cs -> cs.getReady() != null && cs.getReady());
                 if (allReady) {
-                    return "Healthy";
+                    return Severity.HEALTHY;
                 } else {
-                    return "Warning";
+                    return Severity.WARNING;
                 }
             }
-            return "Healthy";
+            return Severity.HEALTHY;
         } else if ("Pending".equals(phase)) {
-            return "Warning";
+            return Severity.WARNING;
         } else if ("Succeeded".equals(phase)) {
-            return "Completed";
+            return Severity.COMPLETED;
         } else if ("Failed".equals(phase)) {
-            return "Critical";
+            return Severity.CRITICAL;
         }
 
-        return "Unknown";
+        return Severity.UNKNOWN;
     }
 }
@@ -0,0 +1,100 @@
+package com.kubediagnose.analyzer;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memoized diagnostic results, one entry per object UID.
+ * An entry is reused only while its version key matches, so an update replaces rather than
+ * accumulates entries. Beyond {@code maxEntries} the least recently used tenth is dropped in one
+ * sweep; the order is approximate under concurrent access, and the size can briefly exceed the
+ * bound while a sweep runs. Deletions are evicted explicitly. A size of 0 disables caching.
+ */
+final class ResultCache<R> {
+
+    private static final class Entry<R> {
+        private final String version;
+        private final R result;
+        private volatile long lastAccess;
+
+        Entry(String version, R result, long lastAccess) {
+            this.version = version;
+            this.result = result;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private final int maxEntries;
+    private final int trimTo;
+    private final Map<String, Entry<R>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    ResultCache(int maxEntries) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.trimTo = this.maxEntries - this.maxEntries / 10;
+    }
+
+    boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /** Cached result for the object at this version, or null. */
+    R get(String uid, String version) {
+        Entry<R> entry = entries.get(uid);
+        if (entry == null || !entry.version.equals(version)) {
+            return null;
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        return entry.result;
+    }
+
+    void put(String uid, String version, R result) {
+        if (!isEnabled()) {
+            return;
+        }
+        entries.put(uid, new Entry<>(version, result, clock.incrementAndGet()));
+        if (entries.size() > maxEntries) {
+            trim();
+        }
+    }
+
+    void evict(String uid) {
+        entries.remove(uid);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** Drops the least recently used entries down to {@code trimTo}; one thread sweeps at a time. */
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long[] ticks = entries.values().stream().mapToLong(entry -> entry.lastAccess).sorted().toArray();
+            int excess = ticks.length - trimTo;
+            if (excess <= 0) {
+                return;
+            }
+            long cutoff = ticks[excess - 1];
+            // Conditional on the entry, so a result replaced during the sweep stays
+            entries.entrySet().removeIf(entry -> entry.getValue().lastAccess <= cutoff);
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    /** UID of the object, or null when it cannot be cached (no UID or resourceVersion). */
+    static String uid(V1ObjectMeta metadata) {
+        if (metadata == null || metadata.getUid() == null || metadata.getResourceVersion() == null) {
+            return null;
+        }
+        return metadata.getUid();
+    }
+}
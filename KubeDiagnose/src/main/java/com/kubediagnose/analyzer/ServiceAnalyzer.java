@@ -1,18 +1,30 @@
 package com.kubediagnose.analyzer;
 
+import com.kubediagnose.cache.CoreDnsTracker;
+import com.kubediagnose.cache.ServiceCache;
+import com.kubediagnose.metrics.DiagnosticMetrics;
+import com.kubediagnose.model.FindingCode;
+import com.kubediagnose.model.ResultView;
 import com.kubediagnose.model.ServiceDiagnosticResult;
+import com.kubediagnose.model.Severity;
+import com.kubediagnose.rules.PodLabelIndex;
+import com.kubediagnose.rules.RuleInput;
+import com.kubediagnose.rules.RuleOutput;
+import com.kubediagnose.rules.RulePlan;
+import com.kubediagnose.rules.RulePlanner;
 import com.kubediagnose.rules.ServiceDiagnosticRules;
+import com.kubediagnose.rules.ServiceRule;
+import com.kubediagnose.rules.ServiceRuleContext;
 import io.kubernetes.client.openapi.models.V1Endpoints;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 /** Service diagnostics analyzer. */
 @Component
@@ -20,59 +32,149 @@ public class ServiceAnalyzer {
 
     private static final Logger logger = LoggerFactory.getLogger(ServiceAnalyzer.class);
 
-    /** Analyze a service with all rules. */
-    public ServiceDiagnosticResult analyze(V1Service service, V1Endpoints endpoints,
-                                           List<V1Pod> podsInNamespace, List<V1Pod> coreDnsPods) {
+    private final RulePlanner rulePlanner;
+    private final CoreDnsTracker coreDnsTracker;
+    private final ViewCache<ServiceDiagnosticResult> fullCache;
+    private final ViewCache<ServiceDiagnosticResult> tileCache;
+    private final DiagnosticMetrics metrics;
+    private final boolean ruleTiming;
+
+    public ServiceAnalyzer(RulePlanner rulePlanner, ServiceCache serviceCache, CoreDnsTracker coreDnsTracker,
+                           DiagnosticMetrics metrics,
+                           @Value("${kubediagnose.analysis.result-cache-size:20000}") int resultCacheSize,
+                           @Value("${kubediagnose.metrics.rule-timing:true}") boolean ruleTiming) {
+        this.rulePlanner = rulePlanner;
+        this.coreDnsTracker = coreDnsTracker;
+        this.fullCache = ViewCache.create(metrics, "service", resultCacheSize);
+        this.tileCache = ViewCache.create(metrics, "service-tile", resultCacheSize);
+        this.metrics = metrics;
+        this.ruleTiming = ruleTiming;
+        serviceCache.addDeleteHandler(service -> {
+            if (service.getMetadata() != null && service.getMetadata().getUid() != null) {
+                fullCache.cache().evict(service.getMetadata().getUid());
+                tileCache.cache().evict(service.getMetadata().getUid());
+            }
+        });
+    }
+
+    /** Analyze a service with all enabled rules. */
+    public ServiceDiagnosticResult analyze(V1Service service, V1Endpoints endpoints, List<V1Pod> podsInNamespace) {
+        boolean needsPods = rulePlanner.servicePlan(service.getMetadata().getNamespace()).needs(RuleInput.PODS);
+        return analyze(service, endpoints, needsPods ? PodLabelIndex.build(podsInNamespace) : null);
+    }
+
+    /**
+     * Analyze a service against a prebuilt label index of its namespace's pods.
+     * The index may be null when no enabled rule needs pods. The previous result is returned
+     * while the service, its endpoints, the namespace's pods and CoreDNS are all unchanged.
+     * CoreDNS state comes from {@link CoreDnsTracker} without an API call.
+     */
+    public ServiceDiagnosticResult analyze(V1Service service, V1Endpoints endpoints, PodLabelIndex podIndex) {
+        return analyze(service, endpoints, podIndex, ResultView.FULL);
+    }
+
+    /**
+     * Analyze a service for the given view. A {@link ResultView#TILE} result has name, namespace, status,
+     * type and endpoint counts only; its rules record findings without building text or address lists.
+     */
+    public ServiceDiagnosticResult analyze(V1Service service, V1Endpoints endpoints, PodLabelIndex podIndex,
+                                           ResultView view) {
+        boolean detailed = view == ResultView.FULL;
+        ViewCache<ServiceDiagnosticResult> views = detailed ? fullCache : tileCache;
+        long start = System.nanoTime();
+        CoreDnsTracker.Snapshot coreDns = rulePlanner.servicePlan(service.getMetadata().getNamespace())
+                .needs(RuleInput.COREDNS) ? coreDnsTracker.snapshot() : null;
+        String uid = views.cache().isEnabled() ? ResultCache.uid(service.getMetadata()) : null;
+        if (uid == null) {
+            ServiceDiagnosticResult result = evaluate(service, endpoints, podIndex, coreDns, detailed);
+            views.off().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        }
+        String version = inputVersion(service, endpoints, podIndex, coreDns);
+        ServiceDiagnosticResult cached = views.cache().get(uid, version);
+        if (cached != null) {
+            // Shared with other callers; the copy carries this request's diagnostic time
+            ServiceDiagnosticResult served = cached.restamped();
+            views.hit().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return served;
+        }
+        ServiceDiagnosticResult result = evaluate(service, endpoints, podIndex, coreDns, detailed);
+        views.cache().put(uid, version, result);
+        views.miss().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    /** Versions of every input the service rules read. */
+    private String inputVersion(V1Service service, V1Endpoints endpoints,
+                                PodLabelIndex podIndex, CoreDnsTracker.Snapshot coreDns) {
+        String endpointsVersion = endpoints != null && endpoints.getMetadata() != null
+                ? endpoints.getMetadata().getResourceVersion() : "-";
+        String podsVersion = podIndex != null ? Long.toHexString(podIndex.getFingerprint()) : "-";
+        String coreDnsVersion = coreDns != null ? coreDns.getVersion() : "-";
+        return service.getMetadata().getResourceVersion() + ":" + endpointsVersion + ":"
+                + podsVersion + ":" + coreDnsVersion;
+    }
+
+    private ServiceDiagnosticResult evaluate(V1Service service, V1Endpoints endpoints, PodLabelIndex podIndex,
+                                             CoreDnsTracker.Snapshot coreDns, boolean detailed) {
         logger.debug("Analyzing service: {}/{}",
                      service.getMetadata().getNamespace(),
                      service.getMetadata().getName());
 
         ServiceDiagnosticResult result = new ServiceDiagnosticResult();
-        List<String> causes = new ArrayList<>();
-        List<String> evidence = new ArrayList<>();
-        List<String> actions = new ArrayList<>();
+        RulePlan<ServiceRule> plan = rulePlanner.servicePlan(service.getMetadata().getNamespace());
 
         // Set basic service information
         result.setResourceName(service.getMetadata().getName());
         result.setNamespace(service.getMetadata().getNamespace());
         result.setServiceType(service.getSpec() != null ? service.getSpec().getType() : "Unknown");
-        result.setSelector(service.getSpec() != null ? service.getSpec().getSelector() : null);
+        if (detailed) {
+            result.setSelector(service.getSpec() != null ? service.getSpec().getSelector() : null);
 
-        // Build and set port information
-        result.setPorts(ServiceDiagnosticRules.buildServicePorts(service));
-
-        // Find pods that match the service selector
-        List<V1Pod> matchingPods = findMatchingPods(service, podsInNamespace);
-
-        // Rule 1: Check for selector mismatch
-        boolean selectorMismatch = ServiceDiagnosticRules.checkSelectorMismatch(
-                service, podsInNamespace, causes, evidence, actions);
+            // Build and set port information
+            result.setPorts(ServiceDiagnosticRules.buildServicePorts(service));
+        }
 
-        // Rule 2: Check for no endpoints
-        ServiceDiagnosticResult.EndpointInfo endpointInfo =
-                ServiceDiagnosticRules.checkNoEndpoints(endpoints, causes, evidence, actions);
+        // Resolve the selector once; both the selector and port rules use this match
+        PodLabelIndex.SelectorMatch match = podIndex != null && plan.needs(RuleInput.PODS)
+                ? podIndex.match(service.getSpec() != null ? service.getSpec().getSelector() : null)
+                : null;
+
+        ServiceRuleContext context = new ServiceRuleContext(service, endpoints, match, coreDns);
+        RuleOutput out = detailed ? new RuleOutput() : RuleOutput.findingsOnly();
+        for (ServiceRule rule : plan.getRules()) {
+            long ruleStart = ruleTiming ? System.nanoTime() : 0;
+            rule.evaluate(context, out);
+            if (ruleTiming) {
+                metrics.recordRule("service", rule.id(), ruleStart);
+            }
+        }
+        ServiceDiagnosticResult.EndpointInfo endpointInfo = context.getEndpointInfo();
         result.setEndpointInfo(endpointInfo);
-
-        // Rule 3: Check for port mismatch (only if we have matching pods)
-        if (!matchingPods.isEmpty()) {
-            ServiceDiagnosticRules.checkPortMismatch(service, matchingPods, causes, evidence, actions);
+        result.setCoreDnsExists(context.isCoreDnsExists());
+
+        // Status is the worst finding; no findings means healthy
+        Severity worst = FindingCode.worst(out.findings());
+        result.setFindings(out.findings());
+        result.setSeverity(worst != null ? worst : Severity.HEALTHY);
+        if (!detailed) {
+            return result;
         }
 
-        // Rule 4: Check CoreDNS status
-        boolean coreDnsExists = ServiceDiagnosticRules.checkCoreDnsExists(
-                coreDnsPods, causes, evidence, actions);
-        result.setCoreDnsExists(coreDnsExists);
-
-        // Determine overall status based on findings
-        String status = determineOverallStatus(selectorMismatch, endpointInfo, coreDnsExists, causes);
-        result.setStatus(status);
+        List<String> causes = out.causes();
+        List<String> evidence = out.evidence();
+        List<String> actions = out.actions();
 
         // If no issues found, add positive evidence
         if (causes.isEmpty()) {
             causes.add("No issues detected");
             evidence.add("Service type: " + result.getServiceType());
-            evidence.add("Ready endpoints: " + endpointInfo.getReadyEndpoints());
-            evidence.add("CoreDNS is operational");
+            if (endpointInfo != null) {
+                evidence.add("Ready endpoints: " + endpointInfo.getReadyEndpoints());
+            }
+            if (coreDns != null && coreDns.isKnown()) {
+                evidence.add("CoreDNS is operational");
+            }
             actions.add("No action required - service appears to be configured correctly");
         }
 
@@ -103,7 +205,9 @@ public class ServiceAnalyzer {
 
         // Build summary message
         String message;
-        if (noIssues) {
+        if (noIssues && endpointInfo == null) {
+            message = String.format("Service '%s' is healthy.", result.getResourceName());
+        } else if (noIssues) {
             message = String.format("Service '%s' is healthy with %d ready endpoint(s).",
                                     result.getResourceName(), endpointInfo.getReadyEndpoints());
         } else {
@@ -115,61 +219,4 @@ public class ServiceAnalyzer {
 
         return summary;
     }
-
-    /** Match pods to service selectors. */
-    private List<V1Pod> findMatchingPods(V1Service service, List<V1Pod> pods) {
-        if (service.getSpec() == null || service.getSpec().getSelector() == null) {
-            return new ArrayList<>();
-        }
-
-        Map<String, String> selector = service.getSpec().getSelector();
-
-        return pods.stream()
-                .filter(pod -> {
-                    if (pod.getMetadata() == null || pod.getMetadata().getLabels() == null) {
-                        return false;
-                    }
-                    Map<String, String> podLabels = pod.getMetadata().getLabels();
-                    return selector.entrySet().stream()
-                            .allMatch(entry -> entry.getValue().equals(podLabels.get(entry.getKey())));
-                })
-                .collect(Collectors.toList());
-    }
-
-    /** Determine status from selectors/endpoints. */
-    private String determineOverallStatus(boolean selectorMismatch,
-                                          ServiceDiagnosticResult.EndpointInfo endpointInfo,
-                                          boolean coreDnsExists, List<String> causes) {
-        // Critical conditions
-        if (selectorMismatch) {
-            return "Critical";
-        }
-
-        if (!coreDnsExists) {
-            return "Critical";
-        }
-
-        if (endpointInfo.getReadyEndpoints() == 0 && endpointInfo.getNotReadyEndpoints() == 0) {
-            return "Critical";
-        }
-
-        // Warning conditions
-        if (endpointInfo.getReadyEndpoints() == 0 && endpointInfo.getNotReadyEndpoints() > 0) {
-            return "Warning";
-        }
-
-        // Check for any other issues
-        for (String cause : causes) {
-            if (cause.contains("mismatch") || cause.contains("not match")) {
-                return "Warning";
-            }
-        }
-
-        // If no issues found
-        if (causes.isEmpty()) {
-            return "Healthy";
-        }
-
-        return "Warning";
-    }
 }
@@ -0,0 +1,25 @@
+package com.kubediagnose.analyzer;
+
+import com.kubediagnose.metrics.DiagnosticMetrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Result cache for one result view of an analyzer, with the {@code kubediagnose.analysis} timers
+ * for its hits, misses and uncached calls. Full and tile results are memoized separately so
+ * neither evicts the other.
+ */
+record ViewCache<R>(ResultCache<R> cache, Timer hit, Timer miss, Timer off) {
+
+    /**
+     * @param resource Metrics tag, e.g. {@code pod} or {@code pod-tile}
+     * @param maxEntries Cache size; 0 disables caching
+     */
+    static <R> ViewCache<R> create(DiagnosticMetrics metrics, String resource, int maxEntries) {
+        ResultCache<R> cache = new ResultCache<>(maxEntries);
+        metrics.resultCacheSize(resource, cache, ResultCache::size);
+        return new ViewCache<>(cache,
+                metrics.analysis(resource, "hit"),
+                metrics.analysis(resource, "miss"),
+                metrics.analysis(resource, "off"));
+    }
+}
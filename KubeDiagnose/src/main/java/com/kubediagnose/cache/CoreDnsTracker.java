@@ -0,0 +1,281 @@
+package com.kubediagnose.cache;
+
+import com.kubediagnose.client.CoreReader;
+import com.kubediagnose.model.CoreDnsStatus;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CoreDNS replica health, kept current in the background so service analysis reads it without an API call.
+ * Fed by the pod informer when informers are enabled, with polling as a fallback while the informer has not
+ * synced after {@code kubediagnose.coredns.sync-timeout-seconds}; otherwise kube-system is listed every
+ * {@code kubediagnose.coredns.refresh-seconds}. With {@code kubediagnose.coredns.source=observed} only pods
+ * passed to {@link #observe} count (offline snapshots). {@link #snapshot()} never blocks.
+ */
+@Component
+public class CoreDnsTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoreDnsTracker.class);
+
+    private static final String KUBE_SYSTEM_NAMESPACE = "kube-system";
+    private static final String COREDNS_LABEL_KEY = "k8s-app";
+    private static final String COREDNS_LABEL_VALUE = "kube-dns";
+    private static final String COREDNS_LABEL_SELECTOR = COREDNS_LABEL_KEY + "=" + COREDNS_LABEL_VALUE;
+
+    private final PodCache podCache;
+    private final CoreReader coreReader;
+    private final ScheduledExecutorService refresher;
+    private final long refreshSeconds;
+    private volatile String source;
+    private volatile ScheduledFuture<?> polling;
+    private volatile Snapshot snapshot = Snapshot.UNKNOWN;
+
+    public CoreDnsTracker(PodCache podCache, CoreReader coreReader,
+                          @Value("${kubediagnose.coredns.source:auto}") String source,
+                          @Value("${kubediagnose.coredns.refresh-seconds:30}") long refreshSeconds,
+                          @Value("${kubediagnose.coredns.sync-timeout-seconds:60}") long syncTimeoutSeconds) {
+        this.podCache = podCache;
+        this.coreReader = coreReader;
+        this.refreshSeconds = Math.max(1, refreshSeconds);
+        if (!"auto".equals(source) && !"observed".equals(source)) {
+            throw new IllegalArgumentException("kubediagnose.coredns.source must be auto or observed: " + source);
+        }
+
+        if ("observed".equals(source)) {
+            this.refresher = null;
+            this.source = "observed";
+        } else if (podCache.isEnabled()) {
+            this.source = "watch";
+            podCache.addEventHandler(new ResourceEventHandler<V1Pod>() {
+                @Override
+                public void onAdd(V1Pod pod) {
+                    onPodEvent(pod);
+                }
+
+                @Override
+                public void onUpdate(V1Pod oldPod, V1Pod newPod) {
+                    onPodEvent(newPod);
+                }
+
+                @Override
+                public void onDelete(V1Pod pod, boolean deletedFinalStateUnknown) {
+                    onPodEvent(pod);
+                }
+            });
+            this.refresher = newRefresher();
+            refresher.schedule(this::pollUnlessSynced, Math.max(1, syncTimeoutSeconds), TimeUnit.SECONDS);
+        } else {
+            this.source = "poll";
+            this.refresher = newRefresher();
+            refresher.scheduleWithFixedDelay(this::refresh, 0, this.refreshSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /** Current CoreDNS state; {@link Snapshot#isKnown()} is false until the first list has been seen. */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        // No CoreDNS pod events arrive when there are none; settle the state once the cache has synced
+        if (!current.isKnown() && !"observed".equals(source) && podCache.isReady()) {
+            return update(podCache.list(KUBE_SYSTEM_NAMESPACE));
+        }
+        return current;
+    }
+
+    /** Replica counts and time since the last change. */
+    public CoreDnsStatus status() {
+        Snapshot current = snapshot();
+        CoreDnsStatus status = new CoreDnsStatus();
+        status.setSource(source);
+        status.setKnown(current.isKnown());
+        if (!current.isKnown()) {
+            return status;
+        }
+        status.setReplicas(current.getReplicas());
+        status.setRunningReplicas(current.getRunning());
+        status.setReadyReplicas(current.getReady());
+        status.setNotReadyReplicas(current.getNotReady());
+        status.setLastChangeTime(current.getLastChange().toString());
+        status.setSecondsSinceChange((System.currentTimeMillis() - current.getLastChange().toEpochMilli()) / 1000);
+        return status;
+    }
+
+    /**
+     * Recounts CoreDNS from pods the caller already has, such as an offline snapshot's kube-system pods.
+     * Pods other than CoreDNS replicas are ignored.
+     */
+    public Snapshot observe(List<V1Pod> pods) {
+        return update(pods);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    private void onPodEvent(V1Pod pod) {
+        if (isCoreDns(pod)) {
+            update(podCache.list(KUBE_SYSTEM_NAMESPACE));
+        }
+    }
+
+    /**
+     * Falls back to polling while the pod informer has not synced, so CoreDNS health is not unknown for as
+     * long as the watch is failing; the informer takes over again once it syncs.
+     */
+    private void pollUnlessSynced() {
+        if (podCache.isReady()) {
+            return;
+        }
+        logger.warn("Pod cache not synced; polling CoreDNS pods every {}s until it is", refreshSeconds);
+        source = "poll";
+        polling = refresher.scheduleWithFixedDelay(this::refreshUntilSynced, 0, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    private void refreshUntilSynced() {
+        if (!podCache.isReady()) {
+            refresh();
+            return;
+        }
+        update(podCache.list(KUBE_SYSTEM_NAMESPACE));
+        source = "watch";
+        polling.cancel(false);
+        logger.info("Pod cache synced; CoreDNS state follows the pod watch again");
+    }
+
+    private ScheduledExecutorService newRefresher() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coredns-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void refresh() {
+        try {
+            List<V1Pod> pods = coreReader.listPods(KUBE_SYSTEM_NAMESPACE, COREDNS_LABEL_SELECTOR).getItems();
+            update(pods != null ? pods : List.of());
+        } catch (ApiException e) {
+            // Keep the last known state; a failed list says nothing about CoreDNS itself
+            logger.warn("Could not refresh CoreDNS pods: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("CoreDNS refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /** Recounts replicas; the last-change time only moves when a count differs. */
+    private synchronized Snapshot update(List<V1Pod> pods) {
+        int replicas = 0;
+        int running = 0;
+        int ready = 0;
+        for (V1Pod pod : pods) {
+            if (!isCoreDns(pod)) {
+                continue;
+            }
+            replicas++;
+            if (pod.getStatus() != null && "Running".equals(pod.getStatus().getPhase())) {
+                running++;
+            }
+            if (isReady(pod)) {
+                ready++;
+            }
+        }
+
+        Snapshot previous = snapshot;
+        if (previous.isKnown() && previous.getReplicas() == replicas
+                && previous.getRunning() == running && previous.getReady() == ready) {
+            return previous;
+        }
+        Snapshot next = new Snapshot(true, replicas, running, ready, Instant.now());
+        snapshot = next;
+        logger.debug("CoreDNS replicas: {} ({} running, {} ready)", replicas, running, ready);
+        return next;
+    }
+
+    private static boolean isCoreDns(V1Pod pod) {
+        return pod.getMetadata() != null
+                && KUBE_SYSTEM_NAMESPACE.equals(pod.getMetadata().getNamespace())
+                && pod.getMetadata().getLabels() != null
+                && COREDNS_LABEL_VALUE.equals(pod.getMetadata().getLabels().get(COREDNS_LABEL_KEY));
+    }
+
+    private static boolean isReady(V1Pod pod) {
+        if (pod.getStatus() == null || pod.getStatus().getConditions() == null) {
+            return false;
+        }
+        for (V1PodCondition condition : pod.getStatus().getConditions()) {
+            if ("Ready".equals(condition.getType())) {
+                return "True".equals(condition.getStatus());
+            }
+        }
+        return false;
+    }
+
+    /** Immutable CoreDNS replica counts. */
+    public static final class Snapshot {
+
+        static final Snapshot UNKNOWN = new Snapshot(false, 0, 0, 0, null);
+
+        private final boolean known;
+        private final int replicas;
+        private final int running;
+        private final int ready;
+        private final Instant lastChange;
+
+        private Snapshot(boolean known, int replicas, int running, int ready, Instant lastChange) {
+            this.known = known;
+            this.replicas = replicas;
+            this.running = running;
+            this.ready = ready;
+            this.lastChange = lastChange;
+        }
+
+        /** False until CoreDNS pods have been listed once. */
+        public boolean isKnown() {
+            return known;
+        }
+
+        public int getReplicas() {
+            return replicas;
+        }
+
+        /** Replicas in phase Running. */
+        public int getRunning() {
+            return running;
+        }
+
+        /** Replicas with condition Ready=True. */
+        public int getReady() {
+            return ready;
+        }
+
+        public int getNotReady() {
+            return replicas - ready;
+        }
+
+        /** When the counts last changed; null while unknown. */
+        public Instant getLastChange() {
+            return lastChange;
+        }
+
+        /** Changes exactly when the counts change; used in result cache keys and ETags. */
+        public String getVersion() {
+            return known ? replicas + "/" + running + "/" + ready : "?";
+        }
+    }
+}
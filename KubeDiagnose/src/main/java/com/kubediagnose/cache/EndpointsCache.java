@@ -0,0 +1,31 @@
+package com.kubediagnose.cache;
+
+import com.kubediagnose.config.InformerProperties;
+import io.kubernetes.client.informer.ListerWatcher;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1EndpointsList;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/** Cluster-wide endpoints cache. */
+@Component
+public class EndpointsCache extends InformerCache<V1Endpoints> {
+
+    public EndpointsCache(SharedInformerFactory informerFactory,
+                          @Qualifier("informerCoreV1Api") CoreV1Api informerCoreV1Api,
+                          InformerProperties properties) {
+        super("endpoints", V1Endpoints.class, listerWatcher(informerCoreV1Api), informerFactory, properties);
+    }
+
+    private static ListerWatcher<V1Endpoints, V1EndpointsList> listerWatcher(CoreV1Api api) {
+        return listerWatcher(api.getApiClient(), V1Endpoints.class, V1EndpointsList.class,
+                (params, watch) -> api.listEndpointsForAllNamespaces()
+                        .resourceVersion(params.resourceVersion)
+                        .timeoutSeconds(params.timeoutSeconds)
+                        .allowWatchBookmarks(watch)
+                        .watch(watch)
+                        .buildCall(null));
+    }
+}
@@ -0,0 +1,201 @@
+package com.kubediagnose.cache;
+
+import com.google.gson.reflect.TypeToken;
+import com.kubediagnose.config.InformerProperties;
+import com.kubediagnose.model.CacheStatus;
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ListerWatcher;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.informer.cache.Lister;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import okhttp3.Call;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Local store for one resource type, filled by LIST+WATCH through a shared informer.
+ * The reflector resumes watches from the last seen resourceVersion (bookmarks included),
+ * so reads are served from memory without a round trip to the API server.
+ */
+public abstract class InformerCache<T extends KubernetesObject> {
+
+    private final String resourceType;
+    private final boolean enabled;
+    private final SharedIndexInformer<T> informer;
+    private final Lister<T> lister;
+    private final AtomicLong lastEventMillis = new AtomicLong();
+    private final LongAdder reads = new LongAdder();
+
+    protected <L extends KubernetesListObject> InformerCache(String resourceType, Class<T> apiTypeClass,
+                                                             ListerWatcher<T, L> listerWatcher,
+                                                             SharedInformerFactory informerFactory,
+                                                             InformerProperties properties) {
+        this.resourceType = resourceType;
+        this.enabled = properties.isEnabled();
+
+        if (enabled) {
+            this.informer = informerFactory.sharedIndexInformerFor(
+                    listerWatcher, apiTypeClass, properties.getResyncPeriodMillis());
+            this.lister = new Lister<>(informer.getIndexer());
+            informer.addEventHandler(new ResourceEventHandler<T>() {
+                @Override
+                public void onAdd(T obj) {
+                    touch();
+                }
+
+                @Override
+                public void onUpdate(T oldObj, T newObj) {
+                    touch();
+                }
+
+                @Override
+                public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+                    touch();
+                }
+            });
+        } else {
+            this.informer = null;
+            this.lister = null;
+        }
+    }
+
+    /**
+     * LIST/WATCH call for one resource type, built from the informer's parameters.
+     * With {@code watch} set the call must request a watch with bookmarks.
+     */
+    @FunctionalInterface
+    protected interface ListCall {
+        Call build(CallGeneratorParams params, boolean watch) throws ApiException;
+    }
+
+    /** Lister-watcher running {@code listCall} as the LIST and, with bookmarks, as the WATCH. */
+    protected static <T extends KubernetesObject, L extends KubernetesListObject> ListerWatcher<T, L> listerWatcher(
+            ApiClient apiClient, Class<T> apiTypeClass, Class<L> listTypeClass, ListCall listCall) {
+        return new ListerWatcher<>() {
+            @Override
+            public L list(CallGeneratorParams params) throws ApiException {
+                return apiClient.<L>execute(listCall.build(params, false), listTypeClass).getData();
+            }
+
+            @Override
+            public Watchable<T> watch(CallGeneratorParams params) throws ApiException {
+                return Watch.createWatch(apiClient, listCall.build(params, true),
+                        TypeToken.getParameterized(Watch.Response.class, apiTypeClass).getType());
+            }
+        };
+    }
+
+    /** True once the initial LIST has been loaded. */
+    public boolean isReady() {
+        return enabled && informer.hasSynced();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Cached object, or null if not present. */
+    public T get(String namespace, String name) {
+        reads.increment();
+        return lister.namespace(namespace).get(name);
+    }
+
+    /** All cached objects in a namespace. */
+    public List<T> list(String namespace) {
+        reads.increment();
+        return lister.namespace(namespace).list();
+    }
+
+    /** Fingerprint of the cached objects in a namespace ({@link ResourceFingerprint}). */
+    public long fingerprint(String namespace) {
+        return ResourceFingerprint.of(list(namespace));
+    }
+
+    /** All cached objects across namespaces. */
+    public List<T> listAll() {
+        reads.increment();
+        return lister.list();
+    }
+
+    /**
+     * Registers a handler for watch events on this cache. No-op when informers are disabled.
+     * Handlers run on the informer's processor thread and should hand off any slow work.
+     */
+    public void addEventHandler(ResourceEventHandler<T> handler) {
+        if (enabled) {
+            informer.addEventHandler(handler);
+        }
+    }
+
+    /** Registers a handler for deletions only. No-op when informers are disabled. */
+    public void addDeleteHandler(Consumer<T> handler) {
+        addEventHandler(new ResourceEventHandler<T>() {
+            @Override
+            public void onAdd(T obj) {
+            }
+
+            @Override
+            public void onUpdate(T oldObj, T newObj) {
+            }
+
+            @Override
+            public void onDelete(T obj, boolean deletedFinalStateUnknown) {
+                handler.accept(obj);
+            }
+        });
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    /** Reads served from this cache since startup (get, list and listAll calls). */
+    public long getReads() {
+        return reads.sum();
+    }
+
+    /** Objects currently cached; 0 when disabled. */
+    public int size() {
+        return enabled ? informer.getIndexer().listKeys().size() : 0;
+    }
+
+    /** Sync state and staleness for this cache. */
+    public CacheStatus status() {
+        CacheStatus status = new CacheStatus();
+        status.setResourceType(resourceType);
+        status.setEnabled(enabled);
+        if (!enabled) {
+            return status;
+        }
+
+        status.setSynced(informer.hasSynced());
+        status.setSize(size());
+        status.setLastSyncResourceVersion(informer.lastSyncResourceVersion());
+
+        long last = lastEventMillis.get();
+        if (last > 0) {
+            status.setLastEventTime(Instant.ofEpochMilli(last).toString());
+            status.setStalenessSeconds((System.currentTimeMillis() - last) / 1000);
+        }
+        return status;
+    }
+
+    protected SharedIndexInformer<T> informer() {
+        return informer;
+    }
+
+    private void touch() {
+        lastEventMillis.set(System.currentTimeMillis());
+    }
+}
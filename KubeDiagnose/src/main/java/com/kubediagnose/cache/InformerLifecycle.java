@@ -0,0 +1,34 @@
+package com.kubediagnose.cache;
+
+import com.kubediagnose.config.InformerProperties;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/** Starts registered informers once every cache bean has registered. */
+@Component
+public class InformerLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(InformerLifecycle.class);
+
+    private final SharedInformerFactory informerFactory;
+    private final InformerProperties properties;
+
+    public InformerLifecycle(SharedInformerFactory informerFactory, InformerProperties properties) {
+        this.informerFactory = informerFactory;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInformers() {
+        if (!properties.isEnabled()) {
+            logger.info("Informer caches disabled, reads go directly to the API server");
+            return;
+        }
+        logger.info("Starting informer caches");
+        informerFactory.startAllRegisteredInformers();
+    }
+}
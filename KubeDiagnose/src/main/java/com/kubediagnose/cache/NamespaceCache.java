@@ -0,0 +1,104 @@
+package com.kubediagnose.cache;
+
+import com.kubediagnose.config.InformerProperties;
+import io.kubernetes.client.informer.ListerWatcher;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1NamespaceList;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Namespace cache with a catalog of names kept sorted by watch events,
+ * so listing and prefix search never sort or call the API server.
+ */
+@Component
+public class NamespaceCache extends InformerCache<V1Namespace> {
+
+    private final NavigableSet<String> names = new ConcurrentSkipListSet<>();
+    private volatile boolean seeded;
+
+    public NamespaceCache(SharedInformerFactory informerFactory,
+                          @Qualifier("informerCoreV1Api") CoreV1Api informerCoreV1Api,
+                          InformerProperties properties) {
+        super("namespaces", V1Namespace.class, listerWatcher(informerCoreV1Api), informerFactory, properties);
+        addEventHandler(new ResourceEventHandler<V1Namespace>() {
+            @Override
+            public void onAdd(V1Namespace namespace) {
+                track(namespace, true);
+            }
+
+            @Override
+            public void onUpdate(V1Namespace oldNamespace, V1Namespace newNamespace) {
+                // Names are immutable; a relist after a missed delete arrives as onDelete
+            }
+
+            @Override
+            public void onDelete(V1Namespace namespace, boolean deletedFinalStateUnknown) {
+                track(namespace, false);
+            }
+        });
+    }
+
+    /**
+     * Namespace names in natural order, optionally only those starting with {@code prefix}.
+     * Call once {@link #isReady()}; the first call fills the catalog from the synced store, since the
+     * informer reports synced before its handlers have seen every initial add.
+     */
+    public List<String> names(String prefix) {
+        if (!seeded) {
+            seed();
+        }
+        if (prefix == null || prefix.isEmpty()) {
+            return List.copyOf(names);
+        }
+        return List.copyOf(names.subSet(prefix, true, prefix + Character.MAX_VALUE, true));
+    }
+
+    /** Applies one watch event; shares the lock with {@link #seed} so a delete cannot land mid-seed. */
+    private synchronized void track(V1Namespace namespace, boolean present) {
+        String name = name(namespace);
+        if (name == null) {
+            return;
+        }
+        if (present) {
+            names.add(name);
+        } else {
+            names.remove(name);
+        }
+    }
+
+    private synchronized void seed() {
+        if (seeded) {
+            return;
+        }
+        // The store already reflects every event the handler has yet to see; replaying them is harmless
+        for (V1Namespace namespace : listAll()) {
+            String name = name(namespace);
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        seeded = true;
+    }
+
+    private static String name(V1Namespace namespace) {
+        return namespace.getMetadata() != null ? namespace.getMetadata().getName() : null;
+    }
+
+    private static ListerWatcher<V1Namespace, V1NamespaceList> listerWatcher(CoreV1Api api) {
+        return listerWatcher(api.getApiClient(), V1Namespace.class, V1NamespaceList.class,
+                (params, watch) -> api.listNamespace()
+                        .resourceVersion(params.resourceVersion)
+                        .timeoutSeconds(params.timeoutSeconds)
+                        .allowWatchBookmarks(watch)
+                        .watch(watch)
+                        .buildCall(null));
+    }
+}
@@ -0,0 +1,92 @@
+package com.kubediagnose.cache;
+
+import com.kubediagnose.config.InformerProperties;
+import io.kubernetes.client.informer.ListerWatcher;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/** Cluster-wide pod cache; holds compact pods ({@link PodProjection}) unless disabled. */
+@Component
+public class PodCache extends InformerCache<V1Pod> {
+
+    public PodCache(SharedInformerFactory informerFactory,
+                    @Qualifier("informerCoreV1Api") CoreV1Api informerCoreV1Api,
+                    InformerProperties properties) {
+        super("pods", V1Pod.class, listerWatcher(informerCoreV1Api, properties.isCompactPods()),
+              informerFactory, properties);
+    }
+
+    /** Pods are projected with {@link PodProjection} as they arrive when {@code compact} is set. */
+    private static ListerWatcher<V1Pod, V1PodList> listerWatcher(CoreV1Api api, boolean compact) {
+        ListerWatcher<V1Pod, V1PodList> source = listerWatcher(api.getApiClient(), V1Pod.class, V1PodList.class,
+                (params, watch) -> api.listPodForAllNamespaces()
+                        .resourceVersion(params.resourceVersion)
+                        .timeoutSeconds(params.timeoutSeconds)
+                        .allowWatchBookmarks(watch)
+                        .watch(watch)
+                        .buildCall(null));
+        if (!compact) {
+            return source;
+        }
+        return new ListerWatcher<>() {
+            @Override
+            public V1PodList list(CallGeneratorParams params) throws ApiException {
+                V1PodList list = source.list(params);
+                if (list.getItems() != null) {
+                    list.setItems(new ArrayList<>(list.getItems().stream().map(PodProjection::compact).toList()));
+                }
+                return list;
+            }
+
+            @Override
+            public Watchable<V1Pod> watch(CallGeneratorParams params) throws ApiException {
+                return compacting(source.watch(params));
+            }
+        };
+    }
+
+    private static Watchable<V1Pod> compacting(Watchable<V1Pod> watch) {
+        return new Watchable<>() {
+            @Override
+            public boolean hasNext() {
+                return watch.hasNext();
+            }
+
+            @Override
+            public Watch.Response<V1Pod> next() {
+                Watch.Response<V1Pod> response = watch.next();
+                if (response.object != null) {
+                    response.object = PodProjection.compact(response.object);
+                }
+                return response;
+            }
+
+            @Override
+            public Iterator<Watch.Response<V1Pod>> iterator() {
+                return this;
+            }
+
+            @Override
+            public void remove() {
+                watch.remove();
+            }
+
+            @Override
+            public void close() throws IOException {
+                watch.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.kubediagnose.cache;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compact copy of a pod holding only what the pod and service rules read: identity, labels,
+ * phase, conditions, container statuses, and container names, images and ports. managedFields,
+ * annotations, env, volumes, probes and the rest of the spec are dropped. Label keys and values
+ * are interned, since they repeat across every replica. Still a {@link V1Pod}, so analyzers,
+ * listers and fingerprints work unchanged.
+ */
+public final class PodProjection {
+
+    private PodProjection() {
+    }
+
+    public static V1Pod compact(V1Pod pod) {
+        V1Pod compact = new V1Pod().apiVersion(pod.getApiVersion()).kind(pod.getKind());
+
+        V1ObjectMeta metadata = pod.getMetadata();
+        if (metadata != null) {
+            compact.metadata(new V1ObjectMeta()
+                    .name(metadata.getName())
+                    .namespace(intern(metadata.getNamespace()))
+                    .uid(metadata.getUid())
+                    .resourceVersion(metadata.getResourceVersion())
+                    .creationTimestamp(metadata.getCreationTimestamp())
+                    .deletionTimestamp(metadata.getDeletionTimestamp())
+                    .labels(internLabels(metadata.getLabels())));
+        }
+
+        V1PodSpec spec = pod.getSpec();
+        if (spec != null) {
+            compact.spec(new V1PodSpec()
+                    .nodeName(intern(spec.getNodeName()))
+                    .containers(copy(spec.getContainers(), PodProjection::container)));
+        }
+
+        V1PodStatus status = pod.getStatus();
+        if (status != null) {
+            compact.status(new V1PodStatus()
+                    .phase(intern(status.getPhase()))
+                    .reason(status.getReason())
+                    .message(status.getMessage())
+                    .conditions(copy(status.getConditions(), PodProjection::condition))
+                    .initContainerStatuses(copy(status.getInitContainerStatuses(), PodProjection::containerStatus))
+                    .containerStatuses(copy(status.getContainerStatuses(), PodProjection::containerStatus)));
+        }
+        return compact;
+    }
+
+    private static V1Container container(V1Container container) {
+        return new V1Container()
+                .name(intern(container.getName()))
+                .image(intern(container.getImage()))
+                .ports(copy(container.getPorts(), port -> new V1ContainerPort()
+                        .name(intern(port.getName()))
+                        .containerPort(port.getContainerPort())
+                        .protocol(intern(port.getProtocol()))));
+    }
+
+    private static V1PodCondition condition(V1PodCondition condition) {
+        return new V1PodCondition()
+                .type(intern(condition.getType()))
+                .status(intern(condition.getStatus()))
+                .reason(intern(condition.getReason()))
+                .message(condition.getMessage());
+    }
+
+    // State objects are small and read whole by the rules; they are shared, not copied
+    private static V1ContainerStatus containerStatus(V1ContainerStatus status) {
+        return new V1ContainerStatus()
+                .name(intern(status.getName()))
+                .image(intern(status.getImage()))
+                .ready(status.getReady())
+                .restartCount(status.getRestartCount())
+                .state(status.getState())
+                .lastState(status.getLastState());
+    }
+
+    private static Map<String, String> internLabels(Map<String, String> labels) {
+        if (labels == null) {
+            return null;
+        }
+        Map<String, String> interned = new HashMap<>((int) (labels.size() / 0.75f) + 1);
+        labels.forEach((key, value) -> interned.put(intern(key), intern(value)));
+        return interned;
+    }
+
+    private static <T> List<T> copy(List<T> items, Function<T, T> projection) {
+        if (items == null) {
+            return null;
+        }
+        List<T> copy = new ArrayList<>(items.size());
+        for (T item : items) {
+            copy.add(projection.apply(item));
+        }
+        return copy;
+    }
+
+    private static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+}
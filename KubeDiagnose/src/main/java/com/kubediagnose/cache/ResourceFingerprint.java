@@ -0,0 +1,37 @@
+package com.kubediagnose.cache;
+
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+
+import java.util.Collection;
+
+/**
+ * Order-independent fingerprint of a set of objects (UID and resourceVersion of each).
+ * Changes whenever an object is added, removed or modified; equal fingerprints mean the
+ * same objects at the same versions.
+ */
+public final class ResourceFingerprint {
+
+    private ResourceFingerprint() {
+    }
+
+    public static long of(Collection<? extends KubernetesObject> objects) {
+        long sum = objects.size();
+        for (KubernetesObject object : objects) {
+            V1ObjectMeta metadata = object.getMetadata();
+            if (metadata != null) {
+                long uid = String.valueOf(metadata.getUid()).hashCode();
+                long version = String.valueOf(metadata.getResourceVersion()).hashCode();
+                sum += mix((uid << 32) ^ (version & 0xffffffffL));
+            }
+        }
+        return sum;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
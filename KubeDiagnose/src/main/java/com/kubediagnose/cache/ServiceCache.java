@@ -0,0 +1,31 @@
+package com.kubediagnose.cache;
+
+import com.kubediagnose.config.InformerProperties;
+import io.kubernetes.client.informer.ListerWatcher;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/** Cluster-wide service cache. */
+@Component
+public class ServiceCache extends InformerCache<V1Service> {
+
+    public ServiceCache(SharedInformerFactory informerFactory,
+                        @Qualifier("informerCoreV1Api") CoreV1Api informerCoreV1Api,
+                        InformerProperties properties) {
+        super("services", V1Service.class, listerWatcher(informerCoreV1Api), informerFactory, properties);
+    }
+
+    private static ListerWatcher<V1Service, V1ServiceList> listerWatcher(CoreV1Api api) {
+        return listerWatcher(api.getApiClient(), V1Service.class, V1ServiceList.class,
+                (params, watch) -> api.listServiceForAllNamespaces()
+                        .resourceVersion(params.resourceVersion)
+                        .timeoutSeconds(params.timeoutSeconds)
+                        .allowWatchBookmarks(watch)
+                        .watch(watch)
+                        .buildCall(null));
+    }
+}
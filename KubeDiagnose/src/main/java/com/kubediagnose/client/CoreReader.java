@@ -0,0 +1,183 @@
+package com.kubediagnose.client;
+
+import com.google.protobuf.Message;
+import io.kubernetes.client.ProtoClient;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1EndpointsList;
+import io.kubernetes.client.openapi.models.V1NamespaceList;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.V1;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * Direct reads of core resources (pods, services, endpoints, namespaces) from the API server.
+ * Uses JSON through {@link CoreV1Api} by default; with {@code kubernetes.protobuf.enabled=true}
+ * requests {@code application/vnd.kubernetes.protobuf} and converts the result with
+ * {@link ProtoConverters}, so callers get the same model objects either way.
+ * A null namespace means all namespaces. Informer LIST+WATCH is not affected.
+ */
+@Component
+public class CoreReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoreReader.class);
+
+    private final CoreV1Api coreV1Api;
+    private final ProtoClient protoClient;
+
+    public CoreReader(CoreV1Api coreV1Api, ApiClient apiClient,
+                      @Value("${kubernetes.protobuf.enabled:false}") boolean protobufEnabled) {
+        this.coreV1Api = coreV1Api;
+        this.protoClient = protobufEnabled ? new ProtoClient(apiClient) : null;
+        if (protobufEnabled) {
+            logger.info("Reading core resources with protobuf encoding");
+        }
+    }
+
+    public boolean isProtobuf() {
+        return protoClient != null;
+    }
+
+    /** Pods in a namespace (or all namespaces), optionally filtered by label selector. */
+    public V1PodList listPods(String namespace, String labelSelector) throws ApiException {
+        return listPods(namespace, labelSelector, null, null);
+    }
+
+    /** One page of pods; {@code limit} and {@code continueToken} may be null. */
+    public V1PodList listPods(String namespace, String labelSelector, Integer limit, String continueToken)
+            throws ApiException {
+        if (protoClient != null) {
+            return ProtoConverters.podList(protoList(V1.PodList.newBuilder(),
+                    collectionPath(namespace, "pods", labelSelector, limit, continueToken)));
+        }
+        return namespace == null
+                ? coreV1Api.listPodForAllNamespaces()
+                        .labelSelector(labelSelector).limit(limit)._continue(continueToken).execute()
+                : coreV1Api.listNamespacedPod(namespace)
+                        .labelSelector(labelSelector).limit(limit)._continue(continueToken).execute();
+    }
+
+    public V1Pod readPod(String namespace, String name) throws ApiException {
+        if (protoClient != null) {
+            return ProtoConverters.pod(protoGet(V1.Pod.newBuilder(), objectPath(namespace, "pods", name)));
+        }
+        return coreV1Api.readNamespacedPod(name, namespace).execute();
+    }
+
+    /** Services in a namespace (or all namespaces). */
+    public V1ServiceList listServices(String namespace) throws ApiException {
+        return listServices(namespace, null, null);
+    }
+
+    /** One page of services; {@code limit} and {@code continueToken} may be null. */
+    public V1ServiceList listServices(String namespace, Integer limit, String continueToken) throws ApiException {
+        if (protoClient != null) {
+            return ProtoConverters.serviceList(protoList(V1.ServiceList.newBuilder(),
+                    collectionPath(namespace, "services", null, limit, continueToken)));
+        }
+        return namespace == null
+                ? coreV1Api.listServiceForAllNamespaces().limit(limit)._continue(continueToken).execute()
+                : coreV1Api.listNamespacedService(namespace).limit(limit)._continue(continueToken).execute();
+    }
+
+    public V1Service readService(String namespace, String name) throws ApiException {
+        if (protoClient != null) {
+            return ProtoConverters.service(protoGet(V1.Service.newBuilder(), objectPath(namespace, "services", name)));
+        }
+        return coreV1Api.readNamespacedService(name, namespace).execute();
+    }
+
+    /** Endpoints in a namespace (or all namespaces). */
+    public V1EndpointsList listEndpoints(String namespace) throws ApiException {
+        if (protoClient != null) {
+            return ProtoConverters.endpointsList(protoList(V1.EndpointsList.newBuilder(),
+                    collectionPath(namespace, "endpoints", null, null, null)));
+        }
+        return namespace == null
+                ? coreV1Api.listEndpointsForAllNamespaces().execute()
+                : coreV1Api.listNamespacedEndpoints(namespace).execute();
+    }
+
+    public V1Endpoints readEndpoints(String namespace, String name) throws ApiException {
+        if (protoClient != null) {
+            return ProtoConverters.endpoints(protoGet(V1.Endpoints.newBuilder(), objectPath(namespace, "endpoints", name)));
+        }
+        return coreV1Api.readNamespacedEndpoints(name, namespace).execute();
+    }
+
+    public V1NamespaceList listNamespaces() throws ApiException {
+        if (protoClient != null) {
+            return ProtoConverters.namespaceList(protoList(V1.NamespaceList.newBuilder(), "/api/v1/namespaces"));
+        }
+        return coreV1Api.listNamespace().execute();
+    }
+
+    private <T extends Message> T protoList(Message.Builder builder, String path) throws ApiException {
+        try {
+            return unwrap(protoClient.list(builder, path), path);
+        } catch (IOException e) {
+            throw new ApiException(e);
+        }
+    }
+
+    private <T extends Message> T protoGet(Message.Builder builder, String path) throws ApiException {
+        try {
+            return unwrap(protoClient.get(builder, path), path);
+        } catch (IOException e) {
+            throw new ApiException(e);
+        }
+    }
+
+    /** The object, or the returned Status as an ApiException (same codes as the JSON client). */
+    @SuppressWarnings("unchecked")
+    private static <T extends Message> T unwrap(ProtoClient.ObjectOrStatus<? extends Message> result, String path)
+            throws ApiException {
+        if (result.object != null) {
+            return (T) result.object;
+        }
+        Meta.Status status = result.status;
+        int code = status != null ? status.getCode() : 500;
+        String message = status != null ? status.getMessage() : "Empty protobuf response for " + path;
+        throw new ApiException(code, message);
+    }
+
+    private static String objectPath(String namespace, String resource, String name) {
+        return "/api/v1/namespaces/" + encode(namespace) + "/" + resource + "/" + encode(name);
+    }
+
+    private static String collectionPath(String namespace, String resource, String labelSelector,
+                                         Integer limit, String continueToken) {
+        String path = namespace == null
+                ? "/api/v1/" + resource
+                : "/api/v1/namespaces/" + encode(namespace) + "/" + resource;
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        if (labelSelector != null) {
+            query.add("labelSelector=" + encode(labelSelector));
+        }
+        if (limit != null) {
+            query.add("limit=" + limit);
+        }
+        if (continueToken != null) {
+            query.add("continue=" + encode(continueToken));
+        }
+        return path + query;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,261 @@
+package com.kubediagnose.client;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.models.CoreV1EndpointPort;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1EndpointAddress;
+import io.kubernetes.client.openapi.models.V1EndpointSubset;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1EndpointsList;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1NamespaceList;
+import io.kubernetes.client.openapi.models.V1NamespaceStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1ObjectReference;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.proto.IntStr;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.V1;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Converts protobuf-decoded core objects into the client's model classes, so the analyzers
+ * work on them unchanged. Only the fields diagnostics read are carried over: metadata,
+ * container ports and images, pod status and conditions, service spec, and endpoint subsets.
+ * Unset proto2 fields become null, as with JSON decoding.
+ */
+public final class ProtoConverters {
+
+    private ProtoConverters() {
+    }
+
+    public static V1PodList podList(V1.PodList list) {
+        return new V1PodList()
+                .metadata(listMeta(list.getMetadata()))
+                .items(new ArrayList<>(list.getItemsList().stream().map(ProtoConverters::pod).toList()));
+    }
+
+    public static V1ServiceList serviceList(V1.ServiceList list) {
+        return new V1ServiceList()
+                .metadata(listMeta(list.getMetadata()))
+                .items(new ArrayList<>(list.getItemsList().stream().map(ProtoConverters::service).toList()));
+    }
+
+    public static V1EndpointsList endpointsList(V1.EndpointsList list) {
+        return new V1EndpointsList()
+                .metadata(listMeta(list.getMetadata()))
+                .items(new ArrayList<>(list.getItemsList().stream().map(ProtoConverters::endpoints).toList()));
+    }
+
+    public static V1NamespaceList namespaceList(V1.NamespaceList list) {
+        return new V1NamespaceList()
+                .metadata(listMeta(list.getMetadata()))
+                .items(new ArrayList<>(list.getItemsList().stream().map(ProtoConverters::namespace).toList()));
+    }
+
+    public static V1Pod pod(V1.Pod pod) {
+        V1Pod result = new V1Pod().apiVersion("v1").kind("Pod").metadata(objectMeta(pod.getMetadata()));
+        if (pod.hasSpec()) {
+            result.spec(new V1PodSpec()
+                    .nodeName(str(pod.getSpec().hasNodeName(), pod.getSpec().getNodeName()))
+                    .containers(map(pod.getSpec().getContainersList(), ProtoConverters::container)));
+        }
+        if (pod.hasStatus()) {
+            V1.PodStatus status = pod.getStatus();
+            result.status(new V1PodStatus()
+                    .phase(str(status.hasPhase(), status.getPhase()))
+                    .reason(str(status.hasReason(), status.getReason()))
+                    .message(str(status.hasMessage(), status.getMessage()))
+                    .podIP(str(status.hasPodIP(), status.getPodIP()))
+                    .startTime(status.hasStartTime() ? time(status.getStartTime()) : null)
+                    .conditions(map(status.getConditionsList(), ProtoConverters::condition))
+                    .initContainerStatuses(map(status.getInitContainerStatusesList(), ProtoConverters::containerStatus))
+                    .containerStatuses(map(status.getContainerStatusesList(), ProtoConverters::containerStatus)));
+        }
+        return result;
+    }
+
+    public static V1Service service(V1.Service service) {
+        V1Service result = new V1Service().apiVersion("v1").kind("Service")
+                .metadata(objectMeta(service.getMetadata()));
+        if (service.hasSpec()) {
+            V1.ServiceSpec spec = service.getSpec();
+            result.spec(new V1ServiceSpec()
+                    .type(str(spec.hasType(), spec.getType()))
+                    .clusterIP(str(spec.hasClusterIP(), spec.getClusterIP()))
+                    .selector(spec.getSelectorCount() > 0 ? new HashMap<>(spec.getSelectorMap()) : null)
+                    .ports(map(spec.getPortsList(), ProtoConverters::servicePort)));
+        }
+        return result;
+    }
+
+    public static V1Endpoints endpoints(V1.Endpoints endpoints) {
+        return new V1Endpoints().apiVersion("v1").kind("Endpoints")
+                .metadata(objectMeta(endpoints.getMetadata()))
+                .subsets(map(endpoints.getSubsetsList(), ProtoConverters::subset));
+    }
+
+    public static V1Namespace namespace(V1.Namespace namespace) {
+        V1Namespace result = new V1Namespace().apiVersion("v1").kind("Namespace")
+                .metadata(objectMeta(namespace.getMetadata()));
+        if (namespace.hasStatus()) {
+            result.status(new V1NamespaceStatus()
+                    .phase(str(namespace.getStatus().hasPhase(), namespace.getStatus().getPhase())));
+        }
+        return result;
+    }
+
+    private static V1ListMeta listMeta(Meta.ListMeta meta) {
+        return new V1ListMeta()
+                .resourceVersion(str(meta.hasResourceVersion(), meta.getResourceVersion()))
+                ._continue(meta.hasContinue() && !meta.getContinue().isEmpty() ? meta.getContinue() : null)
+                .remainingItemCount(meta.hasRemainingItemCount() ? meta.getRemainingItemCount() : null);
+    }
+
+    private static V1ObjectMeta objectMeta(Meta.ObjectMeta meta) {
+        return new V1ObjectMeta()
+                .name(str(meta.hasName(), meta.getName()))
+                .namespace(str(meta.hasNamespace(), meta.getNamespace()))
+                .uid(str(meta.hasUid(), meta.getUid()))
+                .resourceVersion(str(meta.hasResourceVersion(), meta.getResourceVersion()))
+                .creationTimestamp(meta.hasCreationTimestamp() ? time(meta.getCreationTimestamp()) : null)
+                .labels(meta.getLabelsCount() > 0 ? new HashMap<>(meta.getLabelsMap()) : null);
+    }
+
+    private static V1Container container(V1.Container container) {
+        return new V1Container()
+                .name(container.getName())
+                .image(str(container.hasImage(), container.getImage()))
+                .ports(map(container.getPortsList(), port -> new V1ContainerPort()
+                        .name(str(port.hasName(), port.getName()))
+                        .containerPort(port.getContainerPort())
+                        .protocol(str(port.hasProtocol(), port.getProtocol()))));
+    }
+
+    private static V1PodCondition condition(V1.PodCondition condition) {
+        return new V1PodCondition()
+                .type(condition.getType())
+                .status(condition.getStatus())
+                .reason(str(condition.hasReason(), condition.getReason()))
+                .message(str(condition.hasMessage(), condition.getMessage()))
+                .lastTransitionTime(condition.hasLastTransitionTime() ? time(condition.getLastTransitionTime()) : null);
+    }
+
+    private static V1ContainerStatus containerStatus(V1.ContainerStatus status) {
+        return new V1ContainerStatus()
+                .name(status.getName())
+                .image(status.getImage())
+                .imageID(status.getImageID())
+                .ready(status.getReady())
+                .started(status.hasStarted() ? status.getStarted() : null)
+                .restartCount(status.getRestartCount())
+                .state(status.hasState() ? containerState(status.getState()) : null)
+                .lastState(status.hasLastState() ? containerState(status.getLastState()) : null);
+    }
+
+    private static V1ContainerState containerState(V1.ContainerState state) {
+        V1ContainerState result = new V1ContainerState();
+        if (state.hasWaiting()) {
+            result.waiting(new V1ContainerStateWaiting()
+                    .reason(str(state.getWaiting().hasReason(), state.getWaiting().getReason()))
+                    .message(str(state.getWaiting().hasMessage(), state.getWaiting().getMessage())));
+        }
+        if (state.hasRunning()) {
+            result.running(new V1ContainerStateRunning()
+                    .startedAt(state.getRunning().hasStartedAt() ? time(state.getRunning().getStartedAt()) : null));
+        }
+        if (state.hasTerminated()) {
+            V1.ContainerStateTerminated terminated = state.getTerminated();
+            result.terminated(new V1ContainerStateTerminated()
+                    .exitCode(terminated.getExitCode())
+                    .signal(terminated.hasSignal() ? terminated.getSignal() : null)
+                    .reason(str(terminated.hasReason(), terminated.getReason()))
+                    .message(str(terminated.hasMessage(), terminated.getMessage()))
+                    .startedAt(terminated.hasStartedAt() ? time(terminated.getStartedAt()) : null)
+                    .finishedAt(terminated.hasFinishedAt() ? time(terminated.getFinishedAt()) : null));
+        }
+        return result;
+    }
+
+    private static V1ServicePort servicePort(V1.ServicePort port) {
+        return new V1ServicePort()
+                .name(str(port.hasName(), port.getName()))
+                .protocol(str(port.hasProtocol(), port.getProtocol()))
+                .port(port.getPort())
+                .targetPort(port.hasTargetPort() ? intOrString(port.getTargetPort()) : null)
+                .nodePort(port.hasNodePort() && port.getNodePort() != 0 ? port.getNodePort() : null);
+    }
+
+    private static V1EndpointSubset subset(V1.EndpointSubset subset) {
+        return new V1EndpointSubset()
+                .addresses(map(subset.getAddressesList(), ProtoConverters::address))
+                .notReadyAddresses(map(subset.getNotReadyAddressesList(), ProtoConverters::address))
+                .ports(map(subset.getPortsList(), port -> new CoreV1EndpointPort()
+                        .name(str(port.hasName(), port.getName()))
+                        .port(port.getPort())
+                        .protocol(str(port.hasProtocol(), port.getProtocol()))));
+    }
+
+    private static V1EndpointAddress address(V1.EndpointAddress address) {
+        V1EndpointAddress result = new V1EndpointAddress()
+                .ip(address.getIp())
+                .hostname(str(address.hasHostname(), address.getHostname()))
+                .nodeName(str(address.hasNodeName(), address.getNodeName()));
+        if (address.hasTargetRef()) {
+            V1.ObjectReference ref = address.getTargetRef();
+            result.targetRef(new V1ObjectReference()
+                    .kind(str(ref.hasKind(), ref.getKind()))
+                    .namespace(str(ref.hasNamespace(), ref.getNamespace()))
+                    .name(str(ref.hasName(), ref.getName()))
+                    .uid(str(ref.hasUid(), ref.getUid())));
+        }
+        return result;
+    }
+
+    private static IntOrString intOrString(IntStr.IntOrString value) {
+        // type 0 = int, 1 = string
+        return value.getType() == 1 ? new IntOrString(value.getStrVal()) : new IntOrString(value.getIntVal());
+    }
+
+    private static OffsetDateTime time(Meta.Time time) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochSecond(time.getSeconds(), time.getNanos()), ZoneOffset.UTC);
+    }
+
+    private static String str(boolean present, String value) {
+        return present ? value : null;
+    }
+
+    // Empty repeated fields become null, matching JSON decoding of omitted arrays
+    private static <P, M> List<M> map(List<P> items, Function<P, M> converter) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        List<M> result = new ArrayList<>(items.size());
+        for (P item : items) {
+            result.add(converter.apply(item));
+        }
+        return result;
+    }
+}
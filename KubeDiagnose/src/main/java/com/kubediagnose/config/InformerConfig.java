@@ -0,0 +1,18 @@
+package com.kubediagnose.config;
+
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.ApiClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Shared informer factory used by the local resource caches. */
+@Configuration
+public class InformerConfig {
+
+    /** One factory for all informers; stopped with the context. */
+    @Bean(destroyMethod = "stopAllRegisteredInformers")
+    public SharedInformerFactory sharedInformerFactory(@Qualifier("informerApiClient") ApiClient informerApiClient) {
+        return new SharedInformerFactory(informerApiClient);
+    }
+}
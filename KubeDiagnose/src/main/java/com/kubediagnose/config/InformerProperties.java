@@ -0,0 +1,32 @@
+package com.kubediagnose.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** Settings for the watch-backed informer caches. */
+@Component
+public class InformerProperties {
+
+    @Value("${kubernetes.informer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${kubernetes.informer.resync-period-seconds:0}")
+    private long resyncPeriodSeconds;
+
+    @Value("${kubernetes.informer.compact-pods:true}")
+    private boolean compactPods;
+
+    /** False means every read goes straight to the API server. */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getResyncPeriodMillis() {
+        return resyncPeriodSeconds * 1000L;
+    }
+
+    /** Keep only the pod fields diagnostics read in the pod cache. */
+    public boolean isCompactPods() {
+        return compactPods;
+    }
+}
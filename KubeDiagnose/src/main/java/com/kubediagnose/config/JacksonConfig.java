@@ -0,0 +1,17 @@
+package com.kubediagnose.config;
+
+import com.kubediagnose.controller.FieldProjection;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Additions to Boot's shared ObjectMapper. */
+@Configuration
+public class JacksonConfig {
+
+    /** Property filters for {@code fields=} projections; responses without one still write every property. */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldProjectionCustomizer() {
+        return builder -> builder.mixIns(FieldProjection.mixIns()).filters(FieldProjection.WRITE_ALL);
+    }
+}
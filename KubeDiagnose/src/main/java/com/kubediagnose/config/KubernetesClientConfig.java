@@ -1,14 +1,18 @@
 package com.kubediagnose.config;
 
+import com.kubediagnose.metrics.KubernetesApiMetrics;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.util.ClientBuilder;
 import io.kubernetes.client.util.KubeConfig;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import java.io.FileReader;
 import java.io.IOException;
@@ -22,26 +26,15 @@ public class KubernetesClientConfig {
     @Value("${kubernetes.kubeconfig-path:#{null}}")
     private String kubeconfigPath;
 
-    /** Create ApiClient: try kubeconfig, then fall back to in-cluster. */
-    @Bean
-    public ApiClient apiClient() throws IOException {
-        ApiClient client;
+    @Value("${kubernetes.base-path:#{null}}")
+    private String basePath;
 
-        if (kubeconfigPath != null && !kubeconfigPath.isEmpty()) {
-            String expandedPath = kubeconfigPath.replace("${user.home}", System.getProperty("user.home"));
-            try {
-                logger.info("Loading kubeconfig from: {}", expandedPath);
-                KubeConfig kubeConfig = KubeConfig.loadKubeConfig(new FileReader(expandedPath));
-                client = ClientBuilder.kubeconfig(kubeConfig).build();
-                logger.info("Successfully loaded kubeconfig for local cluster access");
-            } catch (IOException e) {
-                logger.warn("Failed to load kubeconfig from {}, attempting in-cluster config", expandedPath);
-                client = ClientBuilder.cluster().build();
-            }
-        } else {
-            logger.info("No kubeconfig path specified, using in-cluster configuration");
-            client = ClientBuilder.cluster().build();
-        }
+    /** Create ApiClient: an explicit base path, else kubeconfig, then fall back to in-cluster. */
+    @Bean
+    @Primary
+    public ApiClient apiClient(MeterRegistry meterRegistry) throws IOException {
+        ApiClient client = buildClient();
+        instrument(client, meterRegistry, "direct");
 
         LenientJSON.configure();
 
@@ -50,9 +43,56 @@ public class KubernetesClientConfig {
         return client;
     }
 
+    /** ApiClient for long-running watches (no read timeout). */
+    @Bean
+    public ApiClient informerApiClient(MeterRegistry meterRegistry) throws IOException {
+        ApiClient client = buildClient();
+        client.setReadTimeout(0);
+        instrument(client, meterRegistry, "informer");
+        return client;
+    }
+
     /** CoreV1Api bean for core resources. */
     @Bean
+    @Primary
     public CoreV1Api coreV1Api(ApiClient apiClient) {
         return new CoreV1Api(apiClient);
     }
+
+    /** CoreV1Api bean used by informers for LIST+WATCH. */
+    @Bean
+    public CoreV1Api informerCoreV1Api(@Qualifier("informerApiClient") ApiClient informerApiClient) {
+        return new CoreV1Api(informerApiClient);
+    }
+
+    /** Times API requests and measures payloads ({@link KubernetesApiMetrics}). */
+    private static void instrument(ApiClient client, MeterRegistry meterRegistry, String clientTag) {
+        client.setHttpClient(client.getHttpClient().newBuilder()
+                .addInterceptor(new KubernetesApiMetrics(meterRegistry, clientTag))
+                .build());
+    }
+
+    private ApiClient buildClient() throws IOException {
+        if (basePath != null && !basePath.isEmpty()) {
+            // Unauthenticated API server such as a local fake; kubeconfig is ignored
+            logger.info("Using Kubernetes API at {}", basePath);
+            return new ClientBuilder().setBasePath(basePath).build();
+        }
+        if (kubeconfigPath != null && !kubeconfigPath.isEmpty()) {
+            String expandedPath = kubeconfigPath.replace("${user.home}", System.getProperty("user.home"));
+            try {
+                logger.info("Loading kubeconfig from: {}", expandedPath);
+                KubeConfig kubeConfig = KubeConfig.loadKubeConfig(new FileReader(expandedPath));
+                ApiClient client = ClientBuilder.kubeconfig(kubeConfig).build();
+                logger.info("Successfully loaded kubeconfig for local cluster access");
+                return client;
+            } catch (IOException e) {
+                logger.warn("Failed to load kubeconfig from {}, attempting in-cluster config", expandedPath);
+                return ClientBuilder.cluster().build();
+            }
+        }
+
+        logger.info("No kubeconfig path specified, using in-cluster configuration");
+        return ClientBuilder.cluster().build();
+    }
 }
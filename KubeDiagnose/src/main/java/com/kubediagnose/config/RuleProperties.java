@@ -0,0 +1,73 @@
+package com.kubediagnose.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rule selection: rules disabled everywhere, plus per-namespace overrides.
+ * Bound from {@code kubediagnose.rules.*} (nested map, hence properties binding instead of @Value).
+ */
+@Component
+@ConfigurationProperties(prefix = "kubediagnose.rules")
+public class RuleProperties {
+
+    private List<String> disabled = new ArrayList<>();
+    private Map<String, NamespaceRules> namespaces = new HashMap<>();
+
+    /** Whether a rule runs for a namespace. Namespace settings win over the global list. */
+    public boolean isEnabled(String ruleId, String namespace) {
+        NamespaceRules overrides = namespaces.get(namespace);
+        if (overrides != null) {
+            if (overrides.getEnabled().contains(ruleId)) {
+                return true;
+            }
+            if (overrides.getDisabled().contains(ruleId)) {
+                return false;
+            }
+        }
+        return !disabled.contains(ruleId);
+    }
+
+    public List<String> getDisabled() {
+        return disabled;
+    }
+
+    public void setDisabled(List<String> disabled) {
+        this.disabled = disabled;
+    }
+
+    public Map<String, NamespaceRules> getNamespaces() {
+        return namespaces;
+    }
+
+    public void setNamespaces(Map<String, NamespaceRules> namespaces) {
+        this.namespaces = namespaces;
+    }
+
+    /** Per-namespace overrides. */
+    public static class NamespaceRules {
+        private List<String> disabled = new ArrayList<>();
+        private List<String> enabled = new ArrayList<>();
+
+        public List<String> getDisabled() {
+            return disabled;
+        }
+
+        public void setDisabled(List<String> disabled) {
+            this.disabled = disabled;
+        }
+
+        public List<String> getEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(List<String> enabled) {
+            this.enabled = enabled;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.kubediagnose.controller;
+
+import com.kubediagnose.cache.CoreDnsTracker;
+import com.kubediagnose.cache.InformerCache;
+import com.kubediagnose.model.CacheStatus;
+import com.kubediagnose.model.CoalescingStatus;
+import com.kubediagnose.model.CoreDnsStatus;
+import com.kubediagnose.service.RequestCoalescer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/** Informer cache, CoreDNS tracker and request coalescing status APIs. */
+@RestController
+@RequestMapping("/api")
+public class CacheController {
+
+    private final List<InformerCache<?>> caches;
+    private final CoreDnsTracker coreDnsTracker;
+    private final RequestCoalescer requestCoalescer;
+
+    public CacheController(List<InformerCache<?>> caches, CoreDnsTracker coreDnsTracker,
+                           RequestCoalescer requestCoalescer) {
+        this.caches = caches;
+        this.coreDnsTracker = coreDnsTracker;
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    /** Sync state and staleness of every cache. */
+    @GetMapping("/cache")
+    public ResponseEntity<List<CacheStatus>> cacheStatus() {
+        List<CacheStatus> statuses = caches.stream()
+                .map(InformerCache::status)
+                .toList();
+        return ResponseEntity.ok(statuses);
+    }
+
+    /** Tracked CoreDNS replica counts and time since they last changed. */
+    @GetMapping("/cache/coredns")
+    public ResponseEntity<CoreDnsStatus> coreDnsStatus() {
+        return ResponseEntity.ok(coreDnsTracker.status());
+    }
+
+    /** How many bulk requests ran, and how many shared another request's run. */
+    @GetMapping("/cache/coalescing")
+    public ResponseEntity<CoalescingStatus> coalescingStatus() {
+        return ResponseEntity.ok(requestCoalescer.status());
+    }
+}
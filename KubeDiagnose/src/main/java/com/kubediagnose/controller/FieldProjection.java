@@ -0,0 +1,190 @@
+package com.kubediagnose.controller;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.kubediagnose.model.PodDiagnosticResult;
+import com.kubediagnose.model.ResultView;
+import com.kubediagnose.model.ServiceDiagnosticResult;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Projection of pod and service result documents from a {@code fields} request parameter,
+ * e.g. {@code fields=resourceName,status,endpointInfo.readyEndpoints}. Applied by Jackson property filters
+ * while serializing, so unrequested properties and nested structures are never written. Bulk envelopes
+ * (counts, summary, cursor) are not projected, only the results inside them.
+ * When every requested field is one the tile view fills, the results are analyzed as {@link ResultView#TILE}.
+ */
+public final class FieldProjection {
+
+    private static final String FILTER_ID = "fields";
+
+    /** Default filters of the shared ObjectMapper: every property is written. */
+    public static final FilterProvider WRITE_ALL =
+            new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+    /** No {@code fields} parameter. */
+    public static final FieldProjection ALL = new FieldProjection("", WRITE_ALL, false);
+
+    // Properties whose own fields can be selected with a dotted path, and their types
+    private static final Map<String, Class<?>> POD_NESTED = Map.of(
+            "summary", PodDiagnosticResult.Summary.class,
+            "containerStatuses", PodDiagnosticResult.ContainerStatus.class);
+    private static final Map<String, Class<?>> SERVICE_NESTED = Map.of(
+            "summary", ServiceDiagnosticResult.Summary.class,
+            "ports", ServiceDiagnosticResult.ServicePort.class,
+            "endpointInfo", ServiceDiagnosticResult.EndpointInfo.class);
+
+    private static final Set<String> POD_TILE_FIELDS =
+            Set.of("resourceName", "namespace", "status", "phase", "restartCount");
+    private static final Set<String> SERVICE_TILE_FIELDS =
+            Set.of("resourceName", "namespace", "status", "serviceType", "coreDnsExists",
+                   "endpointInfo.readyEndpoints", "endpointInfo.notReadyEndpoints");
+
+    private final String canonical;
+    private final FilterProvider filters;
+    private final boolean tileOnly;
+
+    private FieldProjection(String canonical, FilterProvider filters, boolean tileOnly) {
+        this.canonical = canonical;
+        this.filters = filters;
+        this.tileOnly = tileOnly;
+    }
+
+    /** @throws IllegalArgumentException if a field is not a pod result property */
+    public static FieldProjection forPods(String fields) {
+        return parse(fields, PodDiagnosticResult.class, POD_NESTED, POD_TILE_FIELDS);
+    }
+
+    /** @throws IllegalArgumentException if a field is not a service result property */
+    public static FieldProjection forServices(String fields) {
+        return parse(fields, ServiceDiagnosticResult.class, SERVICE_NESTED, SERVICE_TILE_FIELDS);
+    }
+
+    private static FieldProjection parse(String fields, Class<?> resultType, Map<String, Class<?>> nestedTypes,
+                                         Set<String> tileFields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        List<String> known = properties(resultType);
+        Set<String> paths = new TreeSet<>();
+        Set<String> whole = new HashSet<>();
+        Map<String, Set<String>> nested = new HashMap<>();
+        for (String field : fields.split(",")) {
+            String path = field.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            int dot = path.indexOf('.');
+            String top = dot < 0 ? path : path.substring(0, dot);
+            if (!known.contains(top) || (dot >= 0 && !nestedTypes.containsKey(top))) {
+                throw new IllegalArgumentException("Unknown field '" + path + "'; fields are "
+                        + String.join(", ", known));
+            }
+            if (dot >= 0) {
+                List<String> children = properties(nestedTypes.get(top));
+                if (!children.contains(path.substring(dot + 1))) {
+                    throw new IllegalArgumentException("Unknown field '" + path + "'; " + top + " fields are "
+                            + String.join(", ", children));
+                }
+            }
+            paths.add(path);
+            if (dot < 0) {
+                whole.add(top);
+            } else {
+                nested.computeIfAbsent(top, name -> new HashSet<>()).add(path.substring(dot + 1));
+            }
+        }
+        if (paths.isEmpty()) {
+            return ALL;
+        }
+
+        Set<String> topLevel = new HashSet<>(whole);
+        topLevel.addAll(nested.keySet());
+        SimpleFilterProvider provider = new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(topLevel));
+        nested.forEach((top, children) -> {
+            if (!whole.contains(top)) {
+                provider.addFilter(FILTER_ID + "." + top, SimpleBeanPropertyFilter.filterOutAllExcept(children));
+            }
+        });
+        return new FieldProjection(String.join(",", paths), provider, tileFields.containsAll(paths));
+    }
+
+    private static List<String> properties(Class<?> type) {
+        return List.of(type.getAnnotation(JsonPropertyOrder.class).value());
+    }
+
+    /** Mix-ins attaching the projection filters to the result documents and their nested types. */
+    public static Map<Class<?>, Class<?>> mixIns() {
+        return Map.of(
+                PodDiagnosticResult.class, ResultFields.class,
+                ServiceDiagnosticResult.class, ResultFields.class,
+                PodDiagnosticResult.Summary.class, SummaryFields.class,
+                ServiceDiagnosticResult.Summary.class, SummaryFields.class,
+                PodDiagnosticResult.ContainerStatus.class, ContainerStatusFields.class,
+                ServiceDiagnosticResult.ServicePort.class, PortFields.class,
+                ServiceDiagnosticResult.EndpointInfo.class, EndpointInfoFields.class);
+    }
+
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    /** View to analyze with: tile when the requested fields need nothing more, otherwise {@code requested}. */
+    public ResultView view(ResultView requested) {
+        return tileOnly ? ResultView.TILE : requested;
+    }
+
+    /** Response body carrying the projection filters for the JSON converter. */
+    public Object body(Object value) {
+        if (isAll()) {
+            return value;
+        }
+        MappingJacksonValue projected = new MappingJacksonValue(value);
+        projected.setFilters(filters);
+        return projected;
+    }
+
+    /** ETag of a projected response: the unprojected ETag plus a hash of the fields. */
+    public String etag(String etag) {
+        if (isAll() || etag == null) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-f" + Integer.toHexString(canonical.hashCode()) + "\"";
+    }
+
+    public FilterProvider getFilters() {
+        return filters;
+    }
+
+    @JsonFilter(FILTER_ID)
+    private interface ResultFields {
+    }
+
+    @JsonFilter(FILTER_ID + ".summary")
+    private interface SummaryFields {
+    }
+
+    @JsonFilter(FILTER_ID + ".containerStatuses")
+    private interface ContainerStatusFields {
+    }
+
+    @JsonFilter(FILTER_ID + ".ports")
+    private interface PortFields {
+    }
+
+    @JsonFilter(FILTER_ID + ".endpointInfo")
+    private interface EndpointInfoFields {
+    }
+}
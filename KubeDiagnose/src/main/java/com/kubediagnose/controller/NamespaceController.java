@@ -23,14 +23,14 @@ public class NamespaceController {
         this.namespaceService = namespaceService;
     }
 
-    /** List all namespaces. */
+    /** List all namespaces, or those starting with {@code prefix}. */
     @GetMapping("/namespaces")
-    public ResponseEntity<?> listNamespaces() {
+    public ResponseEntity<?> listNamespaces(@RequestParam(required = false) String prefix) {
 
-        logger.info("Received request to list all namespaces");
+        logger.info("Received request to list namespaces{}", prefix != null ? " with prefix " + prefix : "");
 
         try {
-            NamespaceListResponse result = namespaceService.listNamespaces();
+            NamespaceListResponse result = namespaceService.listNamespaces(prefix);
             return ResponseEntity.ok(result);
 
         } catch (ApiException e) {
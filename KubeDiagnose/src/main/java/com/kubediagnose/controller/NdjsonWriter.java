@@ -0,0 +1,55 @@
+package com.kubediagnose.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kubediagnose.service.BulkResultStream;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes newline-delimited JSON (one compact document per line) for streamed responses.
+ * Each line is flushed as written so clients see results while analysis continues.
+ */
+@Component
+public class NdjsonWriter {
+
+    private final ObjectWriter writer;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        // The shared mapper pretty-prints; NDJSON needs one document per line
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Body that writes each result as it is analyzed, then the summary as the last line.
+     * The projection applies to the result lines only.
+     */
+    public <R, S> StreamingResponseBody stream(BulkResultStream<R, S> stream, FieldProjection projection) {
+        ObjectWriter resultWriter = writer.with(projection.getFilters());
+        return out -> {
+            S summary = stream.writeTo(result -> writeLine(out, resultWriter, result));
+            writeLine(out, writer, summary);
+        };
+    }
+
+    /** Body holding a single line, e.g. an error. */
+    public StreamingResponseBody single(Object value) {
+        return out -> writeLine(out, writer, value);
+    }
+
+    private static void writeLine(OutputStream out, ObjectWriter writer, Object value) {
+        try {
+            out.write(writer.writeValueAsBytes(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            // Typically the client went away; stops the analysis feeding this stream
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.kubediagnose.controller;
 
 import com.kubediagnose.model.BulkPodDiagnosticResult;
+import com.kubediagnose.model.ClusterDiagnosticResult;
 import com.kubediagnose.model.ErrorResponse;
 import com.kubediagnose.model.PodDiagnosticResult;
+import com.kubediagnose.model.ResultView;
+import com.kubediagnose.service.BulkResultStream;
 import com.kubediagnose.service.PodDebugService;
 import io.kubernetes.client.openapi.ApiException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /** Pod debug APIs. */
 @RestController
@@ -19,22 +25,38 @@ public class PodDebugController {
     private static final Logger logger = LoggerFactory.getLogger(PodDebugController.class);
 
     private final PodDebugService podDebugService;
+    private final NdjsonWriter ndjsonWriter;
 
-    public PodDebugController(PodDebugService podDebugService) {
+    public PodDebugController(PodDebugService podDebugService, NdjsonWriter ndjsonWriter) {
         this.podDebugService = podDebugService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
-    /** Debug a single pod. */
+    /**
+     * Debug a single pod.
+     * {@code fields} limits the response to the named properties (see {@link FieldProjection}).
+     */
     @GetMapping("/pod/{namespace}/{podName}")
     public ResponseEntity<?> debugPod(
             @PathVariable String namespace,
-            @PathVariable String podName) {
+            @PathVariable String podName,
+            @RequestParam(required = false) String fields) {
 
         logger.info("Received debug request for pod: {}/{}", namespace, podName);
 
         try {
-            PodDiagnosticResult result = podDebugService.debugPod(namespace, podName);
-            return ResponseEntity.ok(result);
+            FieldProjection projection = FieldProjection.forPods(fields);
+            PodDiagnosticResult result =
+                    podDebugService.debugPod(namespace, podName, projection.view(ResultView.FULL));
+            return ResponseEntity.ok(projection.body(result));
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    e.getMessage(),
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest().body(error);
 
         } catch (ApiException e) {
             logger.error("API error while debugging pod {}/{}: {} - {}",
@@ -61,15 +83,56 @@ public class PodDebugController {
         }
     }
 
-    /** Debug all pods in a namespace. */
+    /**
+     * Debug all pods in a namespace.
+     * {@code view=tile} returns compact rows for dashboard tiles; full detail stays on the single-resource endpoint.
+     * {@code fields} limits each result to the named properties.
+     * With {@code limit} and/or {@code continue}, returns one page plus {@code nextCursor}.
+     * Otherwise carries an ETag; a matching {@code If-None-Match} gets 304 Not Modified.
+     */
     @GetMapping("/pods/{namespace}")
-    public ResponseEntity<?> debugAllPods(@PathVariable String namespace) {
+    public ResponseEntity<?> debugAllPods(
+            @PathVariable String namespace,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(name = "continue", required = false) String cursor,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
 
         logger.info("Received bulk debug request for all pods in namespace: {}", namespace);
 
+        if (limit != null && limit <= 0) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    "limit must be a positive number",
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest().body(error);
+        }
+
         try {
-            BulkPodDiagnosticResult result = podDebugService.debugAllPods(namespace);
-            return ResponseEntity.ok(result);
+            FieldProjection projection = FieldProjection.forPods(fields);
+            ResultView resultView = projection.view(ResultView.fromParam(view));
+            if (limit == null && cursor == null) {
+                // Unchanged inputs: skip analysis and serialization entirely (sets the ETag header either way)
+                String etag = projection.etag(podDebugService.bulkETag(namespace, resultView));
+                if (etag != null && webRequest.checkNotModified(etag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+                }
+                BulkPodDiagnosticResult result = podDebugService.debugAllPods(namespace, resultView);
+                return ResponseEntity.ok(projection.body(result));
+            }
+
+            BulkPodDiagnosticResult result = podDebugService.debugPodsPage(namespace, limit, cursor, resultView);
+            return ResponseEntity.ok(projection.body(result));
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    e.getMessage(),
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest().body(error);
 
         } catch (ApiException e) {
             logger.error("API error while debugging pods in namespace {}: {} - {}",
@@ -96,12 +159,123 @@ public class PodDebugController {
         }
     }
 
+    /**
+     * Debug all pods in a namespace as NDJSON ({@code Accept: application/x-ndjson}).
+     * One result per line as each is analyzed, then a final summary line with the counts.
+     * {@code view} and {@code fields} work as on the JSON endpoint; the summary line is not projected.
+     */
+    @GetMapping(value = "/pods/{namespace}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllPods(
+            @PathVariable String namespace,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+
+        logger.info("Received streamed bulk debug request for all pods in namespace: {}", namespace);
+
+        try {
+            FieldProjection projection = FieldProjection.forPods(fields);
+            BulkResultStream<PodDiagnosticResult, BulkPodDiagnosticResult> stream =
+                    podDebugService.streamAllPods(namespace, projection.view(ResultView.fromParam(view)));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(ndjsonWriter.stream(stream, projection));
+
+        } catch (ApiException e) {
+            logger.error("API error while streaming pods in namespace {}: {} - {}",
+                        namespace, e.getCode(), e.getMessage());
+
+            // Nothing has been written yet, so the error still gets a proper status
+            HttpStatus status = mapApiExceptionToHttpStatus(e);
+            ErrorResponse error = new ErrorResponse(
+                    status.getReasonPhrase(),
+                    buildNamespaceErrorMessage(e, namespace, "pods"),
+                    status.value()
+            );
+            return ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ndjsonWriter.single(error));
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    e.getMessage(),
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ndjsonWriter.single(error));
+
+        } catch (Exception e) {
+            logger.error("Unexpected error while streaming pods in namespace {}: {}",
+                        namespace, e.getMessage(), e);
+
+            ErrorResponse error = new ErrorResponse(
+                    "Internal Server Error",
+                    "An unexpected error occurred while debugging pods: " + e.getMessage(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ndjsonWriter.single(error));
+        }
+    }
+
+    /**
+     * Debug all pods in every namespace, with counts rolled up per namespace.
+     * Lists only pods needing attention unless {@code includeHealthy=true}.
+     * {@code fields} limits each listed result to the named properties.
+     */
+    @GetMapping("/pods")
+    public ResponseEntity<?> debugClusterPods(
+            @RequestParam(defaultValue = "false") boolean includeHealthy,
+            @RequestParam(required = false) String fields) {
+
+        logger.info("Received cluster-wide debug request for all pods");
+
+        try {
+            FieldProjection projection = FieldProjection.forPods(fields);
+            ClusterDiagnosticResult<PodDiagnosticResult> result =
+                    podDebugService.debugClusterPods(includeHealthy, projection.view(ResultView.FULL));
+            return ResponseEntity.ok(projection.body(result));
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    e.getMessage(),
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest().body(error);
+
+        } catch (ApiException e) {
+            logger.error("API error while debugging pods across namespaces: {} - {}", e.getCode(), e.getMessage());
+
+            HttpStatus status = mapApiExceptionToHttpStatus(e);
+            ErrorResponse error = new ErrorResponse(
+                    status.getReasonPhrase(),
+                    buildClusterErrorMessage(e, "pods"),
+                    status.value()
+            );
+            return ResponseEntity.status(status).body(error);
+
+        } catch (Exception e) {
+            logger.error("Unexpected error while debugging pods across namespaces: {}", e.getMessage(), e);
+
+            ErrorResponse error = new ErrorResponse(
+                    "Internal Server Error",
+                    "An unexpected error occurred while debugging pods: " + e.getMessage(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
     /** Map ApiException to HTTP status. */
     private HttpStatus mapApiExceptionToHttpStatus(ApiException e) {
         return switch (e.getCode()) {
             case 404 -> HttpStatus.NOT_FOUND;
             case 401, 403 -> HttpStatus.FORBIDDEN;
             case 400 -> HttpStatus.BAD_REQUEST;
+            case 410 -> HttpStatus.GONE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
@@ -124,6 +298,17 @@ public class PodDebugController {
             case 401 -> "Authentication failed. Check your kubeconfig credentials.";
             case 403 -> String.format("Access denied to %s in namespace '%s'. Check RBAC permissions.",
                                       resourceType, namespace);
+            case 410 -> "The continue cursor has expired. Restart from the first page.";
+            default -> "Error communicating with Kubernetes API: " + e.getMessage();
+        };
+    }
+
+    /** Friendly error message for cluster-wide errors. */
+    private String buildClusterErrorMessage(ApiException e, String resourceType) {
+        return switch (e.getCode()) {
+            case 401 -> "Authentication failed. Check your kubeconfig credentials.";
+            case 403 -> String.format("Access denied to list %s across all namespaces. Check cluster-wide RBAC permissions.",
+                                      resourceType);
             default -> "Error communicating with Kubernetes API: " + e.getMessage();
         };
     }
@@ -1,15 +1,21 @@
 package com.kubediagnose.controller;
 
 import com.kubediagnose.model.BulkServiceDiagnosticResult;
+import com.kubediagnose.model.ClusterDiagnosticResult;
 import com.kubediagnose.model.ErrorResponse;
+import com.kubediagnose.model.ResultView;
 import com.kubediagnose.model.ServiceDiagnosticResult;
+import com.kubediagnose.service.BulkResultStream;
 import com.kubediagnose.service.ServiceDebugService;
 import io.kubernetes.client.openapi.ApiException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /** Service debug APIs. */
 @RestController
@@ -19,22 +25,38 @@ public class ServiceDebugController {
     private static final Logger logger = LoggerFactory.getLogger(ServiceDebugController.class);
 
     private final ServiceDebugService serviceDebugService;
+    private final NdjsonWriter ndjsonWriter;
 
-    public ServiceDebugController(ServiceDebugService serviceDebugService) {
+    public ServiceDebugController(ServiceDebugService serviceDebugService, NdjsonWriter ndjsonWriter) {
         this.serviceDebugService = serviceDebugService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
-    /** Debug a single service. */
+    /**
+     * Debug a single service.
+     * {@code fields} limits the response to the named properties (see {@link FieldProjection}).
+     */
     @GetMapping("/service/{namespace}/{serviceName}")
     public ResponseEntity<?> debugService(
             @PathVariable String namespace,
-            @PathVariable String serviceName) {
+            @PathVariable String serviceName,
+            @RequestParam(required = false) String fields) {
 
         logger.info("Received debug request for service: {}/{}", namespace, serviceName);
 
         try {
-            ServiceDiagnosticResult result = serviceDebugService.debugService(namespace, serviceName);
-            return ResponseEntity.ok(result);
+            FieldProjection projection = FieldProjection.forServices(fields);
+            ServiceDiagnosticResult result =
+                    serviceDebugService.debugService(namespace, serviceName, projection.view(ResultView.FULL));
+            return ResponseEntity.ok(projection.body(result));
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    e.getMessage(),
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest().body(error);
 
         } catch (ApiException e) {
             logger.error("API error while debugging service {}/{}: {} - {}",
@@ -61,15 +83,56 @@ public class ServiceDebugController {
         }
     }
 
-    /** Debug all services in a namespace. */
+    /**
+     * Debug all services in a namespace.
+     * {@code view=tile} returns compact rows for dashboard tiles; full detail stays on the single-resource endpoint.
+     * {@code fields} limits each result to the named properties.
+     * With {@code limit} and/or {@code continue}, returns one page plus {@code nextCursor}.
+     * Otherwise carries an ETag; a matching {@code If-None-Match} gets 304 Not Modified.
+     */
     @GetMapping("/services/{namespace}")
-    public ResponseEntity<?> debugAllServices(@PathVariable String namespace) {
+    public ResponseEntity<?> debugAllServices(
+            @PathVariable String namespace,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(name = "continue", required = false) String cursor,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
 
         logger.info("Received bulk debug request for all services in namespace: {}", namespace);
 
+        if (limit != null && limit <= 0) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    "limit must be a positive number",
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest().body(error);
+        }
+
         try {
-            BulkServiceDiagnosticResult result = serviceDebugService.debugAllServices(namespace);
-            return ResponseEntity.ok(result);
+            FieldProjection projection = FieldProjection.forServices(fields);
+            ResultView resultView = projection.view(ResultView.fromParam(view));
+            if (limit == null && cursor == null) {
+                // Unchanged inputs: skip analysis and serialization entirely (sets the ETag header either way)
+                String etag = projection.etag(serviceDebugService.bulkETag(namespace, resultView));
+                if (etag != null && webRequest.checkNotModified(etag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+                }
+                BulkServiceDiagnosticResult result = serviceDebugService.debugAllServices(namespace, resultView);
+                return ResponseEntity.ok(projection.body(result));
+            }
+
+            BulkServiceDiagnosticResult result = serviceDebugService.debugServicesPage(namespace, limit, cursor, resultView);
+            return ResponseEntity.ok(projection.body(result));
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    e.getMessage(),
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest().body(error);
 
         } catch (ApiException e) {
             logger.error("API error while debugging services in namespace {}: {} - {}",
@@ -96,12 +159,123 @@ public class ServiceDebugController {
         }
     }
 
+    /**
+     * Debug all services in a namespace as NDJSON ({@code Accept: application/x-ndjson}).
+     * One result per line as each is analyzed, then a final summary line with the counts.
+     * {@code view} and {@code fields} work as on the JSON endpoint; the summary line is not projected.
+     */
+    @GetMapping(value = "/services/{namespace}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllServices(
+            @PathVariable String namespace,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String fields) {
+
+        logger.info("Received streamed bulk debug request for all services in namespace: {}", namespace);
+
+        try {
+            FieldProjection projection = FieldProjection.forServices(fields);
+            BulkResultStream<ServiceDiagnosticResult, BulkServiceDiagnosticResult> stream =
+                    serviceDebugService.streamAllServices(namespace, projection.view(ResultView.fromParam(view)));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(ndjsonWriter.stream(stream, projection));
+
+        } catch (ApiException e) {
+            logger.error("API error while streaming services in namespace {}: {} - {}",
+                        namespace, e.getCode(), e.getMessage());
+
+            // Nothing has been written yet, so the error still gets a proper status
+            HttpStatus status = mapApiExceptionToHttpStatus(e);
+            ErrorResponse error = new ErrorResponse(
+                    status.getReasonPhrase(),
+                    buildNamespaceErrorMessage(e, namespace, "services"),
+                    status.value()
+            );
+            return ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ndjsonWriter.single(error));
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    e.getMessage(),
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ndjsonWriter.single(error));
+
+        } catch (Exception e) {
+            logger.error("Unexpected error while streaming services in namespace {}: {}",
+                        namespace, e.getMessage(), e);
+
+            ErrorResponse error = new ErrorResponse(
+                    "Internal Server Error",
+                    "An unexpected error occurred while debugging services: " + e.getMessage(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ndjsonWriter.single(error));
+        }
+    }
+
+    /**
+     * Debug all services in every namespace, with counts rolled up per namespace.
+     * Lists only services needing attention unless {@code includeHealthy=true}.
+     * {@code fields} limits each listed result to the named properties.
+     */
+    @GetMapping("/services")
+    public ResponseEntity<?> debugClusterServices(
+            @RequestParam(defaultValue = "false") boolean includeHealthy,
+            @RequestParam(required = false) String fields) {
+
+        logger.info("Received cluster-wide debug request for all services");
+
+        try {
+            FieldProjection projection = FieldProjection.forServices(fields);
+            ClusterDiagnosticResult<ServiceDiagnosticResult> result =
+                    serviceDebugService.debugClusterServices(includeHealthy, projection.view(ResultView.FULL));
+            return ResponseEntity.ok(projection.body(result));
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                    e.getMessage(),
+                    HttpStatus.BAD_REQUEST.value()
+            );
+            return ResponseEntity.badRequest().body(error);
+
+        } catch (ApiException e) {
+            logger.error("API error while debugging services across namespaces: {} - {}", e.getCode(), e.getMessage());
+
+            HttpStatus status = mapApiExceptionToHttpStatus(e);
+            ErrorResponse error = new ErrorResponse(
+                    status.getReasonPhrase(),
+                    buildClusterErrorMessage(e, "services"),
+                    status.value()
+            );
+            return ResponseEntity.status(status).body(error);
+
+        } catch (Exception e) {
+            logger.error("Unexpected error while debugging services across namespaces: {}", e.getMessage(), e);
+
+            ErrorResponse error = new ErrorResponse(
+                    "Internal Server Error",
+                    "An unexpected error occurred while debugging services: " + e.getMessage(),
+                    HttpStatus.INTERNAL_SERVER_ERROR.value()
+            );
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+        }
+    }
+
     /** Map ApiException to HTTP status. */
     private HttpStatus mapApiExceptionToHttpStatus(ApiException e) {
         return switch (e.getCode()) {
             case 404 -> HttpStatus.NOT_FOUND;
             case 401, 403 -> HttpStatus.FORBIDDEN;
             case 400 -> HttpStatus.BAD_REQUEST;
+            case 410 -> HttpStatus.GONE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
@@ -124,6 +298,17 @@ public class ServiceDebugController {
             case 401 -> "Authentication failed. Check your kubeconfig credentials.";
             case 403 -> String.format("Access denied to %s in namespace '%s'. Check RBAC permissions.",
                                       resourceType, namespace);
+            case 410 -> "The continue cursor has expired. Restart from the first page.";
+            default -> "Error communicating with Kubernetes API: " + e.getMessage();
+        };
+    }
+
+    /** Friendly error message for cluster-wide errors. */
+    private String buildClusterErrorMessage(ApiException e, String resourceType) {
+        return switch (e.getCode()) {
+            case 401 -> "Authentication failed. Check your kubeconfig credentials.";
+            case 403 -> String.format("Access denied to list %s across all namespaces. Check cluster-wide RBAC permissions.",
+                                      resourceType);
             default -> "Error communicating with Kubernetes API: " + e.getMessage();
         };
     }
@@ -0,0 +1,54 @@
+package com.kubediagnose.controller;
+
+import com.kubediagnose.model.ErrorResponse;
+import com.kubediagnose.service.HealthStreamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/** Live health change streams (server-sent events). */
+@RestController
+@RequestMapping("/api/stream")
+public class StreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamController.class);
+
+    private final HealthStreamService healthStreamService;
+
+    public StreamController(HealthStreamService healthStreamService) {
+        this.healthStreamService = healthStreamService;
+    }
+
+    /** Stream pod and service health changes in a namespace. */
+    @GetMapping(value = "/{namespace}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNamespace(@PathVariable String namespace) {
+
+        logger.info("Received request to stream health changes for namespace: {}", namespace);
+
+        if (!healthStreamService.isAvailable()) {
+            // EventSource clients only read event streams, so the error goes out as an event
+            ErrorResponse error = new ErrorResponse(
+                    HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                    "Live updates need the pod, service and endpoints informers. "
+                            + "Set kubernetes.informer.enabled=true.",
+                    HttpStatus.SERVICE_UNAVAILABLE.value()
+            );
+            SseEmitter emitter = new SseEmitter();
+            try {
+                emitter.send(SseEmitter.event().name("error").data(error, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(emitter);
+        }
+
+        return ResponseEntity.ok(healthStreamService.subscribe(namespace));
+    }
+}
@@ -0,0 +1,85 @@
+package com.kubediagnose.metrics;
+
+import com.kubediagnose.rules.DiagnosticRule;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Timers for the diagnostic pipeline: analysis per resource, time per rule, and bulk pipeline stages.
+ * Meters are looked up once per tag combination and kept, so recording on the hot path is a map read.
+ */
+@Component
+public class DiagnosticMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public DiagnosticMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * One {@code analyze} call.
+     *
+     * @param resource {@code pod} or {@code service}
+     * @param cache Result cache outcome: {@code hit}, {@code miss} or {@code off}
+     */
+    public Timer analysis(String resource, String cache) {
+        return timers.computeIfAbsent("analysis|" + resource + "|" + cache, key -> Timer.builder("kubediagnose.analysis")
+                .description("Diagnostic analysis of one resource")
+                .tag("resource", resource)
+                .tag("cache", cache)
+                .register(registry));
+    }
+
+    /** Records per-rule time accumulated over one resource; {@code nanos[i]} belongs to {@code rules.get(i)}. */
+    public void recordRules(String resource, List<? extends DiagnosticRule> rules, long[] nanos) {
+        for (int i = 0; i < nanos.length; i++) {
+            rule(resource, rules.get(i).id()).record(nanos[i], TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Records the time since {@code startNanos} ({@link System#nanoTime()}) for one rule. */
+    public void recordRule(String resource, String ruleId, long startNanos) {
+        rule(resource, ruleId).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time since {@code startNanos} ({@link System#nanoTime()}) for one stage of a bulk request.
+     *
+     * @param pipeline {@code pods}, {@code services}, {@code cluster-pods} or {@code cluster-services}
+     * @param stage {@code fetch}, {@code analyze}, {@code sort} or {@code serialize}
+     */
+    public void recordStage(String pipeline, String stage, long startNanos) {
+        timers.computeIfAbsent("stage|" + pipeline + "|" + stage, key -> Timer.builder("kubediagnose.bulk.stage")
+                        .description("One stage of a bulk diagnostic request")
+                        .tag("pipeline", pipeline)
+                        .tag("stage", stage)
+                        .register(registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Gauge of a result cache's entry count; hit ratio comes from the {@code cache} tag of {@link #analysis}. */
+    public <T> void resultCacheSize(String resource, T cache, ToDoubleFunction<T> size) {
+        Gauge.builder("kubediagnose.analysis.cache.size", cache, size)
+                .description("Memoized diagnostic results held")
+                .tag("resource", resource)
+                .register(registry);
+    }
+
+    private Timer rule(String resource, String ruleId) {
+        return timers.computeIfAbsent("rule|" + resource + "|" + ruleId, key -> Timer.builder("kubediagnose.rule")
+                .description("Time spent in one diagnostic rule for one resource")
+                .tag("resource", resource)
+                .tag("rule", ruleId)
+                .register(registry));
+    }
+}
@@ -0,0 +1,178 @@
+package com.kubediagnose.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OkHttp interceptor timing every Kubernetes API request by verb and resource, and measuring
+ * response payload size as the body is read. Latency is time to response headers; watch streams
+ * are timed to their first byte and their payload is not measured.
+ */
+public class KubernetesApiMetrics implements Interceptor {
+
+    private final MeterRegistry registry;
+    private final String client;
+
+    /**
+     * @param client Tag for the ApiClient: {@code direct} for request-path reads, {@code informer} for LIST+WATCH
+     */
+    public KubernetesApiMetrics(MeterRegistry registry, String client) {
+        this.registry = registry;
+        this.client = client;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        String resource = resource(request.url());
+        String verb = verb(request);
+
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException e) {
+            timer(verb, resource, "IO_ERROR").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        timer(verb, resource, String.valueOf(response.code()))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        ResponseBody body = response.body();
+        if (body == null || "watch".equals(verb)) {
+            return response;
+        }
+        DistributionSummary size = DistributionSummary.builder("kubediagnose.kubernetes.api.response.size")
+                .description("Kubernetes API response body size (after decompression)")
+                .baseUnit("bytes")
+                .tag("client", client)
+                .tag("verb", verb)
+                .tag("resource", resource)
+                .register(registry);
+        return response.newBuilder().body(new MeasuredBody(body, size)).build();
+    }
+
+    private Timer timer(String verb, String resource, String status) {
+        return Timer.builder("kubediagnose.kubernetes.api")
+                .description("Kubernetes API request latency (time to response headers)")
+                .tag("client", client)
+                .tag("verb", verb)
+                .tag("resource", resource)
+                .tag("status", status)
+                .register(registry);
+    }
+
+    /** list, get or watch for reads; the lowercase method otherwise. */
+    static String verb(Request request) {
+        if (!"GET".equals(request.method())) {
+            return request.method().toLowerCase();
+        }
+        if ("true".equals(request.url().queryParameter("watch"))) {
+            return "watch";
+        }
+        return hasName(request.url()) ? "get" : "list";
+    }
+
+    /**
+     * Resource from a core ({@code /api/v1/...}) or group ({@code /apis/group/version/...}) path,
+     * e.g. {@code pods} for {@code /api/v1/namespaces/default/pods/web-0}.
+     */
+    static String resource(HttpUrl url) {
+        List<String> rest = resourceSegments(url);
+        if (rest.isEmpty()) {
+            List<String> segments = url.pathSegments();
+            return segments.isEmpty() || segments.get(0).isEmpty() ? "root" : segments.get(0);
+        }
+        if ("namespaces".equals(rest.get(0)) && rest.size() >= 3) {
+            return rest.get(2);
+        }
+        return rest.get(0);
+    }
+
+    private static boolean hasName(HttpUrl url) {
+        List<String> rest = resourceSegments(url);
+        boolean namespaced = rest.size() >= 3 && "namespaces".equals(rest.get(0));
+        return rest.size() >= (namespaced ? 4 : 2);
+    }
+
+    /** Path segments after the API prefix; empty for non-resource paths such as /version. */
+    private static List<String> resourceSegments(HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        if (segments.size() > 2 && "api".equals(segments.get(0))) {
+            return segments.subList(2, segments.size());
+        }
+        if (segments.size() > 3 && "apis".equals(segments.get(0))) {
+            return segments.subList(3, segments.size());
+        }
+        return List.of();
+    }
+
+    /** Counts body bytes as the client reads them and records the total once, at EOF or close. */
+    private static final class MeasuredBody extends ResponseBody {
+
+        private final ResponseBody delegate;
+        private final BufferedSource source;
+
+        MeasuredBody(ResponseBody delegate, DistributionSummary size) {
+            this.delegate = delegate;
+            this.source = Okio.buffer(new ForwardingSource(delegate.source()) {
+                private long bytes;
+                private boolean recorded;
+
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long read = super.read(sink, byteCount);
+                    if (read == -1) {
+                        record();
+                    } else {
+                        bytes += read;
+                    }
+                    return read;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    record();
+                    super.close();
+                }
+
+                private void record() {
+                    if (!recorded) {
+                        recorded = true;
+                        size.record(bytes);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return delegate.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return delegate.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}
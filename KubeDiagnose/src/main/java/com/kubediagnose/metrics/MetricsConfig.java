@@ -0,0 +1,68 @@
+package com.kubediagnose.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubediagnose.cache.InformerCache;
+import com.kubediagnose.service.RequestCoalescer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.List;
+
+/** Meters read from existing counters (informer caches, request coalescing) and the timed JSON converter. */
+@Configuration
+public class MetricsConfig {
+
+    /** Replaces Boot's default JSON converter; same ObjectMapper, plus serialize timing for bulk responses. */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                   DiagnosticMetrics metrics) {
+        return new TimedJsonConverter(objectMapper, metrics);
+    }
+
+    /**
+     * Reads served by each informer cache, its size and sync state. Reads that missed the cache
+     * (not synced, or informers off) show up as {@code kubediagnose.kubernetes.api} with {@code client=direct}.
+     */
+    @Bean
+    public MeterBinder informerCacheMetrics(List<InformerCache<?>> caches) {
+        return registry -> {
+            for (InformerCache<?> cache : caches) {
+                FunctionCounter.builder("kubediagnose.informer.reads", cache, InformerCache::getReads)
+                        .description("Reads served from the informer cache")
+                        .tag("resource", cache.getResourceType())
+                        .register(registry);
+                Gauge.builder("kubediagnose.informer.size", cache, InformerCache::size)
+                        .description("Objects held by the informer cache")
+                        .tag("resource", cache.getResourceType())
+                        .register(registry);
+                Gauge.builder("kubediagnose.informer.synced", cache, c -> c.isReady() ? 1 : 0)
+                        .description("1 once the informer cache has loaded its initial list")
+                        .tag("resource", cache.getResourceType())
+                        .register(registry);
+            }
+        };
+    }
+
+    /** Bulk requests that ran, joined a run in flight, or were served from the reuse window. */
+    @Bean
+    public MeterBinder coalescingMetrics(RequestCoalescer requestCoalescer) {
+        return registry -> {
+            FunctionCounter.builder("kubediagnose.coalescing.requests", requestCoalescer, c -> c.status().getExecuted())
+                    .description("Bulk requests by how they were served")
+                    .tag("outcome", "executed")
+                    .register(registry);
+            FunctionCounter.builder("kubediagnose.coalescing.requests", requestCoalescer, c -> c.status().getCoalesced())
+                    .description("Bulk requests by how they were served")
+                    .tag("outcome", "coalesced")
+                    .register(registry);
+            FunctionCounter.builder("kubediagnose.coalescing.requests", requestCoalescer, c -> c.status().getReused())
+                    .description("Bulk requests by how they were served")
+                    .tag("outcome", "reused")
+                    .register(registry);
+        };
+    }
+}
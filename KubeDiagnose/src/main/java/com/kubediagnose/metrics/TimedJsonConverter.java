@@ -0,0 +1,62 @@
+package com.kubediagnose.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubediagnose.model.BulkPodDiagnosticResult;
+import com.kubediagnose.model.BulkServiceDiagnosticResult;
+import com.kubediagnose.model.ClusterDiagnosticResult;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter that records the serialize stage of bulk responses
+ * ({@code kubediagnose.bulk.stage}, stage {@code serialize}). The time includes writing to the client.
+ */
+public class TimedJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    private final DiagnosticMetrics metrics;
+
+    public TimedJsonConverter(ObjectMapper objectMapper, DiagnosticMetrics metrics) {
+        super(objectMapper);
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        String pipeline = pipeline(object);
+        if (pipeline == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            metrics.recordStage(pipeline, "serialize", start);
+        }
+    }
+
+    private static String pipeline(Object object) {
+        if (object instanceof MappingJacksonValue projected) {
+            // fields= projection; the filters wrap the bulk result
+            object = projected.getValue();
+        }
+        if (object instanceof BulkPodDiagnosticResult) {
+            return "pods";
+        }
+        if (object instanceof BulkServiceDiagnosticResult) {
+            return "services";
+        }
+        if (object instanceof ClusterDiagnosticResult<?> cluster) {
+            // Result type is erased; the summary names the resource ("Pods (Cluster)", "Services (Cluster)")
+            String resourceType = cluster.getSummary() != null ? cluster.getSummary().getResourceType() : null;
+            return resourceType != null && resourceType.startsWith("Services") ? "cluster-services" : "cluster-pods";
+        }
+        return null;
+    }
+}
@@ -5,7 +5,7 @@ import java.util.List;
 
 /** Bulk pod diagnostics for a namespace. */
 @JsonPropertyOrder({
-    "summary", "namespace", "totalPods", "criticalCount", "warningCount", "healthyCount", "results"
+    "summary", "namespace", "totalPods", "criticalCount", "warningCount", "healthyCount", "nextCursor", "results"
 })
 public class BulkPodDiagnosticResult {
 
@@ -15,6 +15,7 @@ public class BulkPodDiagnosticResult {
     private int criticalCount;
     private int warningCount;
     private int healthyCount;
+    private String nextCursor;
     private List<PodDiagnosticResult> results;
 
     public BulkPodDiagnosticResult() {
@@ -69,6 +70,15 @@ public class BulkPodDiagnosticResult {
         this.healthyCount = healthyCount;
     }
 
+    /** Cursor for the next page; null on the last page and for unpaged requests. */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
     public List<PodDiagnosticResult> getResults() {
         return results;
     }
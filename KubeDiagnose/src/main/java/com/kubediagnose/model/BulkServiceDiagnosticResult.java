@@ -8,7 +8,7 @@ import java.util.List;
  * Contains aggregated results from analyzing multiple services.
  */
 @JsonPropertyOrder({
-    "summary", "namespace", "totalServices", "criticalCount", "warningCount", "healthyCount", "results"
+    "summary", "namespace", "totalServices", "criticalCount", "warningCount", "healthyCount", "apiCalls", "nextCursor", "results"
 })
 public class BulkServiceDiagnosticResult {
 
@@ -18,6 +18,8 @@ public class BulkServiceDiagnosticResult {
     private int criticalCount;
     private int warningCount;
     private int healthyCount;
+    private int apiCalls;
+    private String nextCursor;
     private List<ServiceDiagnosticResult> results;
 
     public BulkServiceDiagnosticResult() {
@@ -73,6 +75,23 @@ public class BulkServiceDiagnosticResult {
         this.healthyCount = healthyCount;
     }
 
+    public int getApiCalls() {
+        return apiCalls;
+    }
+
+    public void setApiCalls(int apiCalls) {
+        this.apiCalls = apiCalls;
+    }
+
+    /** Cursor for the next page; null on the last page and for unpaged requests. */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
     public List<ServiceDiagnosticResult> getResults() {
         return results;
     }
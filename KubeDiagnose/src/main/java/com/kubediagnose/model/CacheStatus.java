@@ -0,0 +1,81 @@
+package com.kubediagnose.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * DTO describing the sync state of one informer cache.
+ */
+@JsonPropertyOrder({
+    "resourceType", "enabled", "synced", "size", "lastSyncResourceVersion", "lastEventTime", "stalenessSeconds"
+})
+public class CacheStatus {
+
+    private String resourceType;
+    private boolean enabled;
+    private boolean synced;
+    private int size;
+    private String lastSyncResourceVersion;
+    private String lastEventTime;
+    private Long stalenessSeconds;
+
+    public CacheStatus() {
+    }
+
+    // Getters and Setters
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public void setResourceType(String resourceType) {
+        this.resourceType = resourceType;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isSynced() {
+        return synced;
+    }
+
+    public void setSynced(boolean synced) {
+        this.synced = synced;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public String getLastSyncResourceVersion() {
+        return lastSyncResourceVersion;
+    }
+
+    public void setLastSyncResourceVersion(String lastSyncResourceVersion) {
+        this.lastSyncResourceVersion = lastSyncResourceVersion;
+    }
+
+    public String getLastEventTime() {
+        return lastEventTime;
+    }
+
+    public void setLastEventTime(String lastEventTime) {
+        this.lastEventTime = lastEventTime;
+    }
+
+    public Long getStalenessSeconds() {
+        return stalenessSeconds;
+    }
+
+    public void setStalenessSeconds(Long stalenessSeconds) {
+        this.stalenessSeconds = stalenessSeconds;
+    }
+}
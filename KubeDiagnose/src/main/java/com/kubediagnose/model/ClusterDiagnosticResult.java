@@ -0,0 +1,211 @@
+package com.kubediagnose.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.List;
+
+/**
+ * Cluster-wide diagnostics: counts rolled up per namespace and for the whole cluster.
+ * By default only results that need attention are listed; the rollups cover everything.
+ *
+ * @param <R> Per-resource result type
+ */
+@JsonPropertyOrder({
+    "summary", "totalNamespaces", "totalResources", "criticalCount", "warningCount", "healthyCount",
+    "apiCalls", "namespaces", "results"
+})
+public class ClusterDiagnosticResult<R> {
+
+    private Summary summary;
+    private int totalNamespaces;
+    private int totalResources;
+    private int criticalCount;
+    private int warningCount;
+    private int healthyCount;
+    private int apiCalls;
+    private List<NamespaceRollup> namespaces;
+    private List<R> results;
+
+    public ClusterDiagnosticResult() {
+    }
+
+    // Getters and Setters
+
+    public Summary getSummary() {
+        return summary;
+    }
+
+    public void setSummary(Summary summary) {
+        this.summary = summary;
+    }
+
+    public int getTotalNamespaces() {
+        return totalNamespaces;
+    }
+
+    public void setTotalNamespaces(int totalNamespaces) {
+        this.totalNamespaces = totalNamespaces;
+    }
+
+    public int getTotalResources() {
+        return totalResources;
+    }
+
+    public void setTotalResources(int totalResources) {
+        this.totalResources = totalResources;
+    }
+
+    public int getCriticalCount() {
+        return criticalCount;
+    }
+
+    public void setCriticalCount(int criticalCount) {
+        this.criticalCount = criticalCount;
+    }
+
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    public void setWarningCount(int warningCount) {
+        this.warningCount = warningCount;
+    }
+
+    public int getHealthyCount() {
+        return healthyCount;
+    }
+
+    public void setHealthyCount(int healthyCount) {
+        this.healthyCount = healthyCount;
+    }
+
+    public int getApiCalls() {
+        return apiCalls;
+    }
+
+    public void setApiCalls(int apiCalls) {
+        this.apiCalls = apiCalls;
+    }
+
+    public List<NamespaceRollup> getNamespaces() {
+        return namespaces;
+    }
+
+    public void setNamespaces(List<NamespaceRollup> namespaces) {
+        this.namespaces = namespaces;
+    }
+
+    public List<R> getResults() {
+        return results;
+    }
+
+    public void setResults(List<R> results) {
+        this.results = results;
+    }
+
+    /** Severity counts for one namespace. */
+    @JsonPropertyOrder({"namespace", "overallHealth", "total", "criticalCount", "warningCount", "healthyCount"})
+    public static class NamespaceRollup {
+        private String namespace;
+        private String overallHealth;
+        private int total;
+        private int criticalCount;
+        private int warningCount;
+        private int healthyCount;
+
+        public NamespaceRollup() {
+        }
+
+        public String getNamespace() {
+            return namespace;
+        }
+
+        public void setNamespace(String namespace) {
+            this.namespace = namespace;
+        }
+
+        public String getOverallHealth() {
+            return overallHealth;
+        }
+
+        public void setOverallHealth(String overallHealth) {
+            this.overallHealth = overallHealth;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public void setTotal(int total) {
+            this.total = total;
+        }
+
+        public int getCriticalCount() {
+            return criticalCount;
+        }
+
+        public void setCriticalCount(int criticalCount) {
+            this.criticalCount = criticalCount;
+        }
+
+        public int getWarningCount() {
+            return warningCount;
+        }
+
+        public void setWarningCount(int warningCount) {
+            this.warningCount = warningCount;
+        }
+
+        public int getHealthyCount() {
+            return healthyCount;
+        }
+
+        public void setHealthyCount(int healthyCount) {
+            this.healthyCount = healthyCount;
+        }
+    }
+
+    /** High-level summary for cluster-wide checks. */
+    @JsonPropertyOrder({"diagnosticTime", "resourceType", "overallHealth", "message"})
+    public static class Summary {
+        private String diagnosticTime;
+        private String resourceType;
+        private String overallHealth;
+        private String message;
+
+        public Summary() {
+            this.diagnosticTime = java.time.OffsetDateTime.now().toString();
+        }
+
+        public String getDiagnosticTime() {
+            return diagnosticTime;
+        }
+
+        public void setDiagnosticTime(String diagnosticTime) {
+            this.diagnosticTime = diagnosticTime;
+        }
+
+        public String getResourceType() {
+            return resourceType;
+        }
+
+        public void setResourceType(String resourceType) {
+            this.resourceType = resourceType;
+        }
+
+        public String getOverallHealth() {
+            return overallHealth;
+        }
+
+        public void setOverallHealth(String overallHealth) {
+            this.overallHealth = overallHealth;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.kubediagnose.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * DTO with request coalescing counters: computations run, requests that joined one in flight,
+ * and requests served from the reuse window.
+ */
+@JsonPropertyOrder({"enabled", "reuseWindowMillis", "executed", "coalesced", "reused", "inFlight"})
+public class CoalescingStatus {
+
+    private boolean enabled;
+    private long reuseWindowMillis;
+    private long executed;
+    private long coalesced;
+    private long reused;
+    private int inFlight;
+
+    public CoalescingStatus() {
+    }
+
+    // Getters and Setters
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getReuseWindowMillis() {
+        return reuseWindowMillis;
+    }
+
+    public void setReuseWindowMillis(long reuseWindowMillis) {
+        this.reuseWindowMillis = reuseWindowMillis;
+    }
+
+    public long getExecuted() {
+        return executed;
+    }
+
+    public void setExecuted(long executed) {
+        this.executed = executed;
+    }
+
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    public void setCoalesced(long coalesced) {
+        this.coalesced = coalesced;
+    }
+
+    public long getReused() {
+        return reused;
+    }
+
+    public void setReused(long reused) {
+        this.reused = reused;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+}
@@ -0,0 +1,91 @@
+package com.kubediagnose.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * DTO with the tracked CoreDNS replica counts and how long they have been unchanged.
+ */
+@JsonPropertyOrder({
+    "source", "known", "replicas", "runningReplicas", "readyReplicas", "notReadyReplicas",
+    "lastChangeTime", "secondsSinceChange"
+})
+public class CoreDnsStatus {
+
+    private String source;
+    private boolean known;
+    private int replicas;
+    private int runningReplicas;
+    private int readyReplicas;
+    private int notReadyReplicas;
+    private String lastChangeTime;
+    private Long secondsSinceChange;
+
+    public CoreDnsStatus() {
+    }
+
+    // Getters and Setters
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public boolean isKnown() {
+        return known;
+    }
+
+    public void setKnown(boolean known) {
+        this.known = known;
+    }
+
+    public int getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(int replicas) {
+        this.replicas = replicas;
+    }
+
+    public int getRunningReplicas() {
+        return runningReplicas;
+    }
+
+    public void setRunningReplicas(int runningReplicas) {
+        this.runningReplicas = runningReplicas;
+    }
+
+    public int getReadyReplicas() {
+        return readyReplicas;
+    }
+
+    public void setReadyReplicas(int readyReplicas) {
+        this.readyReplicas = readyReplicas;
+    }
+
+    public int getNotReadyReplicas() {
+        return notReadyReplicas;
+    }
+
+    public void setNotReadyReplicas(int notReadyReplicas) {
+        this.notReadyReplicas = notReadyReplicas;
+    }
+
+    public String getLastChangeTime() {
+        return lastChangeTime;
+    }
+
+    public void setLastChangeTime(String lastChangeTime) {
+        this.lastChangeTime = lastChangeTime;
+    }
+
+    public Long getSecondsSinceChange() {
+        return secondsSinceChange;
+    }
+
+    public void setSecondsSinceChange(Long secondsSinceChange) {
+        this.secondsSinceChange = secondsSinceChange;
+    }
+}
@@ -0,0 +1,48 @@
+package com.kubediagnose.model;
+
+import java.util.Collection;
+
+/**
+ * Structured finding emitted by a diagnostic rule, with the severity it implies.
+ * Causes, evidence and actions stay free text; status is derived from these codes.
+ */
+public enum FindingCode {
+
+    // Pod findings
+    CRASH_LOOP_BACK_OFF(Severity.CRITICAL),
+    IMAGE_PULL_ERROR(Severity.CRITICAL),
+    OOM_KILLED(Severity.CRITICAL),
+    READINESS_PROBE_FAILING(Severity.WARNING),
+    LIVENESS_PROBE_KILL(Severity.WARNING),
+    HIGH_RESTART_COUNT(Severity.WARNING),
+
+    // Service findings
+    SELECTOR_MISMATCH(Severity.CRITICAL),
+    NO_ENDPOINTS(Severity.CRITICAL),
+    NO_READY_ENDPOINTS(Severity.WARNING),
+    PORT_MISMATCH(Severity.WARNING),
+    COREDNS_UNAVAILABLE(Severity.CRITICAL);
+
+    private final Severity severity;
+
+    FindingCode(Severity severity) {
+        this.severity = severity;
+    }
+
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    /**
+     * Most severe of the findings.
+     *
+     * @return The worst severity, or null if there are no findings
+     */
+    public static Severity worst(Collection<FindingCode> findings) {
+        Severity worst = null;
+        for (FindingCode finding : findings) {
+            worst = Severity.max(worst, finding.severity);
+        }
+        return worst;
+    }
+}
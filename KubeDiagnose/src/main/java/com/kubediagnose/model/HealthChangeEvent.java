@@ -0,0 +1,104 @@
+package com.kubediagnose.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Server-sent event payload: a pod or service whose diagnostic status or findings changed.
+ * {@code result} is the full diagnostic result (absent for deletions).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"type", "kind", "namespace", "name", "status", "previousStatus", "eventTime", "result"})
+public class HealthChangeEvent {
+
+    public static final String ADDED = "added";
+    public static final String CHANGED = "changed";
+    public static final String DELETED = "deleted";
+
+    private String type;
+    private String kind;
+    private String namespace;
+    private String name;
+    private String status;
+    private String previousStatus;
+    private String eventTime;
+    private Object result;
+
+    public HealthChangeEvent() {
+        this.eventTime = java.time.OffsetDateTime.now().toString();
+    }
+
+    public HealthChangeEvent(String type, String kind, String namespace, String name) {
+        this();
+        this.type = type;
+        this.kind = kind;
+        this.namespace = namespace;
+        this.name = name;
+    }
+
+    // Getters and Setters
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getNamespace() {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace) {
+        this.namespace = namespace;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(String previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public String getEventTime() {
+        return eventTime;
+    }
+
+    public void setEventTime(String eventTime) {
+        this.eventTime = eventTime;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+    public void setResult(Object result) {
+        this.result = result;
+    }
+}
@@ -1,5 +1,6 @@
 package com.kubediagnose.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.util.List;
 
@@ -16,11 +17,12 @@ public class PodDiagnosticResult {
     private Summary summary;
     private String resourceName;
     private String namespace;
-    private String status;
+    private Severity severity;
     private String phase;
     private List<String> probableCauses;
     private List<String> evidence;
     private List<String> suggestedActions;
+    private List<FindingCode> findings = List.of();
     private List<ContainerStatus> containerStatuses;
     private int restartCount;
 
@@ -54,11 +56,20 @@ public class PodDiagnosticResult {
     }
 
     public String getStatus() {
-        return status;
+        return severity != null ? severity.getLabel() : null;
     }
 
     public void setStatus(String status) {
-        this.status = status;
+        this.severity = status != null ? Severity.fromLabel(status) : null;
+    }
+
+    @JsonIgnore
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    public void setSeverity(Severity severity) {
+        this.severity = severity;
     }
 
     public String getPhase() {
@@ -93,6 +104,16 @@ public class PodDiagnosticResult {
         this.suggestedActions = suggestedActions;
     }
 
+    /** Structured findings behind the status; not part of the JSON contract. */
+    @JsonIgnore
+    public List<FindingCode> getFindings() {
+        return findings;
+    }
+
+    public void setFindings(List<FindingCode> findings) {
+        this.findings = findings;
+    }
+
     public List<ContainerStatus> getContainerStatuses() {
         return containerStatuses;
     }
@@ -109,6 +130,29 @@ public class PodDiagnosticResult {
         this.restartCount = restartCount;
     }
 
+    /**
+     * Copy of this result whose summary is stamped now. Used to serve a cached result without
+     * changing the shared instance; the lists are shared, not copied.
+     */
+    public PodDiagnosticResult restamped() {
+        if (summary == null) {
+            return this;
+        }
+        PodDiagnosticResult copy = new PodDiagnosticResult();
+        copy.summary = summary.restamped();
+        copy.resourceName = resourceName;
+        copy.namespace = namespace;
+        copy.severity = severity;
+        copy.phase = phase;
+        copy.probableCauses = probableCauses;
+        copy.evidence = evidence;
+        copy.suggestedActions = suggestedActions;
+        copy.findings = findings;
+        copy.containerStatuses = containerStatuses;
+        copy.restartCount = restartCount;
+        return copy;
+    }
+
     /**
      * Summary section providing a quick overview of the diagnosis.
      */
@@ -125,6 +169,16 @@ public class PodDiagnosticResult {
             this.diagnosticTime = java.time.OffsetDateTime.now().toString();
         }
 
+        /** Copy of this summary with the diagnostic time set to now. */
+        public Summary restamped() {
+            Summary copy = new Summary();
+            copy.resourceType = resourceType;
+            copy.overallHealth = overallHealth;
+            copy.issueCount = issueCount;
+            copy.message = message;
+            return copy;
+        }
+
         public String getDiagnosticTime() {
             return diagnosticTime;
         }
@@ -0,0 +1,39 @@
+package com.kubediagnose.model;
+
+/**
+ * How much of each result a bulk request returns, from its {@code view} parameter.
+ * {@link #TILE} rows carry only what the dashboard tiles show (name, status, phase and restarts for pods;
+ * type and endpoint counts for services); rules then record findings without building any text.
+ */
+public enum ResultView {
+
+    FULL("full"),
+    TILE("tile");
+
+    private final String param;
+
+    ResultView(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * View for a {@code view} request parameter; null or blank means {@link #FULL}.
+     *
+     * @throws IllegalArgumentException if the value names no view
+     */
+    public static ResultView fromParam(String param) {
+        if (param == null || param.isBlank()) {
+            return FULL;
+        }
+        for (ResultView view : values()) {
+            if (view.param.equalsIgnoreCase(param.trim())) {
+                return view;
+            }
+        }
+        throw new IllegalArgumentException("view must be 'full' or 'tile'");
+    }
+}
@@ -1,5 +1,6 @@
 package com.kubediagnose.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.util.List;
 import java.util.Map;
@@ -17,13 +18,14 @@ public class ServiceDiagnosticResult {
     private Summary summary;
     private String resourceName;
     private String namespace;
-    private String status;
+    private Severity severity;
     private String serviceType;
     private Map<String, String> selector;
     private List<ServicePort> ports;
     private List<String> probableCauses;
     private List<String> evidence;
     private List<String> suggestedActions;
+    private List<FindingCode> findings = List.of();
     private EndpointInfo endpointInfo;
     private boolean coreDnsExists;
 
@@ -57,11 +59,20 @@ public class ServiceDiagnosticResult {
     }
 
     public String getStatus() {
-        return status;
+        return severity != null ? severity.getLabel() : null;
     }
 
     public void setStatus(String status) {
-        this.status = status;
+        this.severity = status != null ? Severity.fromLabel(status) : null;
+    }
+
+    @JsonIgnore
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    public void setSeverity(Severity severity) {
+        this.severity = severity;
     }
 
     public String getServiceType() {
@@ -112,6 +123,16 @@ public class ServiceDiagnosticResult {
         this.suggestedActions = suggestedActions;
     }
 
+    /** Structured findings behind the status; not part of the JSON contract. */
+    @JsonIgnore
+    public List<FindingCode> getFindings() {
+        return findings;
+    }
+
+    public void setFindings(List<FindingCode> findings) {
+        this.findings = findings;
+    }
+
     public EndpointInfo getEndpointInfo() {
         return endpointInfo;
     }
@@ -128,6 +149,31 @@ public class ServiceDiagnosticResult {
         this.coreDnsExists = coreDnsExists;
     }
 
+    /**
+     * Copy of this result whose summary is stamped now. Used to serve a cached result without
+     * changing the shared instance; the lists are shared, not copied.
+     */
+    public ServiceDiagnosticResult restamped() {
+        if (summary == null) {
+            return this;
+        }
+        ServiceDiagnosticResult copy = new ServiceDiagnosticResult();
+        copy.summary = summary.restamped();
+        copy.resourceName = resourceName;
+        copy.namespace = namespace;
+        copy.severity = severity;
+        copy.serviceType = serviceType;
+        copy.selector = selector;
+        copy.ports = ports;
+        copy.probableCauses = probableCauses;
+        copy.evidence = evidence;
+        copy.suggestedActions = suggestedActions;
+        copy.findings = findings;
+        copy.endpointInfo = endpointInfo;
+        copy.coreDnsExists = coreDnsExists;
+        return copy;
+    }
+
     /**
      * Summary section providing a quick overview of the diagnosis.
      */
@@ -144,6 +190,16 @@ public class ServiceDiagnosticResult {
             this.diagnosticTime = java.time.OffsetDateTime.now().toString();
         }
 
+        /** Copy of this summary with the diagnostic time set to now. */
+        public Summary restamped() {
+            Summary copy = new Summary();
+            copy.resourceType = resourceType;
+            copy.overallHealth = overallHealth;
+            copy.issueCount = issueCount;
+            copy.message = message;
+            return copy;
+        }
+
         public String getDiagnosticTime() {
             return diagnosticTime;
         }
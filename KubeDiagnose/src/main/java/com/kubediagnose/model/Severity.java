@@ -0,0 +1,53 @@
+package com.kubediagnose.model;
+
+/**
+ * Diagnostic status of a pod or service, declared from least to most severe
+ * so the worst of several is a max over ordinals.
+ * The label is the {@code status} string in API responses.
+ */
+public enum Severity {
+
+    COMPLETED("Completed", 3),
+    HEALTHY("Healthy", 2),
+    UNKNOWN("Unknown", 1),
+    WARNING("Warning", 1),
+    CRITICAL("Critical", 0);
+
+    private final String label;
+    private final int sortOrder;
+
+    Severity(String label, int sortOrder) {
+        this.label = label;
+        this.sortOrder = sortOrder;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /** Order for bulk results (lower = listed first). Unknown sorts with Warning. */
+    public int getSortOrder() {
+        return sortOrder;
+    }
+
+    /** The more severe of two severities; null is treated as absent. */
+    public static Severity max(Severity a, Severity b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /** Severity for a status label; unrecognized labels map to {@link #UNKNOWN}. */
+    public static Severity fromLabel(String label) {
+        for (Severity severity : values()) {
+            if (severity.label.equals(label)) {
+                return severity;
+            }
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,78 @@
+package com.kubediagnose.model;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO with the offline analysis of a kubectl JSON dump: one bulk result per namespace for pods
+ * and for services, in the same format as the bulk endpoints.
+ */
+@JsonPropertyOrder({
+    "source", "objectsRead", "objectsSkipped", "coreDnsKnown", "pods", "services"
+})
+public class SnapshotDiagnosticResult {
+
+    private String source;
+    private long objectsRead;
+    private long objectsSkipped;
+    private boolean coreDnsKnown;
+    private List<BulkPodDiagnosticResult> pods = new ArrayList<>();
+    private List<BulkServiceDiagnosticResult> services = new ArrayList<>();
+
+    public SnapshotDiagnosticResult() {
+    }
+
+    // Getters and Setters
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /** Pods, services and endpoints read from the dump. */
+    public long getObjectsRead() {
+        return objectsRead;
+    }
+
+    public void setObjectsRead(long objectsRead) {
+        this.objectsRead = objectsRead;
+    }
+
+    /** Items of other kinds, or that could not be decoded. */
+    public long getObjectsSkipped() {
+        return objectsSkipped;
+    }
+
+    public void setObjectsSkipped(long objectsSkipped) {
+        this.objectsSkipped = objectsSkipped;
+    }
+
+    /** False when the dump has no kube-system pods, so CoreDNS was not checked. */
+    public boolean isCoreDnsKnown() {
+        return coreDnsKnown;
+    }
+
+    public void setCoreDnsKnown(boolean coreDnsKnown) {
+        this.coreDnsKnown = coreDnsKnown;
+    }
+
+    public List<BulkPodDiagnosticResult> getPods() {
+        return pods;
+    }
+
+    public void setPods(List<BulkPodDiagnosticResult> pods) {
+        this.pods = pods;
+    }
+
+    public List<BulkServiceDiagnosticResult> getServices() {
+        return services;
+    }
+
+    public void setServices(List<BulkServiceDiagnosticResult> services) {
+        this.services = services;
+    }
+}
@@ -0,0 +1,42 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.cache.CoreDnsTracker;
+import com.kubediagnose.model.FindingCode;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/** CoreDNS missing or not running in kube-system. */
+@Component
+@Order(40)
+public class CoreDnsRule implements ServiceRule {
+
+    @Override
+    public String id() {
+        return "coredns";
+    }
+
+    @Override
+    public Set<RuleInput> inputs() {
+        return Set.of(RuleInput.COREDNS);
+    }
+
+    @Override
+    public void evaluate(ServiceRuleContext context, RuleOutput out) {
+        CoreDnsTracker.Snapshot coreDns = context.getCoreDns();
+        if (coreDns == null || !coreDns.isKnown()) {
+            // Not listed yet (startup); reporting CoreDNS as missing would be a false alarm
+            if (out.isDetailed()) {
+                out.evidence().add("CoreDNS status not yet known");
+            }
+            return;
+        }
+        boolean coreDnsExists = ServiceDiagnosticRules.checkCoreDnsExists(
+                coreDns.getReplicas(), coreDns.getRunning(), out.causes(), out.evidence(), out.actions());
+        context.setCoreDnsExists(coreDnsExists);
+        if (!coreDnsExists) {
+            out.finding(FindingCode.COREDNS_UNAVAILABLE);
+        }
+    }
+}
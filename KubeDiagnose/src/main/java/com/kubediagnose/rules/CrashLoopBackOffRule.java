@@ -0,0 +1,32 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.model.FindingCode;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/** Container waiting in CrashLoopBackOff. */
+@Component
+@Order(10)
+public class CrashLoopBackOffRule implements PodRule {
+
+    @Override
+    public String id() {
+        return "crash-loop-back-off";
+    }
+
+    @Override
+    public Set<RuleInput> inputs() {
+        return Set.of(RuleInput.CONTAINER_STATUSES);
+    }
+
+    @Override
+    public void visitContainer(V1Pod pod, V1ContainerStatus containerStatus, RuleOutput out) {
+        if (PodDiagnosticRules.checkCrashLoopBackOff(pod, containerStatus, out.causes(), out.evidence(), out.actions())) {
+            out.finding(FindingCode.CRASH_LOOP_BACK_OFF);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.kubediagnose.rules;
+
+import java.util.Set;
+
+/**
+ * Common contract of pluggable diagnostic rules.
+ * Rules are Spring beans; their bean order is the order their output appears in.
+ */
+public interface DiagnosticRule {
+
+    /** Stable identifier used to enable or disable the rule in configuration. */
+    String id();
+
+    /** Inputs this rule reads. */
+    Set<RuleInput> inputs();
+}
@@ -0,0 +1,34 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.model.FindingCode;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/** Container restarted at least the high-restart threshold. */
+@Component
+@Order(50)
+public class HighRestartCountRule implements PodRule {
+
+    @Override
+    public String id() {
+        return "high-restart-count";
+    }
+
+    @Override
+    public Set<RuleInput> inputs() {
+        return Set.of(RuleInput.CONTAINER_STATUSES);
+    }
+
+    @Override
+    public void visitContainer(V1Pod pod, V1ContainerStatus containerStatus, RuleOutput out) {
+        int restarts = PodDiagnosticRules.checkHighRestartCount(
+                pod, containerStatus, out.causes(), out.evidence(), out.actions());
+        if (restarts >= PodDiagnosticRules.HIGH_RESTART_THRESHOLD) {
+            out.finding(FindingCode.HIGH_RESTART_COUNT);
+        }
+    }
+}
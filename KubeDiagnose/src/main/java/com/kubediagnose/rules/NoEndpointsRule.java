@@ -0,0 +1,37 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.model.FindingCode;
+import com.kubediagnose.model.ServiceDiagnosticResult;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/** Service without endpoints, or with none ready. */
+@Component
+@Order(20)
+public class NoEndpointsRule implements ServiceRule {
+
+    @Override
+    public String id() {
+        return "no-endpoints";
+    }
+
+    @Override
+    public Set<RuleInput> inputs() {
+        return Set.of(RuleInput.ENDPOINTS);
+    }
+
+    @Override
+    public void evaluate(ServiceRuleContext context, RuleOutput out) {
+        ServiceDiagnosticResult.EndpointInfo endpointInfo = ServiceDiagnosticRules.checkNoEndpoints(
+                context.getEndpoints(), out.causes(), out.evidence(), out.actions());
+        context.setEndpointInfo(endpointInfo);
+
+        // Judged from the counts: subsets with no addresses at all add no cause but still mean no endpoints
+        if (endpointInfo.getReadyEndpoints() == 0) {
+            out.finding(endpointInfo.getNotReadyEndpoints() == 0
+                    ? FindingCode.NO_ENDPOINTS : FindingCode.NO_READY_ENDPOINTS);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.cache.ResourceFingerprint;
+import io.kubernetes.client.openapi.models.V1Pod;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index from pod label key=value to the set of pods carrying it.
+ * Built once per namespace snapshot; a selector resolves to the intersection of
+ * its entries' bitsets instead of a scan over every pod. Read-only after build,
+ * so a single index can be shared by concurrent service analyses.
+ */
+public final class PodLabelIndex {
+
+    private final List<V1Pod> pods;
+    private final Map<String, Map<String, BitSet>> postings;
+    private final BitSet labeledPods;
+    private final long fingerprint;
+
+    private PodLabelIndex(List<V1Pod> pods, Map<String, Map<String, BitSet>> postings, BitSet labeledPods) {
+        this.pods = pods;
+        this.postings = postings;
+        this.labeledPods = labeledPods;
+        this.fingerprint = ResourceFingerprint.of(pods);
+    }
+
+    /**
+     * Builds the index for a namespace's pods.
+     *
+     * @param pods Pods in the namespace; positions in this list are the bit positions
+     * @return PodLabelIndex over the given pods
+     */
+    public static PodLabelIndex build(List<V1Pod> pods) {
+        Map<String, Map<String, BitSet>> postings = new HashMap<>();
+        BitSet labeledPods = new BitSet(pods.size());
+
+        for (int i = 0; i < pods.size(); i++) {
+            V1Pod pod = pods.get(i);
+            if (pod.getMetadata() == null || pod.getMetadata().getLabels() == null) {
+                continue;
+            }
+            labeledPods.set(i);
+            for (Map.Entry<String, String> label : pod.getMetadata().getLabels().entrySet()) {
+                postings.computeIfAbsent(label.getKey(), k -> new HashMap<>())
+                        .computeIfAbsent(label.getValue(), v -> new BitSet())
+                        .set(i);
+            }
+        }
+
+        return new PodLabelIndex(pods, postings, labeledPods);
+    }
+
+    /**
+     * Resolves a service selector against the index.
+     * A null selector matches nothing; an empty selector matches every labeled pod.
+     *
+     * @param selector The service selector
+     * @return SelectorMatch for the selector
+     */
+    public SelectorMatch match(Map<String, String> selector) {
+        if (selector == null) {
+            return new SelectorMatch(new BitSet());
+        }
+
+        BitSet result = (BitSet) labeledPods.clone();
+        for (Map.Entry<String, String> entry : selector.entrySet()) {
+            Map<String, BitSet> values = postings.get(entry.getKey());
+            BitSet bits = values != null ? values.get(entry.getValue()) : null;
+            if (bits == null) {
+                return new SelectorMatch(new BitSet());
+            }
+            result.and(bits);
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return new SelectorMatch(result);
+    }
+
+    public List<V1Pod> getPods() {
+        return pods;
+    }
+
+    /** Fingerprint of the indexed pods; equal fingerprints mean the same pods at the same versions. */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Pods selected by one service selector, shared by every rule that needs them.
+     */
+    public final class SelectorMatch {
+
+        private final BitSet matched;
+        private List<V1Pod> matchingPods;
+
+        private SelectorMatch(BitSet matched) {
+            this.matched = matched;
+        }
+
+        public int getMatchCount() {
+            return matched.cardinality();
+        }
+
+        public int getTotalPods() {
+            return pods.size();
+        }
+
+        /** Matching pods in namespace list order. */
+        public List<V1Pod> getMatchingPods() {
+            if (matchingPods == null) {
+                List<V1Pod> list = new ArrayList<>(matched.cardinality());
+                for (int i = matched.nextSetBit(0); i >= 0; i = matched.nextSetBit(i + 1)) {
+                    list.add(pods.get(i));
+                }
+                matchingPods = Collections.unmodifiableList(list);
+            }
+            return matchingPods;
+        }
+
+        /**
+         * First labeled pods that the selector does not match, in namespace list order.
+         *
+         * @param limit Maximum number of pods to return
+         * @return List of non-matching labeled pods
+         */
+        public List<V1Pod> getNonMatchingPods(int limit) {
+            List<V1Pod> list = new ArrayList<>(limit);
+            for (int i = labeledPods.nextSetBit(0); i >= 0 && list.size() < limit; i = labeledPods.nextSetBit(i + 1)) {
+                if (!matched.get(i)) {
+                    list.add(pods.get(i));
+                }
+            }
+            return list;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.kubediagnose.rules;
+
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+
+/**
+ * A pod diagnostic rule driven by {@link PodRuleEngine}.
+ * The engine walks a pod's conditions and container statuses once and hands each
+ * element to every enabled rule; a rule only overrides the visits it cares about
+ * and declares them through {@link #inputs()}.
+ */
+public interface PodRule extends DiagnosticRule {
+
+    /**
+     * Called for each pod condition, before any container status.
+     *
+     * @param pod The pod being analyzed
+     * @param condition One of the pod's conditions
+     * @param out Output buffer owned by this rule
+     */
+    default void visitCondition(V1Pod pod, V1PodCondition condition, RuleOutput out) {
+    }
+
+    /**
+     * Called for each container status, in pod order.
+     *
+     * @param pod The pod being analyzed
+     * @param containerStatus One of the pod's container statuses
+     * @param out Output buffer owned by this rule
+     */
+    default void visitContainer(V1Pod pod, V1ContainerStatus containerStatus, RuleOutput out) {
+    }
+}
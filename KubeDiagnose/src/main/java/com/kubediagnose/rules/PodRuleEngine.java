@@ -0,0 +1,148 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.model.FindingCode;
+import com.kubediagnose.model.PodDiagnosticResult;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass evaluation of pod rules.
+ * Conditions and container statuses are visited once each and dispatched to every rule
+ * in the plan; restart totals and container status DTOs are collected in the same pass.
+ * Rule outputs are buffered per rule and concatenated in rule order, so results match
+ * running the per-pod checks in {@link PodDiagnosticRules} one after another.
+ */
+public final class PodRuleEngine {
+
+    private PodRuleEngine() {
+    }
+
+    /**
+     * Evaluates the plan's rules against the pod.
+     *
+     * @param pod The pod to evaluate
+     * @param plan Enabled rules for the pod's namespace
+     * @return Evaluation with merged rule output, total restarts and container statuses
+     */
+    public static Evaluation evaluate(V1Pod pod, RulePlan<PodRule> plan) {
+        return evaluate(pod, plan, null);
+    }
+
+    /**
+     * Evaluates the plan's rules against the pod, adding the time spent in each rule to {@code ruleNanos}.
+     *
+     * @param ruleNanos One slot per rule in {@code plan.getRules()} order; null to skip timing
+     */
+    public static Evaluation evaluate(V1Pod pod, RulePlan<PodRule> plan, long[] ruleNanos) {
+        return evaluate(pod, plan, ruleNanos, true);
+    }
+
+    /**
+     * Evaluates the plan's rules; without {@code detailed}, rules record findings only and no container
+     * status DTOs are built, so the evaluation has empty text lists and null container statuses.
+     */
+    public static Evaluation evaluate(V1Pod pod, RulePlan<PodRule> plan, long[] ruleNanos, boolean detailed) {
+        List<PodRule> rules = plan.getRules();
+        int ruleCount = rules.size();
+        RuleOutput[] outputs = new RuleOutput[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            outputs[i] = detailed ? new RuleOutput() : RuleOutput.findingsOnly();
+        }
+
+        int totalRestarts = 0;
+        List<PodDiagnosticResult.ContainerStatus> containerStatuses = detailed ? new ArrayList<>() : null;
+
+        if (pod.getStatus() != null) {
+            // Conditions are only walked when an enabled rule reads them
+            List<V1PodCondition> conditions = pod.getStatus().getConditions();
+            if (conditions != null && plan.needs(RuleInput.CONDITIONS)) {
+                for (V1PodCondition condition : conditions) {
+                    for (int i = 0; i < ruleCount; i++) {
+                        long start = ruleNanos != null ? System.nanoTime() : 0;
+                        rules.get(i).visitCondition(pod, condition, outputs[i]);
+                        if (ruleNanos != null) {
+                            ruleNanos[i] += System.nanoTime() - start;
+                        }
+                    }
+                }
+            }
+
+            // Container statuses are always walked for restart totals (and DTOs when detailed)
+            List<V1ContainerStatus> statuses = pod.getStatus().getContainerStatuses();
+            boolean visitContainers = plan.needs(RuleInput.CONTAINER_STATUSES);
+            if (statuses != null) {
+                for (V1ContainerStatus containerStatus : statuses) {
+                    if (visitContainers) {
+                        for (int i = 0; i < ruleCount; i++) {
+                            long start = ruleNanos != null ? System.nanoTime() : 0;
+                            rules.get(i).visitContainer(pod, containerStatus, outputs[i]);
+                            if (ruleNanos != null) {
+                                ruleNanos[i] += System.nanoTime() - start;
+                            }
+                        }
+                    }
+                    totalRestarts += containerStatus.getRestartCount();
+                    if (containerStatuses != null) {
+                        containerStatuses.add(PodDiagnosticRules.buildContainerStatus(containerStatus));
+                    }
+                }
+            }
+        }
+
+        Evaluation evaluation = new Evaluation(totalRestarts, containerStatuses);
+        for (RuleOutput output : outputs) {
+            evaluation.findings.addAll(output.findings());
+            if (detailed) {
+                evaluation.causes.addAll(output.causes());
+                evaluation.evidence.addAll(output.evidence());
+                evaluation.actions.addAll(output.actions());
+            }
+        }
+        return evaluation;
+    }
+
+    /**
+     * Merged result of one pod evaluation.
+     */
+    public static final class Evaluation {
+        private final List<FindingCode> findings = new ArrayList<>();
+        private final List<String> causes = new ArrayList<>();
+        private final List<String> evidence = new ArrayList<>();
+        private final List<String> actions = new ArrayList<>();
+        private final int totalRestarts;
+        private final List<PodDiagnosticResult.ContainerStatus> containerStatuses;
+
+        private Evaluation(int totalRestarts, List<PodDiagnosticResult.ContainerStatus> containerStatuses) {
+            this.totalRestarts = totalRestarts;
+            this.containerStatuses = containerStatuses;
+        }
+
+        public List<FindingCode> getFindings() {
+            return findings;
+        }
+
+        public List<String> getCauses() {
+            return causes;
+        }
+
+        public List<String> getEvidence() {
+            return evidence;
+        }
+
+        public List<String> getActions() {
+            return actions;
+        }
+
+        public int getTotalRestarts() {
+            return totalRestarts;
+        }
+
+        public List<PodDiagnosticResult.ContainerStatus> getContainerStatuses() {
+            return containerStatuses;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.model.FindingCode;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/** Service targetPort not exposed by the selected pods. */
+@Component
+@Order(30)
+public class PortMismatchRule implements ServiceRule {
+
+    @Override
+    public String id() {
+        return "port-mismatch";
+    }
+
+    @Override
+    public Set<RuleInput> inputs() {
+        return Set.of(RuleInput.PODS);
+    }
+
+    @Override
+    public void evaluate(ServiceRuleContext context, RuleOutput out) {
+        // Only meaningful when the selector matches some pods
+        PodLabelIndex.SelectorMatch match = context.getSelectorMatch();
+        if (match != null && match.getMatchCount() > 0) {
+            if (ServiceDiagnosticRules.checkPortMismatch(context.getService(), match.getMatchingPods(),
+                    out.causes(), out.evidence(), out.actions())) {
+                out.finding(FindingCode.PORT_MISMATCH);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.model.FindingCode;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/** Failing readiness probe (pod condition) or liveness probe kill (container status). */
+@Component
+@Order(40)
+public class ProbeFailureRule implements PodRule {
+
+    @Override
+    public String id() {
+        return "probe-failure";
+    }
+
+    @Override
+    public Set<RuleInput> inputs() {
+        return Set.of(RuleInput.CONDITIONS, RuleInput.CONTAINER_STATUSES);
+    }
+
+    @Override
+    public void visitCondition(V1Pod pod, V1PodCondition condition, RuleOutput out) {
+        if (PodDiagnosticRules.checkReadinessProbeCondition(condition, out.causes(), out.evidence(), out.actions())) {
+            out.finding(FindingCode.READINESS_PROBE_FAILING);
+        }
+    }
+
+    @Override
+    public void visitContainer(V1Pod pod, V1ContainerStatus containerStatus, RuleOutput out) {
+        if (PodDiagnosticRules.checkLivenessProbeKill(containerStatus, out.causes(), out.evidence(), out.actions())) {
+            out.finding(FindingCode.LIVENESS_PROBE_KILL);
+        }
+    }
+}
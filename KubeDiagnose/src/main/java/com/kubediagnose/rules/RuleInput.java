@@ -0,0 +1,18 @@
+package com.kubediagnose.rules;
+
+/**
+ * Data a rule reads. The rule plan unions these across enabled rules so the
+ * engine can skip visits and data fetches that no enabled rule needs.
+ */
+public enum RuleInput {
+    /** Pod conditions (pod rules). */
+    CONDITIONS,
+    /** Pod container statuses (pod rules). */
+    CONTAINER_STATUSES,
+    /** The service's Endpoints object (service rules). */
+    ENDPOINTS,
+    /** Pods in the service's namespace, for selector matching (service rules). */
+    PODS,
+    /** CoreDNS replica state from the background tracker (service rules). */
+    COREDNS
+}
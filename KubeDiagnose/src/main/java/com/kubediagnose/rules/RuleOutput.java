@@ -0,0 +1,62 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.model.FindingCode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Findings, causes, evidence and actions produced by one rule for one resource.
+ * Each rule gets its own buffer so outputs can be merged in rule order.
+ * A {@link #findingsOnly()} buffer has no text lists: {@link #causes()}, {@link #evidence()} and
+ * {@link #actions()} return null, and the checks in {@link PodDiagnosticRules} and
+ * {@link ServiceDiagnosticRules} skip building their text.
+ */
+public final class RuleOutput {
+
+    private final List<FindingCode> findings = new ArrayList<>();
+    private final List<String> causes;
+    private final List<String> evidence;
+    private final List<String> actions;
+
+    public RuleOutput() {
+        this(true);
+    }
+
+    private RuleOutput(boolean detailed) {
+        this.causes = detailed ? new ArrayList<>() : null;
+        this.evidence = detailed ? new ArrayList<>() : null;
+        this.actions = detailed ? new ArrayList<>() : null;
+    }
+
+    /** Buffer that records findings only, for tile views. */
+    public static RuleOutput findingsOnly() {
+        return new RuleOutput(false);
+    }
+
+    /** False for a {@link #findingsOnly()} buffer. */
+    public boolean isDetailed() {
+        return causes != null;
+    }
+
+    /** Records a structured finding; status is derived from these, not from the cause text. */
+    public void finding(FindingCode code) {
+        findings.add(code);
+    }
+
+    public List<FindingCode> findings() {
+        return findings;
+    }
+
+    public List<String> causes() {
+        return causes;
+    }
+
+    public List<String> evidence() {
+        return evidence;
+    }
+
+    public List<String> actions() {
+        return actions;
+    }
+}
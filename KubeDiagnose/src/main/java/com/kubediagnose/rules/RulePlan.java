@@ -0,0 +1,37 @@
+package com.kubediagnose.rules;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The enabled rules for one namespace and the union of the inputs they need.
+ * Compiled once by {@link RulePlanner} and reused for every request.
+ */
+public final class RulePlan<R extends DiagnosticRule> {
+
+    private final List<R> rules;
+    private final Set<RuleInput> inputs;
+
+    private RulePlan(List<R> rules, Set<RuleInput> inputs) {
+        this.rules = rules;
+        this.inputs = inputs;
+    }
+
+    public static <R extends DiagnosticRule> RulePlan<R> of(List<R> rules) {
+        Set<RuleInput> inputs = EnumSet.noneOf(RuleInput.class);
+        for (R rule : rules) {
+            inputs.addAll(rule.inputs());
+        }
+        return new RulePlan<>(List.copyOf(rules), inputs);
+    }
+
+    public List<R> getRules() {
+        return rules;
+    }
+
+    /** True if any enabled rule reads this input. */
+    public boolean needs(RuleInput input) {
+        return inputs.contains(input);
+    }
+}
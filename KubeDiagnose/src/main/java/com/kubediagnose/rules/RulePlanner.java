@@ -0,0 +1,73 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.config.RuleProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiles and memoizes per-namespace rule plans from the discovered rule beans
+ * and the {@code kubediagnose.rules} configuration.
+ */
+@Component
+public class RulePlanner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RulePlanner.class);
+
+    private final List<PodRule> podRules;
+    private final List<ServiceRule> serviceRules;
+    private final RuleProperties properties;
+    private final Map<String, RulePlan<PodRule>> podPlans = new ConcurrentHashMap<>();
+    private final Map<String, RulePlan<ServiceRule>> servicePlans = new ConcurrentHashMap<>();
+
+    public RulePlanner(List<PodRule> podRules, List<ServiceRule> serviceRules, RuleProperties properties) {
+        this.podRules = podRules;
+        this.serviceRules = serviceRules;
+        this.properties = properties;
+        warnUnknownRuleIds();
+        logger.info("Discovered {} pod rules and {} service rules", podRules.size(), serviceRules.size());
+    }
+
+    /** Enabled pod rules for a namespace. */
+    public RulePlan<PodRule> podPlan(String namespace) {
+        return podPlans.computeIfAbsent(key(namespace), ns -> compile(podRules, ns));
+    }
+
+    /** Enabled service rules for a namespace. */
+    public RulePlan<ServiceRule> servicePlan(String namespace) {
+        return servicePlans.computeIfAbsent(key(namespace), ns -> compile(serviceRules, ns));
+    }
+
+    private <R extends DiagnosticRule> RulePlan<R> compile(List<R> rules, String namespace) {
+        List<R> enabled = rules.stream()
+                .filter(rule -> properties.isEnabled(rule.id(), namespace))
+                .toList();
+        if (enabled.size() != rules.size()) {
+            logger.info("Rule plan for namespace '{}': {} of {} rules enabled", namespace, enabled.size(), rules.size());
+        }
+        return RulePlan.of(enabled);
+    }
+
+    private void warnUnknownRuleIds() {
+        Set<String> known = Stream.concat(podRules.stream(), serviceRules.stream())
+                .map(DiagnosticRule::id)
+                .collect(Collectors.toSet());
+        Stream.concat(properties.getDisabled().stream(),
+                      properties.getNamespaces().values().stream()
+                              .flatMap(ns -> Stream.concat(ns.getDisabled().stream(), ns.getEnabled().stream())))
+                .filter(id -> !known.contains(id))
+                .distinct()
+                .forEach(id -> logger.warn("Unknown rule id in kubediagnose.rules configuration: {}", id));
+    }
+
+    private static String key(String namespace) {
+        return namespace != null ? namespace : "";
+    }
+}
@@ -0,0 +1,31 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.model.FindingCode;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/** Service selector missing, empty, or matching no pods. */
+@Component
+@Order(10)
+public class SelectorMismatchRule implements ServiceRule {
+
+    @Override
+    public String id() {
+        return "selector-mismatch";
+    }
+
+    @Override
+    public Set<RuleInput> inputs() {
+        return Set.of(RuleInput.PODS);
+    }
+
+    @Override
+    public void evaluate(ServiceRuleContext context, RuleOutput out) {
+        if (ServiceDiagnosticRules.checkSelectorMismatch(
+                context.getService(), context.getSelectorMatch(), out.causes(), out.evidence(), out.actions())) {
+            out.finding(FindingCode.SELECTOR_MISMATCH);
+        }
+    }
+}
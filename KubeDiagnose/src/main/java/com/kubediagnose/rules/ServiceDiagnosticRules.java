@@ -8,6 +8,8 @@ import java.util.*;
 /**
  * Collection of diagnostic rules for Kubernetes Services.
  * Each rule checks for a specific networking or configuration issue.
+ * When the cause, evidence and action lists are null (a {@link RuleOutput#findingsOnly()} buffer),
+ * checks only report their outcome and build no text; endpoint addresses are then not listed either.
  */
 public class ServiceDiagnosticRules {
 
@@ -16,64 +18,50 @@ public class ServiceDiagnosticRules {
      * A selector mismatch means the service won't route traffic to any pods.
      *
      * @param service The service to check
-     * @param pods List of pods in the same namespace
+     * @param match Selector match resolved against the namespace's pod label index
      * @param causes List to add probable causes to
      * @param evidence List to add evidence to
      * @param actions List to add suggested actions to
      * @return true if there is a selector mismatch
      */
-    public static boolean checkSelectorMismatch(V1Service service, List<V1Pod> pods,
+    public static boolean checkSelectorMismatch(V1Service service, PodLabelIndex.SelectorMatch match,
                                                 List<String> causes, List<String> evidence,
                                                 List<String> actions) {
         if (service.getSpec() == null || service.getSpec().getSelector() == null) {
-            causes.add("Service has no selector defined");
-            evidence.add("Service spec has no selector");
-            actions.add("Add a selector to the service that matches target pod labels");
+            if (causes != null) {
+                causes.add("Service has no selector defined");
+                evidence.add("Service spec has no selector");
+                actions.add("Add a selector to the service that matches target pod labels");
+            }
             return true;
         }
 
         Map<String, String> selector = service.getSpec().getSelector();
         if (selector.isEmpty()) {
-            causes.add("Service has empty selector");
-            evidence.add("Service selector is empty: {}");
-            actions.add("Define pod labels in selector that match your target pods");
+            if (causes != null) {
+                causes.add("Service has empty selector");
+                evidence.add("Service selector is empty: {}");
+                actions.add("Define pod labels in selector that match your target pods");
+            }
             return true;
         }
 
-        // Count matching pods
-        int matchingPods = 0;
-        List<String> podLabelInfo = new ArrayList<>();
-
-        for (V1Pod pod : pods) {
-            if (pod.getMetadata() == null || pod.getMetadata().getLabels() == null) {
-                continue;
-            }
-
-            Map<String, String> podLabels = pod.getMetadata().getLabels();
-            boolean matches = selector.entrySet().stream()
-                    .allMatch(entry -> entry.getValue().equals(podLabels.get(entry.getKey())));
-
-            if (matches) {
-                matchingPods++;
-            } else {
-                // Collect info about non-matching pods for evidence
-                if (podLabelInfo.size() < 3) { // Limit evidence size
-                    podLabelInfo.add("Pod '" + pod.getMetadata().getName() +
-                                    "' labels: " + podLabels);
+        if (match.getMatchCount() == 0) {
+            if (causes != null) {
+                causes.add("Service selector does not match any pods");
+                evidence.add("Service selector: " + selector);
+                evidence.add("Total pods in namespace: " + match.getTotalPods());
+                evidence.add("Matching pods: 0");
+                // Limit evidence size to a few non-matching pods
+                for (V1Pod pod : match.getNonMatchingPods(3)) {
+                    evidence.add("Pod '" + pod.getMetadata().getName() +
+                                "' labels: " + pod.getMetadata().getLabels());
                 }
-            }
-        }
-
-        if (matchingPods == 0) {
-            causes.add("Service selector does not match any pods");
-            evidence.add("Service selector: " + selector);
-            evidence.add("Total pods in namespace: " + pods.size());
-            evidence.add("Matching pods: 0");
-            podLabelInfo.forEach(evidence::add);
 
-            actions.add("Verify the service selector labels match pod labels");
-            actions.add("Use 'kubectl get pods --show-labels' to see pod labels");
-            actions.add("Update service selector or pod labels to match");
+                actions.add("Verify the service selector labels match pod labels");
+                actions.add("Use 'kubectl get pods --show-labels' to see pod labels");
+                actions.add("Update service selector or pod labels to match");
+            }
             return true;
         }
 
@@ -95,16 +83,18 @@ public class ServiceDiagnosticRules {
                                                                         List<String> evidence,
                                                                         List<String> actions) {
         ServiceDiagnosticResult.EndpointInfo endpointInfo = new ServiceDiagnosticResult.EndpointInfo();
-        List<String> addresses = new ArrayList<>();
+        List<String> addresses = causes != null ? new ArrayList<>() : null;
         int readyCount = 0;
         int notReadyCount = 0;
 
         if (endpoints == null || endpoints.getSubsets() == null || endpoints.getSubsets().isEmpty()) {
-            causes.add("Service has no endpoints");
-            evidence.add("No endpoint subsets found for this service");
-            actions.add("Ensure pods matching the service selector are running");
-            actions.add("Check if pods are in Ready state");
-            actions.add("Verify service selector matches pod labels");
+            if (causes != null) {
+                causes.add("Service has no endpoints");
+                evidence.add("No endpoint subsets found for this service");
+                actions.add("Ensure pods matching the service selector are running");
+                actions.add("Check if pods are in Ready state");
+                actions.add("Verify service selector matches pod labels");
+            }
 
             endpointInfo.setReadyEndpoints(0);
             endpointInfo.setNotReadyEndpoints(0);
@@ -117,7 +107,9 @@ public class ServiceDiagnosticRules {
             if (subset.getAddresses() != null) {
                 for (V1EndpointAddress addr : subset.getAddresses()) {
                     readyCount++;
-                    addresses.add(addr.getIp() + " (Ready)");
+                    if (addresses != null) {
+                        addresses.add(addr.getIp() + " (Ready)");
+                    }
                 }
             }
 
@@ -125,12 +117,14 @@ public class ServiceDiagnosticRules {
             if (subset.getNotReadyAddresses() != null) {
                 for (V1EndpointAddress addr : subset.getNotReadyAddresses()) {
                     notReadyCount++;
-                    addresses.add(addr.getIp() + " (NotReady)");
+                    if (addresses != null) {
+                        addresses.add(addr.getIp() + " (NotReady)");
+                    }
                 }
             }
         }
 
-        if (readyCount == 0 && notReadyCount > 0) {
+        if (readyCount == 0 && notReadyCount > 0 && causes != null) {
             causes.add("Service has endpoints but none are ready");
             evidence.add("Ready endpoints: 0");
             evidence.add("Not ready endpoints: " + notReadyCount);
@@ -153,12 +147,13 @@ public class ServiceDiagnosticRules {
      * @param causes List to add probable causes to
      * @param evidence List to add evidence to
      * @param actions List to add suggested actions to
+     * @return true if any targetPort does not match a container port
      */
-    public static void checkPortMismatch(V1Service service, List<V1Pod> pods,
+    public static boolean checkPortMismatch(V1Service service, List<V1Pod> pods,
                                          List<String> causes, List<String> evidence,
                                          List<String> actions) {
         if (service.getSpec() == null || service.getSpec().getPorts() == null) {
-            return;
+            return false;
         }
 
         // Collect all container ports from matching pods
@@ -176,12 +171,13 @@ public class ServiceDiagnosticRules {
             }
         }
 
-        if (containerPorts.isEmpty() && !pods.isEmpty()) {
+        if (containerPorts.isEmpty() && !pods.isEmpty() && causes != null) {
             evidence.add("Warning: No container ports explicitly defined in pods");
             actions.add("Consider explicitly defining containerPort in pod spec for clarity");
         }
 
         // Check each service port's targetPort
+        boolean mismatch = false;
         for (V1ServicePort servicePort : service.getSpec().getPorts()) {
             Integer targetPort = null;
 
@@ -191,8 +187,10 @@ public class ServiceDiagnosticRules {
                     targetPort = servicePort.getTargetPort().getIntValue();
                 } else {
                     // Named port - we'd need to resolve it, skip for now
-                    evidence.add("Service uses named port '" + servicePort.getTargetPort().getStrValue() +
-                                "' - ensure pod has matching port name");
+                    if (causes != null) {
+                        evidence.add("Service uses named port '" + servicePort.getTargetPort().getStrValue() +
+                                    "' - ensure pod has matching port name");
+                    }
                     continue;
                 }
             } else {
@@ -201,53 +199,57 @@ public class ServiceDiagnosticRules {
             }
 
             if (!containerPorts.isEmpty() && !containerPorts.contains(targetPort)) {
-                causes.add("Service targetPort " + targetPort + " may not match any container port");
-                evidence.add("Service port " + servicePort.getPort() + " -> targetPort " + targetPort);
-                evidence.add("Container ports found: " + containerPorts);
+                if (causes != null) {
+                    causes.add("Service targetPort " + targetPort + " may not match any container port");
+                    evidence.add("Service port " + servicePort.getPort() + " -> targetPort " + targetPort);
+                    evidence.add("Container ports found: " + containerPorts);
 
-                actions.add("Verify service targetPort matches container port");
-                actions.add("Update service targetPort to match actual container port");
+                    actions.add("Verify service targetPort matches container port");
+                    actions.add("Update service targetPort to match actual container port");
+                }
+                mismatch = true;
             }
         }
+        return mismatch;
     }
 
     /**
      * Checks if CoreDNS is running in the cluster.
      * CoreDNS is essential for service discovery in Kubernetes.
      *
-     * @param coreDnsPods List of CoreDNS pods (typically in kube-system namespace)
+     * @param podCount Number of CoreDNS pods (typically in kube-system namespace)
+     * @param runningCount Number of those pods in phase Running
      * @param causes List to add probable causes to
      * @param evidence List to add evidence to
      * @param actions List to add suggested actions to
      * @return true if CoreDNS exists and is running
      */
-    public static boolean checkCoreDnsExists(List<V1Pod> coreDnsPods, List<String> causes,
+    public static boolean checkCoreDnsExists(int podCount, int runningCount, List<String> causes,
                                              List<String> evidence, List<String> actions) {
-        if (coreDnsPods == null || coreDnsPods.isEmpty()) {
-            causes.add("CoreDNS pods not found in kube-system namespace");
-            evidence.add("No pods with label 'k8s-app=kube-dns' found in kube-system");
-            actions.add("Check CoreDNS deployment: kubectl get deployment coredns -n kube-system");
-            actions.add("Verify DNS is configured correctly in the cluster");
-            return false;
-        }
-
-        int runningCount = 0;
-        for (V1Pod pod : coreDnsPods) {
-            if (pod.getStatus() != null && "Running".equals(pod.getStatus().getPhase())) {
-                runningCount++;
+        if (podCount == 0) {
+            if (causes != null) {
+                causes.add("CoreDNS pods not found in kube-system namespace");
+                evidence.add("No pods with label 'k8s-app=kube-dns' found in kube-system");
+                actions.add("Check CoreDNS deployment: kubectl get deployment coredns -n kube-system");
+                actions.add("Verify DNS is configured correctly in the cluster");
             }
+            return false;
         }
 
         if (runningCount == 0) {
-            causes.add("CoreDNS pods exist but none are running");
-            evidence.add("CoreDNS pods found: " + coreDnsPods.size());
-            evidence.add("Running CoreDNS pods: 0");
-            actions.add("Check CoreDNS pod status: kubectl get pods -n kube-system -l k8s-app=kube-dns");
-            actions.add("Check CoreDNS logs: kubectl logs -n kube-system -l k8s-app=kube-dns");
+            if (causes != null) {
+                causes.add("CoreDNS pods exist but none are running");
+                evidence.add("CoreDNS pods found: " + podCount);
+                evidence.add("Running CoreDNS pods: 0");
+                actions.add("Check CoreDNS pod status: kubectl get pods -n kube-system -l k8s-app=kube-dns");
+                actions.add("Check CoreDNS logs: kubectl logs -n kube-system -l k8s-app=kube-dns");
+            }
             return false;
         }
 
-        evidence.add("CoreDNS is running (" + runningCount + " pod(s))");
+        if (causes != null) {
+            evidence.add("CoreDNS is running (" + runningCount + " pod(s))");
+        }
         return true;
     }
 
@@ -0,0 +1,16 @@
+package com.kubediagnose.rules;
+
+/**
+ * A service diagnostic rule. Enabled rules run in bean order against a shared
+ * {@link ServiceRuleContext}, appending to one {@link RuleOutput}.
+ */
+public interface ServiceRule extends DiagnosticRule {
+
+    /**
+     * Evaluates the rule.
+     *
+     * @param context Inputs for the service and the structured results rules report back
+     * @param out Output buffer shared by the service's rules
+     */
+    void evaluate(ServiceRuleContext context, RuleOutput out);
+}
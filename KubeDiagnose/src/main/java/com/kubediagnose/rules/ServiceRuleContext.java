@@ -0,0 +1,64 @@
+package com.kubediagnose.rules;
+
+import com.kubediagnose.cache.CoreDnsTracker;
+import com.kubediagnose.model.ServiceDiagnosticResult;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1Service;
+
+/**
+ * Inputs for evaluating one service, plus endpoint and CoreDNS details rules report back.
+ * Inputs that no enabled rule needs are not fetched and are null here.
+ */
+public final class ServiceRuleContext {
+
+    private final V1Service service;
+    private final V1Endpoints endpoints;
+    private final PodLabelIndex.SelectorMatch selectorMatch;
+    private final CoreDnsTracker.Snapshot coreDns;
+
+    private ServiceDiagnosticResult.EndpointInfo endpointInfo;
+    private boolean coreDnsExists = true;
+
+    public ServiceRuleContext(V1Service service, V1Endpoints endpoints,
+                              PodLabelIndex.SelectorMatch selectorMatch, CoreDnsTracker.Snapshot coreDns) {
+        this.service = service;
+        this.endpoints = endpoints;
+        this.selectorMatch = selectorMatch;
+        this.coreDns = coreDns;
+    }
+
+    public V1Service getService() {
+        return service;
+    }
+
+    public V1Endpoints getEndpoints() {
+        return endpoints;
+    }
+
+    /** Selector match against the namespace's pods; null when pods were not fetched. */
+    public PodLabelIndex.SelectorMatch getSelectorMatch() {
+        return selectorMatch;
+    }
+
+    /** Tracked CoreDNS state; null when no enabled rule reads it. */
+    public CoreDnsTracker.Snapshot getCoreDns() {
+        return coreDns;
+    }
+
+    /** Endpoint details; null when the endpoints rule is disabled. */
+    public ServiceDiagnosticResult.EndpointInfo getEndpointInfo() {
+        return endpointInfo;
+    }
+
+    public void setEndpointInfo(ServiceDiagnosticResult.EndpointInfo endpointInfo) {
+        this.endpointInfo = endpointInfo;
+    }
+
+    public boolean isCoreDnsExists() {
+        return coreDnsExists;
+    }
+
+    public void setCoreDnsExists(boolean coreDnsExists) {
+        this.coreDnsExists = coreDnsExists;
+    }
+}
@@ -0,0 +1,22 @@
+package com.kubediagnose.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Bulk diagnostics whose inputs are already fetched; analysis runs while the stream is written.
+ * Fetch errors surface when the stream is created, before a streamed response is committed.
+ *
+ * @param <R> Per-resource result type
+ * @param <S> Summary record type
+ */
+@FunctionalInterface
+public interface BulkResultStream<R, S> {
+
+    /**
+     * Analyzes every resource, handing results to the sink a batch at a time.
+     *
+     * @param sink Receives results in list order
+     * @return Summary with severity counts (no per-resource results)
+     */
+    S writeTo(Consumer<R> sink);
+}
@@ -0,0 +1,74 @@
+package com.kubediagnose.service;
+
+import com.kubediagnose.model.ClusterDiagnosticResult;
+import com.kubediagnose.model.Severity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Per-namespace and cluster-wide severity tallies for cluster scans. Not thread-safe. */
+final class ClusterRollup {
+
+    private final Map<String, SeverityCounts> byNamespace = new HashMap<>();
+    private final SeverityCounts cluster = new SeverityCounts();
+
+    void add(String namespace, Severity severity) {
+        byNamespace.computeIfAbsent(namespace, ns -> new SeverityCounts()).add(severity);
+        cluster.add(severity);
+    }
+
+    /**
+     * Builds the cluster result. Namespaces are listed worst first (most critical, then most warnings).
+     *
+     * @param resourceType Summary resource type, e.g. "Pods (Cluster)"
+     * @param noun Plural resource noun for the summary message, e.g. "pods"
+     * @param results Results to list
+     * @param apiCalls API server requests made for the scan
+     */
+    <R> ClusterDiagnosticResult<R> build(String resourceType, String noun, List<R> results, int apiCalls) {
+        List<ClusterDiagnosticResult.NamespaceRollup> rollups = new ArrayList<>(byNamespace.size());
+        byNamespace.forEach((namespace, counts) -> {
+            ClusterDiagnosticResult.NamespaceRollup rollup = new ClusterDiagnosticResult.NamespaceRollup();
+            rollup.setNamespace(namespace);
+            rollup.setOverallHealth(counts.overallHealth());
+            rollup.setTotal(counts.getTotal());
+            rollup.setCriticalCount(counts.getCritical());
+            rollup.setWarningCount(counts.getWarning());
+            rollup.setHealthyCount(counts.getHealthy());
+            rollups.add(rollup);
+        });
+        rollups.sort(Comparator.comparingInt(ClusterDiagnosticResult.NamespaceRollup::getCriticalCount).reversed()
+                .thenComparing(Comparator.comparingInt(ClusterDiagnosticResult.NamespaceRollup::getWarningCount)
+                        .reversed())
+                .thenComparing(ClusterDiagnosticResult.NamespaceRollup::getNamespace));
+
+        ClusterDiagnosticResult<R> result = new ClusterDiagnosticResult<>();
+        result.setTotalNamespaces(rollups.size());
+        result.setTotalResources(cluster.getTotal());
+        result.setCriticalCount(cluster.getCritical());
+        result.setWarningCount(cluster.getWarning());
+        result.setHealthyCount(cluster.getHealthy());
+        result.setApiCalls(apiCalls);
+        result.setNamespaces(rollups);
+        result.setResults(results);
+
+        ClusterDiagnosticResult.Summary summary = new ClusterDiagnosticResult.Summary();
+        summary.setResourceType(resourceType);
+        summary.setOverallHealth(cluster.overallHealth());
+        if (cluster.getTotal() == 0) {
+            summary.setMessage(String.format("No %s found in the cluster.", noun));
+        } else if (cluster.getCritical() == 0 && cluster.getWarning() == 0) {
+            summary.setMessage(String.format("All %d %s across %d namespaces are healthy.",
+                                             cluster.getTotal(), noun, rollups.size()));
+        } else {
+            summary.setMessage(String.format("Cluster: %d %s across %d namespaces - %d critical, %d warning, %d healthy.",
+                                             cluster.getTotal(), noun, rollups.size(),
+                                             cluster.getCritical(), cluster.getWarning(), cluster.getHealthy()));
+        }
+        result.setSummary(summary);
+        return result;
+    }
+}
@@ -0,0 +1,437 @@
+package com.kubediagnose.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kubediagnose.analyzer.PodAnalyzer;
+import com.kubediagnose.cache.EndpointsCache;
+import com.kubediagnose.cache.PodCache;
+import com.kubediagnose.cache.ServiceCache;
+import com.kubediagnose.model.HealthChangeEvent;
+import com.kubediagnose.model.PodDiagnosticResult;
+import com.kubediagnose.model.ServiceDiagnosticResult;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Live health changes per namespace, pushed as server-sent events.
+ * Driven by the informer caches: each watch event re-analyzes only the object that changed
+ * (old and new versions), and an event is sent only if status or findings differ. A pod that
+ * appears, disappears or changes labels or ports also re-analyzes the services selecting it.
+ * Nothing is analyzed for namespaces without subscribers.
+ * Events are queued per client and written by sender threads, so a slow client never holds up
+ * analysis or other clients; a client whose queue fills up is disconnected.
+ */
+@Service
+public class HealthStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthStreamService.class);
+
+    private static final long HEARTBEAT_SECONDS = 30;
+
+    // Events waiting for one client; about 2 hours of heartbeats, or a burst of changes
+    private static final int MAX_QUEUED_EVENTS = 256;
+
+    private final PodAnalyzer podAnalyzer;
+    private final ServiceDebugService serviceDebugService;
+    private final PodCache podCache;
+    private final ServiceCache serviceCache;
+    private final EndpointsCache endpointsCache;
+    private final ObjectWriter writer;
+    private final long timeoutMillis;
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    // Single thread: keeps analysis off the informer threads and events in watch order
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "health-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Writes to clients; at most one task per subscriber at a time, so threads never exceed subscribers
+    private final ExecutorService senders = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "health-stream-send");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HealthStreamService(PodAnalyzer podAnalyzer, ServiceDebugService serviceDebugService,
+                               PodCache podCache, ServiceCache serviceCache, EndpointsCache endpointsCache,
+                               ObjectMapper objectMapper,
+                               @Value("${kubediagnose.stream.timeout-seconds:1800}") long timeoutSeconds) {
+        this.podAnalyzer = podAnalyzer;
+        this.serviceDebugService = serviceDebugService;
+        this.podCache = podCache;
+        this.serviceCache = serviceCache;
+        this.endpointsCache = endpointsCache;
+        // SSE data must be a single line
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+
+        podCache.addEventHandler(new PodHandler());
+        serviceCache.addEventHandler(new ServiceHandler());
+        endpointsCache.addEventHandler(new EndpointsHandler());
+        dispatcher.scheduleAtFixedRate(this::heartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /** Whether live updates can be served (they need the pod, service and endpoints informers). */
+    public boolean isAvailable() {
+        return podCache.isEnabled() && serviceCache.isEnabled() && endpointsCache.isEnabled();
+    }
+
+    /** Opens a stream of health changes for a namespace. */
+    public SseEmitter subscribe(String namespace) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(namespace, emitter);
+        subscribers.compute(namespace, (ns, set) -> {
+            Set<Subscriber> current = set != null ? set : new CopyOnWriteArraySet<>();
+            current.add(subscriber);
+            return current;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        logger.debug("Health stream subscriber added for namespace: {}", namespace);
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.namespace, (ns, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private boolean watched(String namespace) {
+        return namespace != null && subscribers.containsKey(namespace);
+    }
+
+    private void dispatch(Runnable task) {
+        dispatcher.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.warn("Failed to process health change: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void publishPod(String type, V1Pod pod, PodDiagnosticResult previous, PodDiagnosticResult current) {
+        HealthChangeEvent event = new HealthChangeEvent(type, "Pod",
+                pod.getMetadata().getNamespace(), pod.getMetadata().getName());
+        event.setStatus(current != null ? current.getStatus() : null);
+        event.setPreviousStatus(previous != null ? previous.getStatus() : null);
+        event.setResult(current);
+        publish(event);
+    }
+
+    private void publishService(String type, V1Service service,
+                                ServiceDiagnosticResult previous, ServiceDiagnosticResult current) {
+        HealthChangeEvent event = new HealthChangeEvent(type, "Service",
+                service.getMetadata().getNamespace(), service.getMetadata().getName());
+        event.setStatus(current != null ? current.getStatus() : null);
+        event.setPreviousStatus(previous != null ? previous.getStatus() : null);
+        event.setResult(current);
+        publish(event);
+    }
+
+    private void publish(HealthChangeEvent event) {
+        Set<Subscriber> namespaceSubscribers = subscribers.get(event.getNamespace());
+        if (namespaceSubscribers == null) {
+            return;
+        }
+
+        String data;
+        try {
+            data = writer.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize health change for {}/{}: {}",
+                        event.getNamespace(), event.getName(), e.getMessage());
+            return;
+        }
+
+        for (Subscriber subscriber : namespaceSubscribers) {
+            subscriber.enqueue(SseEmitter.event().name(event.getType()).data(data));
+        }
+    }
+
+    /** Keeps idle connections open through proxies and drops clients that have gone away. */
+    private void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(
+                subscriber -> subscriber.enqueue(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    /**
+     * Re-analyzes the services selecting a pod against the namespace's pods before and after the change.
+     * The cache already holds {@code after}, so the earlier state is the cached pods with {@code before}
+     * in its place.
+     */
+    private void compareSelectingServices(V1Pod before, V1Pod after) {
+        V1Pod any = after != null ? after : before;
+        String namespace = any.getMetadata().getNamespace();
+        List<V1Service> selecting = serviceCache.list(namespace).stream()
+                .filter(service -> selects(service, before) || selects(service, after))
+                .toList();
+        if (selecting.isEmpty()) {
+            return;
+        }
+
+        List<V1Pod> current = podCache.list(namespace);
+        List<V1Pod> previous = new ArrayList<>(current.size() + 1);
+        String uid = any.getMetadata().getUid();
+        for (V1Pod pod : current) {
+            if (!Objects.equals(uid, pod.getMetadata().getUid())) {
+                previous.add(pod);
+            }
+        }
+        if (before != null) {
+            previous.add(before);
+        }
+
+        for (V1Service service : selecting) {
+            ServiceDiagnosticResult previousResult = serviceDebugService.analyzeWithPods(service, previous);
+            ServiceDiagnosticResult currentResult = serviceDebugService.analyzeWithPods(service, current);
+            if (changed(previousResult, currentResult)) {
+                publishService(HealthChangeEvent.CHANGED, service, previousResult, currentResult);
+            }
+        }
+    }
+
+    private static boolean selects(V1Service service, V1Pod pod) {
+        if (pod == null || service.getSpec() == null || pod.getMetadata().getLabels() == null) {
+            return false;
+        }
+        Map<String, String> selector = service.getSpec().getSelector();
+        return selector != null && !selector.isEmpty()
+                && pod.getMetadata().getLabels().entrySet().containsAll(selector.entrySet());
+    }
+
+    /** Whether an update can change service findings: selection reads labels, port rules read container ports. */
+    private static boolean selectionChanged(V1Pod oldPod, V1Pod newPod) {
+        return !Objects.equals(oldPod.getMetadata().getLabels(), newPod.getMetadata().getLabels())
+                || !Objects.equals(containerPorts(oldPod), containerPorts(newPod));
+    }
+
+    private static List<List<V1ContainerPort>> containerPorts(V1Pod pod) {
+        if (pod.getSpec() == null || pod.getSpec().getContainers() == null) {
+            return List.of();
+        }
+        List<List<V1ContainerPort>> ports = new ArrayList<>();
+        pod.getSpec().getContainers().forEach(container -> ports.add(container.getPorts()));
+        return ports;
+    }
+
+    private static boolean changed(PodDiagnosticResult previous, PodDiagnosticResult current) {
+        return previous.getSeverity() != current.getSeverity()
+                || !previous.getFindings().equals(current.getFindings());
+    }
+
+    private static boolean changed(ServiceDiagnosticResult previous, ServiceDiagnosticResult current) {
+        return previous.getSeverity() != current.getSeverity()
+                || !previous.getFindings().equals(current.getFindings());
+    }
+
+    private class PodHandler implements ResourceEventHandler<V1Pod> {
+
+        @Override
+        public void onAdd(V1Pod pod) {
+            // Adds during the initial list are the cache filling up, not changes
+            if (podCache.isReady() && watched(pod.getMetadata().getNamespace())) {
+                dispatch(() -> {
+                    publishPod(HealthChangeEvent.ADDED, pod, null, podAnalyzer.analyze(pod));
+                    compareSelectingServices(null, pod);
+                });
+            }
+        }
+
+        @Override
+        public void onUpdate(V1Pod oldPod, V1Pod newPod) {
+            if (watched(newPod.getMetadata().getNamespace())) {
+                dispatch(() -> {
+                    PodDiagnosticResult previous = podAnalyzer.analyze(oldPod);
+                    PodDiagnosticResult current = podAnalyzer.analyze(newPod);
+                    if (changed(previous, current)) {
+                        publishPod(HealthChangeEvent.CHANGED, newPod, previous, current);
+                    }
+                    if (selectionChanged(oldPod, newPod)) {
+                        compareSelectingServices(oldPod, newPod);
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void onDelete(V1Pod pod, boolean deletedFinalStateUnknown) {
+            if (watched(pod.getMetadata().getNamespace())) {
+                dispatch(() -> {
+                    publishPod(HealthChangeEvent.DELETED, pod, null, null);
+                    compareSelectingServices(pod, null);
+                });
+            }
+        }
+    }
+
+    private class ServiceHandler implements ResourceEventHandler<V1Service> {
+
+        @Override
+        public void onAdd(V1Service service) {
+            if (serviceCache.isReady() && watched(service.getMetadata().getNamespace())) {
+                dispatch(() -> publishService(HealthChangeEvent.ADDED, service, null,
+                        serviceDebugService.analyzeWithEndpoints(service, currentEndpoints(service))));
+            }
+        }
+
+        @Override
+        public void onUpdate(V1Service oldService, V1Service newService) {
+            if (watched(newService.getMetadata().getNamespace())) {
+                dispatch(() -> {
+                    V1Endpoints endpoints = currentEndpoints(newService);
+                    ServiceDiagnosticResult previous = serviceDebugService.analyzeWithEndpoints(oldService, endpoints);
+                    ServiceDiagnosticResult current = serviceDebugService.analyzeWithEndpoints(newService, endpoints);
+                    if (changed(previous, current)) {
+                        publishService(HealthChangeEvent.CHANGED, newService, previous, current);
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void onDelete(V1Service service, boolean deletedFinalStateUnknown) {
+            if (watched(service.getMetadata().getNamespace())) {
+                dispatch(() -> publishService(HealthChangeEvent.DELETED, service, null, null));
+            }
+        }
+
+        private V1Endpoints currentEndpoints(V1Service service) {
+            return endpointsCache.get(service.getMetadata().getNamespace(), service.getMetadata().getName());
+        }
+    }
+
+    /**
+     * Endpoints changes are how pod readiness and selection reach a service; the service is
+     * re-analyzed against the endpoints before and after the change.
+     */
+    private class EndpointsHandler implements ResourceEventHandler<V1Endpoints> {
+
+        @Override
+        public void onAdd(V1Endpoints endpoints) {
+            if (endpointsCache.isReady()) {
+                compare(null, endpoints);
+            }
+        }
+
+        @Override
+        public void onUpdate(V1Endpoints oldEndpoints, V1Endpoints newEndpoints) {
+            compare(oldEndpoints, newEndpoints);
+        }
+
+        @Override
+        public void onDelete(V1Endpoints endpoints, boolean deletedFinalStateUnknown) {
+            compare(endpoints, null);
+        }
+
+        private void compare(V1Endpoints before, V1Endpoints after) {
+            V1Endpoints any = after != null ? after : before;
+            String namespace = any.getMetadata().getNamespace();
+            if (!watched(namespace)) {
+                return;
+            }
+            dispatch(() -> {
+                V1Service service = serviceCache.get(namespace, any.getMetadata().getName());
+                if (service == null) {
+                    return;
+                }
+                ServiceDiagnosticResult previous = serviceDebugService.analyzeWithEndpoints(service, before);
+                ServiceDiagnosticResult current = serviceDebugService.analyzeWithEndpoints(service, after);
+                if (changed(previous, current)) {
+                    publishService(HealthChangeEvent.CHANGED, service, previous, current);
+                }
+            });
+        }
+    }
+
+    /** One client: events queue here and a sender thread writes them, never the dispatcher. */
+    private final class Subscriber {
+
+        private final String namespace;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(MAX_QUEUED_EVENTS);
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(String namespace, SseEmitter emitter) {
+            this.namespace = namespace;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                // Not keeping up: drop the client; complete() waits for any send in progress, so not here
+                logger.info("Health stream client in namespace {} is too slow, disconnecting", namespace);
+                unsubscribe(this);
+                senders.execute(emitter::complete);
+                return;
+            }
+            scheduleSend();
+        }
+
+        private void scheduleSend() {
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::sendQueued);
+            }
+        }
+
+        private void sendQueued() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; the emitter callbacks may not fire for a broken connection
+                unsubscribe(this);
+                queue.clear();
+                return;
+            } finally {
+                sending.set(false);
+            }
+            // An event queued after the last poll but before the flag was cleared
+            if (!queue.isEmpty()) {
+                scheduleSend();
+            }
+        }
+    }
+}
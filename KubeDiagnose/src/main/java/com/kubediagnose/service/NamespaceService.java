@@ -1,8 +1,9 @@
 package com.kubediagnose.service;
 
+import com.kubediagnose.cache.NamespaceCache;
+import com.kubediagnose.client.CoreReader;
 import com.kubediagnose.model.NamespaceListResponse;
 import io.kubernetes.client.openapi.ApiException;
-import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import org.slf4j.Logger;
@@ -20,17 +21,28 @@ public class NamespaceService {
 
     private static final Logger logger = LoggerFactory.getLogger(NamespaceService.class);
 
-    private final CoreV1Api coreV1Api;
+    private final CoreReader coreReader;
+    private final NamespaceCache namespaceCache;
 
-    public NamespaceService(CoreV1Api coreV1Api) {
-        this.coreV1Api = coreV1Api;
+    public NamespaceService(CoreReader coreReader, NamespaceCache namespaceCache) {
+        this.coreReader = coreReader;
+        this.namespaceCache = namespaceCache;
     }
 
-    /** List namespaces sorted alphabetically. */
-    public NamespaceListResponse listNamespaces() throws ApiException {
+    /**
+     * List namespaces sorted alphabetically, optionally only those starting with {@code prefix}.
+     * Served from the watched namespace catalog once synced, from the API server before that.
+     */
+    public NamespaceListResponse listNamespaces(String prefix) throws ApiException {
+        if (namespaceCache.isReady()) {
+            List<String> namespaceNames = namespaceCache.names(prefix);
+            logger.debug("Serving {} namespaces from cache", namespaceNames.size());
+            return new NamespaceListResponse(namespaceNames);
+        }
+
         logger.info("Fetching all namespaces from cluster");
 
-        V1NamespaceList namespaceList = coreV1Api.listNamespace().execute();
+        V1NamespaceList namespaceList = coreReader.listNamespaces();
 
         List<V1Namespace> namespaces = namespaceList.getItems() != null
                 ? namespaceList.getItems()
@@ -39,6 +51,7 @@ public class NamespaceService {
         List<String> namespaceNames = namespaces.stream()
                 .map(ns -> ns.getMetadata() != null ? ns.getMetadata().getName() : null)
                 .filter(name -> name != null)
+                .filter(name -> prefix == null || name.startsWith(prefix))
                 .sorted(Comparator.naturalOrder())
                 .collect(Collectors.toList());
 
@@ -0,0 +1,96 @@
+package com.kubediagnose.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for paged bulk diagnostics: the Kubernetes continue token plus the
+ * totals accumulated over the pages already returned, so counts carry across pages
+ * without server-side state. Any instance accepts a cursor issued by another, or before a restart.
+ * The carried totals are not protected; they only sum results the client has already received.
+ */
+final class PageCursor {
+
+    static final PageCursor FIRST = new PageCursor(null, 0, 0, 0, 0);
+
+    /** Page size when a cursor is given without a limit. */
+    static final int DEFAULT_LIMIT = 500;
+
+    /** Largest page served; bigger limits are lowered to this. */
+    static final int MAX_LIMIT = 1000;
+
+    private static final String VERSION = "v1";
+
+    private final String continueToken;
+    private final int analyzed;
+    private final int critical;
+    private final int warning;
+    private final int healthy;
+
+    private PageCursor(String continueToken, int analyzed, int critical, int warning, int healthy) {
+        this.continueToken = continueToken;
+        this.analyzed = analyzed;
+        this.critical = critical;
+        this.warning = warning;
+        this.healthy = healthy;
+    }
+
+    /** Page size for a requested limit: the default when null, at most {@link #MAX_LIMIT}. */
+    static int pageSize(Integer limit) {
+        return limit != null ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+    }
+
+    /**
+     * Parses a cursor returned by a previous page.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    static PageCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // The continue token goes last; it is opaque and may itself contain the separator
+            String[] parts = decoded.split(":", 6);
+            if (parts.length != 6 || !VERSION.equals(parts[0]) || parts[5].isEmpty()) {
+                throw new IllegalArgumentException("Invalid continue cursor");
+            }
+            return new PageCursor(parts[5], count(parts[1]), count(parts[2]), count(parts[3]), count(parts[4]));
+        } catch (IllegalArgumentException e) {
+            // Also covers bad base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid continue cursor", e);
+        }
+    }
+
+    private static int count(String value) {
+        int count = Integer.parseInt(value);
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid continue cursor");
+        }
+        return count;
+    }
+
+    /** Cursor for the page after this one, or null when Kubernetes reports no more pages. */
+    String next(String nextContinueToken, int pageSize, SeverityCounts totals) {
+        if (nextContinueToken == null || nextContinueToken.isEmpty()) {
+            return null;
+        }
+        String raw = String.join(":", VERSION, String.valueOf(analyzed + pageSize),
+                                 String.valueOf(totals.getCritical()), String.valueOf(totals.getWarning()),
+                                 String.valueOf(totals.getHealthy()), nextContinueToken);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Kubernetes continue token for this page; null for the first page. */
+    String getContinueToken() {
+        return continueToken;
+    }
+
+    /** Resources analyzed on earlier pages. */
+    int getAnalyzed() {
+        return analyzed;
+    }
+
+    /** Counts seeded with the totals from earlier pages. */
+    SeverityCounts startingCounts() {
+        return new SeverityCounts(critical, warning, healthy);
+    }
+}
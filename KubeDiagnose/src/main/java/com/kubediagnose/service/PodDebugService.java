@@ -1,10 +1,18 @@
 package com.kubediagnose.service;
 
+import com.kubediagnose.client.CoreReader;
+import com.kubediagnose.analyzer.BulkAnalysisExecutor;
 import com.kubediagnose.analyzer.PodAnalyzer;
+import com.kubediagnose.cache.PodCache;
+import com.kubediagnose.metrics.DiagnosticMetrics;
 import com.kubediagnose.model.BulkPodDiagnosticResult;
+import com.kubediagnose.model.ClusterDiagnosticResult;
 import com.kubediagnose.model.PodDiagnosticResult;
+import com.kubediagnose.model.ResultView;
+import com.kubediagnose.model.Severity;
+import com.kubediagnose.rules.DiagnosticRule;
+import com.kubediagnose.rules.RulePlanner;
 import io.kubernetes.client.openapi.ApiException;
-import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
 import org.slf4j.Logger;
@@ -14,6 +22,7 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /** Pod debug service. */
 @Service
@@ -21,20 +30,31 @@ public class PodDebugService {
 
     private static final Logger logger = LoggerFactory.getLogger(PodDebugService.class);
 
-    private final CoreV1Api coreV1Api;
+    private final CoreReader coreReader;
     private final PodAnalyzer podAnalyzer;
-
-    public PodDebugService(CoreV1Api coreV1Api, PodAnalyzer podAnalyzer) {
-        this.coreV1Api = coreV1Api;
+    private final PodCache podCache;
+    private final BulkAnalysisExecutor bulkAnalysisExecutor;
+    private final RequestCoalescer requestCoalescer;
+    private final RulePlanner rulePlanner;
+    private final DiagnosticMetrics metrics;
+
+    public PodDebugService(CoreReader coreReader, PodAnalyzer podAnalyzer, PodCache podCache,
+                           BulkAnalysisExecutor bulkAnalysisExecutor, RequestCoalescer requestCoalescer,
+                           RulePlanner rulePlanner, DiagnosticMetrics metrics) {
+        this.coreReader = coreReader;
         this.podAnalyzer = podAnalyzer;
+        this.podCache = podCache;
+        this.bulkAnalysisExecutor = bulkAnalysisExecutor;
+        this.requestCoalescer = requestCoalescer;
+        this.rulePlanner = rulePlanner;
+        this.metrics = metrics;
     }
 
-    /** Debug a single pod. */
-    public PodDiagnosticResult debugPod(String namespace, String podName) throws ApiException {
+    /** Debug a single pod; {@code view} is tile when only tile fields were requested. */
+    public PodDiagnosticResult debugPod(String namespace, String podName, ResultView view) throws ApiException {
         logger.info("Starting debug for pod: {}/{}", namespace, podName);
 
-        V1Pod pod = coreV1Api.readNamespacedPod(podName, namespace)
-                .execute();
+        V1Pod pod = fetchPod(namespace, podName);
 
         if (pod == null) {
             throw new ApiException(404, "Pod not found: " + namespace + "/" + podName);
@@ -42,7 +62,7 @@ public class PodDebugService {
 
         logger.debug("Successfully fetched pod: {}/{}", namespace, podName);
 
-        PodDiagnosticResult result = podAnalyzer.analyze(pod);
+        PodDiagnosticResult result = podAnalyzer.analyze(pod, view);
 
         logger.info("Debug complete for pod: {}/{}. Status: {}",
                     namespace, podName, result.getStatus());
@@ -50,81 +70,242 @@ public class PodDebugService {
         return result;
     }
 
-    /** Debug all pods in a namespace. */
-    public BulkPodDiagnosticResult debugAllPods(String namespace) throws ApiException {
-        logger.info("Starting bulk debug for all pods in namespace: {}", namespace);
+    /**
+     * ETag for {@link #debugAllPods} from the resourceVersions of the namespace's pods, the enabled rules and
+     * the view, computed without analysis. Null while the pod cache is not synced (no cheap way to tell).
+     */
+    public String bulkETag(String namespace, ResultView view) {
+        if (!podCache.isReady()) {
+            return null;
+        }
+        int rules = rulePlanner.podPlan(namespace).getRules().stream().map(DiagnosticRule::id).toList().hashCode();
+        return "W/\"pods-" + Long.toHexString(podCache.fingerprint(namespace)) + "-" + Integer.toHexString(rules)
+                + (view == ResultView.TILE ? "-tile" : "") + "\"";
+    }
 
-        V1PodList podList = coreV1Api.listNamespacedPod(namespace).execute();
+    /** Debug all pods in a namespace. Identical concurrent requests (same view) share one run. */
+    public BulkPodDiagnosticResult debugAllPods(String namespace, ResultView view) throws ApiException {
+        String key = "pods/" + namespace + (view == ResultView.TILE ? "?view=tile" : "");
+        return requestCoalescer.execute(key, () -> analyzeAllPods(namespace, view));
+    }
+
+    private BulkPodDiagnosticResult analyzeAllPods(String namespace, ResultView view) throws ApiException {
+        logger.info("Starting bulk debug for all pods in namespace: {}", namespace);
 
-        List<V1Pod> pods = podList.getItems() != null ? podList.getItems() : new ArrayList<>();
+        long stageStart = System.nanoTime();
+        List<V1Pod> pods = fetchPods(namespace);
+        metrics.recordStage("pods", "fetch", stageStart);
         logger.debug("Found {} pods in namespace: {}", pods.size(), namespace);
 
-        List<PodDiagnosticResult> results = new ArrayList<>();
-        int criticalCount = 0;
-        int warningCount = 0;
-        int healthyCount = 0;
-
-        for (V1Pod pod : pods) {
-            try {
-                String podName = pod.getMetadata() != null ? pod.getMetadata().getName() : "unknown";
-                logger.debug("Analyzing pod: {}", podName);
-
-                PodDiagnosticResult result = podAnalyzer.analyze(pod);
-                results.add(result);
-
-                switch (result.getStatus()) {
-                    case "Critical" -> criticalCount++;
-                    case "Warning" -> warningCount++;
-                    case "Healthy", "Completed" -> healthyCount++;
-                    default -> warningCount++;
-                }
-            } catch (Exception e) {
-                String podName = pod.getMetadata() != null ? pod.getMetadata().getName() : "unknown";
-                logger.warn("Failed to analyze pod {}: {}", podName, e.getMessage());
-
-                PodDiagnosticResult errorResult = createErrorResult(pod, e);
-                results.add(errorResult);
-                criticalCount++;
-            }
+        return analyzePods(namespace, pods, view);
+    }
+
+    /**
+     * Analyze pods the caller already holds as one namespace's bulk result, without any API call.
+     * Used for offline snapshots; the live bulk path goes through here after fetching.
+     */
+    public BulkPodDiagnosticResult analyzePods(String namespace, List<V1Pod> pods, ResultView view) {
+        long stageStart = System.nanoTime();
+        List<PodDiagnosticResult> results = bulkAnalysisExecutor.analyzeAll(
+                pods, pod -> podAnalyzer.analyze(pod, view), this::onAnalysisError);
+        metrics.recordStage("pods", "analyze", stageStart);
+
+        stageStart = System.nanoTime();
+        SeverityCounts counts = new SeverityCounts();
+        for (PodDiagnosticResult result : results) {
+            counts.add(result.getSeverity());
         }
 
-        results.sort(Comparator.comparingInt(this::getSeverityOrder));
+        results.sort(Comparator.comparingInt(result -> result.getSeverity().getSortOrder()));
+        metrics.recordStage("pods", "sort", stageStart);
 
-        BulkPodDiagnosticResult bulkResult = new BulkPodDiagnosticResult();
-        bulkResult.setNamespace(namespace);
-        bulkResult.setTotalPods(pods.size());
-        bulkResult.setCriticalCount(criticalCount);
-        bulkResult.setWarningCount(warningCount);
-        bulkResult.setHealthyCount(healthyCount);
+        BulkPodDiagnosticResult bulkResult = buildBulkResult(namespace, pods.size(), counts);
         bulkResult.setResults(results);
 
-        BulkPodDiagnosticResult.Summary summary = buildBulkSummary(namespace, pods.size(),
-                                                                    criticalCount, warningCount, healthyCount);
-        bulkResult.setSummary(summary);
-
         logger.info("Bulk debug complete for namespace: {}. Total: {}, Critical: {}, Warning: {}, Healthy: {}",
-                    namespace, pods.size(), criticalCount, warningCount, healthyCount);
+                    namespace, pods.size(), counts.getCritical(), counts.getWarning(), counts.getHealthy());
 
         return bulkResult;
     }
 
-    /** Severity order for sorting (lower = more severe). */
-    private int getSeverityOrder(PodDiagnosticResult result) {
-        return switch (result.getStatus()) {
-            case "Critical" -> 0;
-            case "Warning" -> 1;
-            case "Healthy" -> 2;
-            case "Completed" -> 3;
-            default -> 1;
+    /**
+     * Debug every pod in the cluster with a single cluster-wide list, rolling counts up per namespace.
+     *
+     * Identical concurrent requests share one run.
+     *
+     * @param includeHealthy Also list healthy and completed pods (rollups always count them)
+     * @param view Full results or tile rows
+     */
+    public ClusterDiagnosticResult<PodDiagnosticResult> debugClusterPods(boolean includeHealthy, ResultView view)
+            throws ApiException {
+        String key = "pods/*?includeHealthy=" + includeHealthy + (view == ResultView.TILE ? "&view=tile" : "");
+        return requestCoalescer.execute(key, () -> analyzeClusterPods(includeHealthy, view));
+    }
+
+    private ClusterDiagnosticResult<PodDiagnosticResult> analyzeClusterPods(boolean includeHealthy, ResultView view)
+            throws ApiException {
+        logger.info("Starting cluster-wide pod debug");
+
+        AtomicInteger apiCalls = new AtomicInteger();
+        long stageStart = System.nanoTime();
+        List<V1Pod> pods = fetchAllPods(apiCalls);
+        metrics.recordStage("cluster-pods", "fetch", stageStart);
+        logger.debug("Found {} pods across all namespaces", pods.size());
+
+        stageStart = System.nanoTime();
+        List<PodDiagnosticResult> results =
+                bulkAnalysisExecutor.analyzeAll(pods, pod -> podAnalyzer.analyze(pod, view), this::onAnalysisError);
+        metrics.recordStage("cluster-pods", "analyze", stageStart);
+
+        stageStart = System.nanoTime();
+        ClusterRollup rollup = new ClusterRollup();
+        List<PodDiagnosticResult> listed = new ArrayList<>();
+        for (PodDiagnosticResult result : results) {
+            rollup.add(result.getNamespace(), result.getSeverity());
+            if (includeHealthy || needsAttention(result.getSeverity())) {
+                listed.add(result);
+            }
+        }
+        listed.sort(Comparator.comparingInt(result -> result.getSeverity().getSortOrder()));
+
+        ClusterDiagnosticResult<PodDiagnosticResult> clusterResult =
+                rollup.build("Pods (Cluster)", "pods", listed, apiCalls.get());
+        metrics.recordStage("cluster-pods", "sort", stageStart);
+
+        logger.info("Cluster-wide pod debug complete. Namespaces: {}, Total: {}, Critical: {}, Warning: {}",
+                    clusterResult.getTotalNamespaces(), clusterResult.getTotalResources(),
+                    clusterResult.getCriticalCount(), clusterResult.getWarningCount());
+
+        return clusterResult;
+    }
+
+    /**
+     * Debug one page of pods, using Kubernetes list pagination ({@code limit}/{@code continue}).
+     * Counts and totals in the result are cumulative over all pages so far.
+     *
+     * @param limit Page size; defaults when null, capped at {@link PageCursor#MAX_LIMIT}
+     * @param cursor {@code nextCursor} from the previous page; null for the first page
+     * @param view Full results or tile rows
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public BulkPodDiagnosticResult debugPodsPage(String namespace, Integer limit, String cursor, ResultView view)
+            throws ApiException {
+        PageCursor from = cursor != null ? PageCursor.decode(cursor) : PageCursor.FIRST;
+        int pageSize = PageCursor.pageSize(limit);
+        logger.info("Starting paged debug for pods in namespace: {} (limit {}, after {})",
+                    namespace, pageSize, from.getAnalyzed());
+
+        // Pages always come from the API server; the informer cache cannot honour continue tokens
+        V1PodList page = coreReader.listPods(namespace, null, pageSize, from.getContinueToken());
+        List<V1Pod> pods = page.getItems() != null ? page.getItems() : new ArrayList<>();
+
+        List<PodDiagnosticResult> results = bulkAnalysisExecutor.analyzeAll(
+                pods, pod -> podAnalyzer.analyze(pod, view), this::onAnalysisError);
+
+        SeverityCounts totals = from.startingCounts();
+        for (PodDiagnosticResult result : results) {
+            totals.add(result.getSeverity());
+        }
+
+        results.sort(Comparator.comparingInt(result -> result.getSeverity().getSortOrder()));
+
+        BulkPodDiagnosticResult bulkResult = buildBulkResult(namespace, from.getAnalyzed() + pods.size(), totals);
+        bulkResult.setNextCursor(from.next(page.getMetadata() != null ? page.getMetadata().getContinue() : null,
+                                           pods.size(), totals));
+        bulkResult.setResults(results);
+
+        logger.info("Paged debug complete for namespace: {}. Page: {}, Total so far: {}, more: {}",
+                    namespace, pods.size(), bulkResult.getTotalPods(), bulkResult.getNextCursor() != null);
+
+        return bulkResult;
+    }
+
+    /**
+     * Stream all pods in a namespace. Pods are listed now (so API errors surface here);
+     * results are emitted batch by batch in list order, unsorted, followed by the summary.
+     */
+    public BulkResultStream<PodDiagnosticResult, BulkPodDiagnosticResult> streamAllPods(String namespace, ResultView view)
+            throws ApiException {
+        logger.info("Starting streamed debug for all pods in namespace: {}", namespace);
+
+        List<V1Pod> pods = fetchPods(namespace);
+        logger.debug("Found {} pods in namespace: {}", pods.size(), namespace);
+
+        return sink -> {
+            SeverityCounts counts = new SeverityCounts();
+            bulkAnalysisExecutor.analyzeEach(pods, pod -> podAnalyzer.analyze(pod, view), this::onAnalysisError,
+                    result -> {
+                        counts.add(result.getSeverity());
+                        sink.accept(result);
+                    });
+
+            logger.info("Streamed debug complete for namespace: {}. Total: {}, Critical: {}, Warning: {}, Healthy: {}",
+                        namespace, pods.size(), counts.getCritical(), counts.getWarning(), counts.getHealthy());
+            return buildBulkResult(namespace, pods.size(), counts);
         };
     }
 
+    /** Pod from the informer cache, falling back to a direct read on miss. */
+    private V1Pod fetchPod(String namespace, String podName) throws ApiException {
+        if (podCache.isReady()) {
+            V1Pod cached = podCache.get(namespace, podName);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return coreReader.readPod(namespace, podName);
+    }
+
+    /** Pods in every namespace, from the informer cache when synced, else one cluster-wide list. */
+    private List<V1Pod> fetchAllPods(AtomicInteger apiCalls) throws ApiException {
+        if (podCache.isReady()) {
+            return podCache.listAll();
+        }
+        apiCalls.incrementAndGet();
+        V1PodList podList = coreReader.listPods(null, null);
+        return podList.getItems() != null ? podList.getItems() : new ArrayList<>();
+    }
+
+    /** Critical, Warning or Unknown. */
+    private static boolean needsAttention(Severity severity) {
+        return severity != Severity.HEALTHY && severity != Severity.COMPLETED;
+    }
+
+    /** Pods in a namespace, from the informer cache when synced. */
+    private List<V1Pod> fetchPods(String namespace) throws ApiException {
+        if (podCache.isReady()) {
+            return podCache.list(namespace);
+        }
+        V1PodList podList = coreReader.listPods(namespace, null);
+        return podList.getItems() != null ? podList.getItems() : new ArrayList<>();
+    }
+
+    /** Log a failed analysis and stand in an error result. */
+    private PodDiagnosticResult onAnalysisError(V1Pod pod, Exception e) {
+        String podName = pod.getMetadata() != null ? pod.getMetadata().getName() : "unknown";
+        logger.warn("Failed to analyze pod {}: {}", podName, e.getMessage());
+        return createErrorResult(pod, e);
+    }
+
+    /** Bulk result with counts and summary; results are set by the caller. */
+    private BulkPodDiagnosticResult buildBulkResult(String namespace, int total, SeverityCounts counts) {
+        BulkPodDiagnosticResult bulkResult = new BulkPodDiagnosticResult();
+        bulkResult.setNamespace(namespace);
+        bulkResult.setTotalPods(total);
+        bulkResult.setCriticalCount(counts.getCritical());
+        bulkResult.setWarningCount(counts.getWarning());
+        bulkResult.setHealthyCount(counts.getHealthy());
+        bulkResult.setSummary(buildBulkSummary(namespace, total,
+                                               counts.getCritical(), counts.getWarning(), counts.getHealthy()));
+        return bulkResult;
+    }
+
     /** Error result for failed analysis. */
     private PodDiagnosticResult createErrorResult(V1Pod pod, Exception e) {
         PodDiagnosticResult result = new PodDiagnosticResult();
         result.setResourceName(pod.getMetadata() != null ? pod.getMetadata().getName() : "unknown");
         result.setNamespace(pod.getMetadata() != null ? pod.getMetadata().getNamespace() : "unknown");
-        result.setStatus("Critical");
+        result.setSeverity(Severity.CRITICAL);
         result.setPhase("Unknown");
         result.setProbableCauses(List.of("Failed to analyze pod: " + e.getMessage()));
         result.setEvidence(List.of("Analysis error occurred"));
@@ -0,0 +1,138 @@
+package com.kubediagnose.service;
+
+import com.kubediagnose.model.CoalescingStatus;
+import io.kubernetes.client.openapi.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-flight execution of identical bulk requests.
+ * Concurrent callers with the same key share one computation and its result (or failure).
+ * With a reuse window, a completed result is also handed to callers arriving shortly after.
+ */
+@Component
+public class RequestCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    /** A computation that may fail with an API error. */
+    @FunctionalInterface
+    public interface ApiCall<T> {
+        T call() throws ApiException;
+    }
+
+    private static final class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile long completedAt;
+    }
+
+    private final boolean enabled;
+    private final long reuseWindowMillis;
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+
+    public RequestCoalescer(@Value("${kubediagnose.coalescing.enabled:true}") boolean enabled,
+                            @Value("${kubediagnose.coalescing.reuse-window-ms:0}") long reuseWindowMillis) {
+        this.enabled = enabled;
+        this.reuseWindowMillis = Math.max(0, reuseWindowMillis);
+    }
+
+    /**
+     * Runs the call, or joins an identical one already in flight (or completed within the reuse window).
+     *
+     * @param key Identifies identical requests, e.g. endpoint and namespace
+     * @param call The computation
+     * @return The shared result
+     * @throws ApiException if the shared computation failed with an API error
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, ApiCall<T> call) throws ApiException {
+        if (!enabled) {
+            executed.incrementAndGet();
+            return call.call();
+        }
+
+        Flight mine = new Flight();
+        Flight flight = flights.compute(key, (k, existing) -> existing != null && usable(existing) ? existing : mine);
+
+        if (flight != mine) {
+            (flight.future.isDone() ? reused : coalesced).incrementAndGet();
+            logger.debug("Joined in-flight request: {}", key);
+            return (T) await(flight);
+        }
+
+        executed.incrementAndGet();
+        try {
+            T result = call.call();
+            mine.completedAt = System.nanoTime();
+            mine.future.complete(result);
+            if (reuseWindowMillis == 0) {
+                flights.remove(key, mine);
+            } else {
+                // Drop the result once the window has passed, even if no identical request follows
+                CompletableFuture.delayedExecutor(reuseWindowMillis, TimeUnit.MILLISECONDS)
+                        .execute(() -> flights.remove(key, mine));
+            }
+            return result;
+        } catch (ApiException | RuntimeException | Error e) {
+            // Failures are shared with waiting callers but never reused
+            flights.remove(key, mine);
+            mine.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /** Request counts since startup. */
+    public CoalescingStatus status() {
+        CoalescingStatus status = new CoalescingStatus();
+        status.setEnabled(enabled);
+        status.setReuseWindowMillis(reuseWindowMillis);
+        status.setExecuted(executed.get());
+        status.setCoalesced(coalesced.get());
+        status.setReused(reused.get());
+        status.setInFlight((int) flights.values().stream().filter(f -> !f.future.isDone()).count());
+        return status;
+    }
+
+    /** Number of flights held, running or kept for reuse. */
+    int flightCount() {
+        return flights.size();
+    }
+
+    private boolean usable(Flight flight) {
+        if (!flight.future.isDone()) {
+            return true;
+        }
+        return !flight.future.isCompletedExceptionally()
+                && System.nanoTime() - flight.completedAt <= reuseWindowMillis * 1_000_000L;
+    }
+
+    private static Object await(Flight flight) throws ApiException {
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiException apiException) {
+                throw apiException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,11 +1,29 @@
 package com.kubediagnose.service;
 
+import com.kubediagnose.client.CoreReader;
+import com.kubediagnose.analyzer.BulkAnalysisExecutor;
 import com.kubediagnose.analyzer.ServiceAnalyzer;
+import com.kubediagnose.cache.CoreDnsTracker;
+import com.kubediagnose.cache.EndpointsCache;
+import com.kubediagnose.cache.NamespaceCache;
+import com.kubediagnose.cache.PodCache;
+import com.kubediagnose.cache.ResourceFingerprint;
+import com.kubediagnose.cache.ServiceCache;
+import com.kubediagnose.metrics.DiagnosticMetrics;
 import com.kubediagnose.model.BulkServiceDiagnosticResult;
+import com.kubediagnose.model.ClusterDiagnosticResult;
+import com.kubediagnose.model.ResultView;
 import com.kubediagnose.model.ServiceDiagnosticResult;
+import com.kubediagnose.model.Severity;
+import com.kubediagnose.rules.DiagnosticRule;
+import com.kubediagnose.rules.PodLabelIndex;
+import com.kubediagnose.rules.RuleInput;
+import com.kubediagnose.rules.RulePlan;
+import com.kubediagnose.rules.RulePlanner;
+import com.kubediagnose.rules.ServiceRule;
 import io.kubernetes.client.openapi.ApiException;
-import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1EndpointsList;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -16,7 +34,13 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * Service class for Kubernetes service debugging operations.
@@ -27,16 +51,47 @@ public class ServiceDebugService {
 
     private static final Logger logger = LoggerFactory.getLogger(ServiceDebugService.class);
 
-    // Constants for CoreDNS detection
-    private static final String KUBE_SYSTEM_NAMESPACE = "kube-system";
-    private static final String COREDNS_LABEL_SELECTOR = "k8s-app=kube-dns";
-
-    private final CoreV1Api coreV1Api;
+    private final CoreReader coreReader;
     private final ServiceAnalyzer serviceAnalyzer;
+    private final ServiceCache serviceCache;
+    private final EndpointsCache endpointsCache;
+    private final PodCache podCache;
+    private final CoreDnsTracker coreDnsTracker;
+    private final BulkAnalysisExecutor bulkAnalysisExecutor;
+    private final RulePlanner rulePlanner;
+    private final RequestCoalescer requestCoalescer;
+    private final DiagnosticMetrics metrics;
+
+    // Pod label indexes reused by later pages of a services walk (see pagePodIndex), at most one per namespace
+    private static final int MAX_PAGED_POD_INDEXES = 16;
+    private static final long PAGED_POD_INDEX_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final Map<String, PagedPodIndex> pagedPodIndexes = new ConcurrentHashMap<>();
+
+    private record PagedPodIndex(String version, PodLabelIndex index, long builtAt) {
+    }
 
-    public ServiceDebugService(CoreV1Api coreV1Api, ServiceAnalyzer serviceAnalyzer) {
-        this.coreV1Api = coreV1Api;
+    public ServiceDebugService(CoreReader coreReader, ServiceAnalyzer serviceAnalyzer,
+                               ServiceCache serviceCache, EndpointsCache endpointsCache, PodCache podCache,
+                               CoreDnsTracker coreDnsTracker, BulkAnalysisExecutor bulkAnalysisExecutor,
+                               NamespaceCache namespaceCache, RulePlanner rulePlanner,
+                               RequestCoalescer requestCoalescer, DiagnosticMetrics metrics) {
+        this.coreReader = coreReader;
         this.serviceAnalyzer = serviceAnalyzer;
+        this.serviceCache = serviceCache;
+        this.endpointsCache = endpointsCache;
+        this.podCache = podCache;
+        this.coreDnsTracker = coreDnsTracker;
+        this.bulkAnalysisExecutor = bulkAnalysisExecutor;
+        this.rulePlanner = rulePlanner;
+        this.requestCoalescer = requestCoalescer;
+        this.metrics = metrics;
+
+        namespaceCache.addDeleteHandler(namespace -> {
+            if (namespace.getMetadata() != null && namespace.getMetadata().getName() != null) {
+                pagedPodIndexes.remove(namespace.getMetadata().getName());
+            }
+        });
     }
 
     /**
@@ -44,15 +99,17 @@ public class ServiceDebugService {
      *
      * @param namespace The namespace where the service is located
      * @param serviceName The name of the service to debug
+     * @param view Tile when only tile fields were requested, otherwise full
      * @return ServiceDiagnosticResult containing diagnostic information
      * @throws ApiException if there's an error communicating with Kubernetes API
      */
-    public ServiceDiagnosticResult debugService(String namespace, String serviceName) throws ApiException {
+    public ServiceDiagnosticResult debugService(String namespace, String serviceName, ResultView view)
+            throws ApiException {
         logger.info("Starting debug for service: {}/{}", namespace, serviceName);
 
-        // Fetch the service from Kubernetes API
-        V1Service service = coreV1Api.readNamespacedService(serviceName, namespace)
-                .execute();
+        // Fetch the service (informer cache first, API server on miss)
+        AtomicInteger apiCalls = new AtomicInteger();
+        V1Service service = fetchService(namespace, serviceName, apiCalls);
 
         if (service == null) {
             throw new ApiException(404, "Service not found: " + namespace + "/" + serviceName);
@@ -60,18 +117,20 @@ public class ServiceDebugService {
 
         logger.debug("Successfully fetched service: {}/{}", namespace, serviceName);
 
+        RulePlan<ServiceRule> plan = rulePlanner.servicePlan(namespace);
+
         // Fetch endpoints for the service
-        V1Endpoints endpoints = fetchEndpoints(namespace, serviceName);
+        V1Endpoints endpoints = plan.needs(RuleInput.ENDPOINTS)
+                ? fetchEndpoints(namespace, serviceName, apiCalls) : null;
 
         // Fetch all pods in the namespace for selector matching analysis
-        List<V1Pod> podsInNamespace = fetchPodsInNamespace(namespace);
-
-        // Fetch CoreDNS pods to check DNS availability
-        List<V1Pod> coreDnsPods = fetchCoreDnsPods();
+        List<V1Pod> podsInNamespace = plan.needs(RuleInput.PODS)
+                ? fetchPodsInNamespace(namespace, apiCalls) : List.of();
+        logger.debug("Fetched inputs for service {}/{} with {} API call(s)", namespace, serviceName, apiCalls.get());
 
-        // Analyze the service using the analyzer
-        ServiceDiagnosticResult result = serviceAnalyzer.analyze(
-                service, endpoints, podsInNamespace, coreDnsPods);
+        // Analyze the service using the analyzer (CoreDNS state comes from the tracker)
+        PodLabelIndex podIndex = plan.needs(RuleInput.PODS) ? PodLabelIndex.build(podsInNamespace) : null;
+        ServiceDiagnosticResult result = serviceAnalyzer.analyze(service, endpoints, podIndex, view);
 
         logger.info("Debug complete for service: {}/{}. Status: {}",
                     namespace, serviceName, result.getStatus());
@@ -79,100 +138,440 @@ public class ServiceDebugService {
         return result;
     }
 
+    /**
+     * Analyzes a service against the given endpoints, reading pods the usual way
+     * (informer cache when synced). Used to re-analyze a single service on a watch event.
+     *
+     * @param service The service
+     * @param endpoints Endpoints to analyze against, e.g. the old or new object of an update; may be null
+     * @return ServiceDiagnosticResult
+     */
+    public ServiceDiagnosticResult analyzeWithEndpoints(V1Service service, V1Endpoints endpoints) {
+        String namespace = service.getMetadata().getNamespace();
+        RulePlan<ServiceRule> plan = rulePlanner.servicePlan(namespace);
+        AtomicInteger apiCalls = new AtomicInteger();
+
+        List<V1Pod> podsInNamespace = plan.needs(RuleInput.PODS)
+                ? fetchPodsInNamespace(namespace, apiCalls) : List.of();
+        return serviceAnalyzer.analyze(service, endpoints, podsInNamespace);
+    }
+
+    /**
+     * Analyzes a service against the given pods, reading endpoints the usual way
+     * (informer cache when synced). Used to re-analyze the services selecting a pod on a watch event.
+     *
+     * @param service The service
+     * @param podsInNamespace Pods to match the selector against, e.g. the namespace before or after a pod change
+     * @return ServiceDiagnosticResult
+     */
+    public ServiceDiagnosticResult analyzeWithPods(V1Service service, List<V1Pod> podsInNamespace) {
+        String namespace = service.getMetadata().getNamespace();
+        RulePlan<ServiceRule> plan = rulePlanner.servicePlan(namespace);
+        AtomicInteger apiCalls = new AtomicInteger();
+
+        V1Endpoints endpoints = plan.needs(RuleInput.ENDPOINTS)
+                ? fetchEndpoints(namespace, service.getMetadata().getName(), apiCalls) : null;
+        return serviceAnalyzer.analyze(service, endpoints, podsInNamespace);
+    }
+
+    /**
+     * ETag for {@link #debugAllServices}, computed without analysis from the resourceVersions of every input
+     * the enabled rules read: the namespace's services, endpoints and pods, and CoreDNS; plus the view.
+     * Null while a needed cache is not synced.
+     */
+    public String bulkETag(String namespace, ResultView view) {
+        RulePlan<ServiceRule> plan = rulePlanner.servicePlan(namespace);
+        boolean needsEndpoints = plan.needs(RuleInput.ENDPOINTS);
+        boolean needsPods = plan.needs(RuleInput.PODS);
+        if (!serviceCache.isReady() || (needsEndpoints && !endpointsCache.isReady())
+                || (needsPods && !podCache.isReady())) {
+            return null;
+        }
+
+        StringBuilder tag = new StringBuilder("W/\"services-")
+                .append(Long.toHexString(serviceCache.fingerprint(namespace)));
+        if (needsEndpoints) {
+            tag.append('-').append(Long.toHexString(endpointsCache.fingerprint(namespace)));
+        }
+        if (needsPods) {
+            tag.append('-').append(Long.toHexString(podCache.fingerprint(namespace)));
+        }
+        if (plan.needs(RuleInput.COREDNS)) {
+            tag.append('-').append(coreDnsTracker.snapshot().getVersion());
+        }
+        int rules = plan.getRules().stream().map(DiagnosticRule::id).toList().hashCode();
+        tag.append('-').append(Integer.toHexString(rules));
+        if (view == ResultView.TILE) {
+            tag.append("-tile");
+        }
+        return tag.append('"').toString();
+    }
+
     /**
      * Debugs all services in a namespace by fetching all services and running diagnostic analysis on each.
      * Results are sorted by severity: Critical → Warning → Healthy.
      * Does not fail the entire request if analysis of one service fails.
+     * Identical concurrent requests (same view) share one run.
      *
      * @param namespace The namespace to debug all services in
+     * @param view Full results or tile rows
      * @return BulkServiceDiagnosticResult containing diagnostic results for all services
      * @throws ApiException if there's an error fetching the service list from Kubernetes API
      */
-    public BulkServiceDiagnosticResult debugAllServices(String namespace) throws ApiException {
+    public BulkServiceDiagnosticResult debugAllServices(String namespace, ResultView view) throws ApiException {
+        String key = "services/" + namespace + (view == ResultView.TILE ? "?view=tile" : "");
+        return requestCoalescer.execute(key, () -> analyzeAllServices(namespace, view));
+    }
+
+    private BulkServiceDiagnosticResult analyzeAllServices(String namespace, ResultView view) throws ApiException {
         logger.info("Starting bulk debug for all services in namespace: {}", namespace);
 
-        // Fetch all services in the namespace
-        V1ServiceList serviceList = coreV1Api.listNamespacedService(namespace).execute();
+        AtomicInteger apiCalls = new AtomicInteger();
 
-        List<V1Service> services = serviceList.getItems() != null ? serviceList.getItems() : new ArrayList<>();
+        // Fetch all services in the namespace, plus the inputs shared by every service
+        long stageStart = System.nanoTime();
+        List<V1Service> services = fetchServices(namespace, apiCalls);
         logger.debug("Found {} services in namespace: {}", services.size(), namespace);
+        Function<V1Service, ServiceDiagnosticResult> analysis = prepareBulkAnalysis(namespace, apiCalls, view);
+        metrics.recordStage("services", "fetch", stageStart);
+
+        return analyzeBulk(namespace, services, analysis, apiCalls);
+    }
+
+    /**
+     * Analyzes services the caller already holds as one namespace's bulk result, without any API call.
+     * Used for offline snapshots.
+     *
+     * @param namespace The namespace
+     * @param services Services in the namespace
+     * @param endpointsByName The namespace's endpoints keyed by name (the service they belong to)
+     * @param pods Pods in the namespace, for selector and port rules
+     * @param view Full results or tile rows
+     * @return BulkServiceDiagnosticResult with apiCalls 0
+     */
+    public BulkServiceDiagnosticResult analyzeServices(String namespace, List<V1Service> services,
+                                                       Map<String, V1Endpoints> endpointsByName, List<V1Pod> pods,
+                                                       ResultView view) {
+        PodLabelIndex podIndex = rulePlanner.servicePlan(namespace).needs(RuleInput.PODS)
+                ? PodLabelIndex.build(pods) : null;
+        return analyzeBulk(namespace, services, bulkAnalysis(endpointsByName, podIndex, view), new AtomicInteger());
+    }
+
+    private BulkServiceDiagnosticResult analyzeBulk(String namespace, List<V1Service> services,
+                                                    Function<V1Service, ServiceDiagnosticResult> analysis,
+                                                    AtomicInteger apiCalls) {
+        // Analyze services in parallel; a failing service yields an error result instead of failing the request
+        long stageStart = System.nanoTime();
+        List<ServiceDiagnosticResult> results = bulkAnalysisExecutor.analyzeAll(
+                services, analysis, this::onAnalysisError);
+        metrics.recordStage("services", "analyze", stageStart);
+
+        // Count by severity once analysis is done (no shared counters between workers)
+        stageStart = System.nanoTime();
+        SeverityCounts counts = new SeverityCounts();
+        for (ServiceDiagnosticResult result : results) {
+            counts.add(result.getSeverity());
+        }
+
+        // Sort results by severity: Critical → Warning → Healthy
+        results.sort(Comparator.comparingInt(result -> result.getSeverity().getSortOrder()));
+        metrics.recordStage("services", "sort", stageStart);
+
+        // Build the bulk result
+        BulkServiceDiagnosticResult bulkResult = buildBulkResult(namespace, services.size(), counts, apiCalls.get());
+        bulkResult.setResults(results);
+
+        logger.info("Bulk debug complete for namespace: {}. Total: {}, Critical: {}, Warning: {}, Healthy: {}, API calls: {}",
+                    namespace, services.size(), counts.getCritical(), counts.getWarning(), counts.getHealthy(),
+                    apiCalls.get());
+
+        return bulkResult;
+    }
+
+    /**
+     * Debugs every service in the cluster. Services, endpoints and pods are each listed once
+     * cluster-wide (or read from the informer caches) and joined by namespace; counts are
+     * rolled up per namespace. Identical concurrent requests share one run.
+     *
+     * @param includeHealthy Also list healthy services (rollups always count them)
+     * @param view Full results or tile rows
+     * @return ClusterDiagnosticResult with per-namespace rollups
+     * @throws ApiException if there's an error listing services from Kubernetes API
+     */
+    public ClusterDiagnosticResult<ServiceDiagnosticResult> debugClusterServices(boolean includeHealthy,
+                                                                                 ResultView view)
+            throws ApiException {
+        String key = "services/*?includeHealthy=" + includeHealthy + (view == ResultView.TILE ? "&view=tile" : "");
+        return requestCoalescer.execute(key, () -> analyzeClusterServices(includeHealthy, view));
+    }
 
-        // Pre-fetch shared data to avoid redundant API calls
-        List<V1Pod> podsInNamespace = fetchPodsInNamespace(namespace);
-        List<V1Pod> coreDnsPods = fetchCoreDnsPods();
+    private ClusterDiagnosticResult<ServiceDiagnosticResult> analyzeClusterServices(boolean includeHealthy,
+                                                                                    ResultView view)
+            throws ApiException {
+        logger.info("Starting cluster-wide service debug");
 
-        List<ServiceDiagnosticResult> results = new ArrayList<>();
-        int criticalCount = 0;
-        int warningCount = 0;
-        int healthyCount = 0;
+        AtomicInteger apiCalls = new AtomicInteger();
+        long stageStart = System.nanoTime();
+        List<V1Service> services = fetchAllServices(apiCalls);
+        logger.debug("Found {} services across all namespaces", services.size());
 
-        // Analyze each service, handling failures gracefully
+        // An input is fetched cluster-wide if any namespace with services has a rule that reads it
+        Map<String, RulePlan<ServiceRule>> plans = new HashMap<>();
         for (V1Service service : services) {
-            try {
-                String serviceName = service.getMetadata() != null ? service.getMetadata().getName() : "unknown";
-                logger.debug("Analyzing service: {}", serviceName);
-
-                // Fetch endpoints for this specific service
-                V1Endpoints endpoints = fetchEndpoints(namespace, serviceName);
-
-                // Analyze using the same logic as single service debug
-                ServiceDiagnosticResult result = serviceAnalyzer.analyze(
-                        service, endpoints, podsInNamespace, coreDnsPods);
-                results.add(result);
-
-                // Count by severity
-                switch (result.getStatus()) {
-                    case "Critical" -> criticalCount++;
-                    case "Warning" -> warningCount++;
-                    case "Healthy" -> healthyCount++;
-                    default -> warningCount++; // Unknown statuses count as warnings
+            plans.computeIfAbsent(service.getMetadata().getNamespace(), rulePlanner::servicePlan);
+        }
+        boolean needsEndpoints = plans.values().stream().anyMatch(plan -> plan.needs(RuleInput.ENDPOINTS));
+        boolean needsPods = plans.values().stream().anyMatch(plan -> plan.needs(RuleInput.PODS));
+
+        Map<String, V1Endpoints> endpointsByKey = needsEndpoints ? fetchAllEndpointsByKey(apiCalls) : Map.of();
+
+        // One label index per namespace, built from a single cluster-wide pod list
+        Map<String, PodLabelIndex> podIndexByNamespace = new HashMap<>();
+        if (needsPods) {
+            Map<String, List<V1Pod>> podsByNamespace = new HashMap<>();
+            for (V1Pod pod : fetchAllPods(apiCalls)) {
+                podsByNamespace.computeIfAbsent(pod.getMetadata().getNamespace(), ns -> new ArrayList<>()).add(pod);
+            }
+            plans.forEach((namespace, plan) -> {
+                if (plan.needs(RuleInput.PODS)) {
+                    podIndexByNamespace.put(namespace,
+                            PodLabelIndex.build(podsByNamespace.getOrDefault(namespace, List.of())));
                 }
-            } catch (Exception e) {
-                String serviceName = service.getMetadata() != null ? service.getMetadata().getName() : "unknown";
-                logger.warn("Failed to analyze service {}: {}", serviceName, e.getMessage());
-
-                // Create an error result for the failed service
-                ServiceDiagnosticResult errorResult = createErrorResult(service, e);
-                results.add(errorResult);
-                criticalCount++;
+            });
+        }
+        metrics.recordStage("cluster-services", "fetch", stageStart);
+
+        stageStart = System.nanoTime();
+        List<ServiceDiagnosticResult> results = bulkAnalysisExecutor.analyzeAll(services, service -> {
+            String namespace = service.getMetadata().getNamespace();
+            String serviceName = service.getMetadata().getName();
+            return serviceAnalyzer.analyze(service, endpointsByKey.get(namespace + "/" + serviceName),
+                                           podIndexByNamespace.get(namespace), view);
+        }, this::onAnalysisError);
+        metrics.recordStage("cluster-services", "analyze", stageStart);
+
+        stageStart = System.nanoTime();
+        ClusterRollup rollup = new ClusterRollup();
+        List<ServiceDiagnosticResult> listed = new ArrayList<>();
+        for (ServiceDiagnosticResult result : results) {
+            rollup.add(result.getNamespace(), result.getSeverity());
+            if (includeHealthy || result.getSeverity() != Severity.HEALTHY) {
+                listed.add(result);
             }
         }
 
         // Sort results by severity: Critical → Warning → Healthy
-        results.sort(Comparator.comparingInt(this::getSeverityOrder));
+        listed.sort(Comparator.comparingInt(result -> result.getSeverity().getSortOrder()));
 
-        // Build the bulk result
-        BulkServiceDiagnosticResult bulkResult = new BulkServiceDiagnosticResult();
-        bulkResult.setNamespace(namespace);
-        bulkResult.setTotalServices(services.size());
-        bulkResult.setCriticalCount(criticalCount);
-        bulkResult.setWarningCount(warningCount);
-        bulkResult.setHealthyCount(healthyCount);
-        bulkResult.setResults(results);
+        ClusterDiagnosticResult<ServiceDiagnosticResult> clusterResult =
+                rollup.build("Services (Cluster)", "services", listed, apiCalls.get());
+        metrics.recordStage("cluster-services", "sort", stageStart);
+
+        logger.info("Cluster-wide service debug complete. Namespaces: {}, Total: {}, Critical: {}, Warning: {}, API calls: {}",
+                    clusterResult.getTotalNamespaces(), clusterResult.getTotalResources(),
+                    clusterResult.getCriticalCount(), clusterResult.getWarningCount(), apiCalls.get());
+
+        return clusterResult;
+    }
+
+    /**
+     * Debugs one page of services using Kubernetes list pagination ({@code limit}/{@code continue}).
+     * Endpoints come from one list per page (none with the endpoints cache synced). The namespace's pod
+     * label index is reused across pages while the pod cache is unchanged, or, without the pod cache,
+     * for the rest of the walk it was listed for (see {@link #pagePodIndex}).
+     * Counts and totals in the result are cumulative over all pages so far.
+     *
+     * @param namespace The namespace to debug services in
+     * @param limit Page size; defaults when null, capped at {@link PageCursor#MAX_LIMIT}
+     * @param cursor {@code nextCursor} from the previous page; null for the first page
+     * @param view Full results or tile rows
+     * @return BulkServiceDiagnosticResult for this page, with {@code nextCursor} unless it is the last
+     * @throws ApiException if there's an error fetching the service page from Kubernetes API
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public BulkServiceDiagnosticResult debugServicesPage(String namespace, Integer limit, String cursor,
+                                                         ResultView view) throws ApiException {
+        PageCursor from = cursor != null ? PageCursor.decode(cursor) : PageCursor.FIRST;
+        int pageSize = PageCursor.pageSize(limit);
+        logger.info("Starting paged debug for services in namespace: {} (limit {}, after {})",
+                    namespace, pageSize, from.getAnalyzed());
+
+        AtomicInteger apiCalls = new AtomicInteger();
+
+        // Pages always come from the API server; the informer cache cannot honour continue tokens
+        apiCalls.incrementAndGet();
+        V1ServiceList page = coreReader.listServices(namespace, pageSize, from.getContinueToken());
+        List<V1Service> services = page.getItems() != null ? page.getItems() : new ArrayList<>();
+
+        String walkVersion = page.getMetadata() != null ? page.getMetadata().getResourceVersion() : null;
+        List<ServiceDiagnosticResult> results = bulkAnalysisExecutor.analyzeAll(
+                services, preparePageAnalysis(namespace, walkVersion, apiCalls, view), this::onAnalysisError);
+
+        SeverityCounts totals = from.startingCounts();
+        for (ServiceDiagnosticResult result : results) {
+            totals.add(result.getSeverity());
+        }
+
+        // Sort this page by severity: Critical → Warning → Healthy
+        results.sort(Comparator.comparingInt(result -> result.getSeverity().getSortOrder()));
 
-        // Build summary
-        BulkServiceDiagnosticResult.Summary summary = buildBulkSummary(namespace, services.size(),
-                                                                        criticalCount, warningCount, healthyCount);
-        bulkResult.setSummary(summary);
+        BulkServiceDiagnosticResult bulkResult = buildBulkResult(
+                namespace, from.getAnalyzed() + services.size(), totals, apiCalls.get());
+        bulkResult.setNextCursor(from.next(page.getMetadata() != null ? page.getMetadata().getContinue() : null,
+                                           services.size(), totals));
+        bulkResult.setResults(results);
 
-        logger.info("Bulk debug complete for namespace: {}. Total: {}, Critical: {}, Warning: {}, Healthy: {}",
-                    namespace, services.size(), criticalCount, warningCount, healthyCount);
+        logger.info("Paged debug complete for namespace: {}. Page: {}, Total so far: {}, more: {}",
+                    namespace, services.size(), bulkResult.getTotalServices(), bulkResult.getNextCursor() != null);
 
         return bulkResult;
     }
 
     /**
-     * Returns a severity order for sorting (lower = more severe).
+     * Streams all services in a namespace. Services and shared inputs are fetched here, so
+     * API errors surface before anything is written; results are then emitted batch by batch
+     * in list order (unsorted), and the returned summary carries the counts.
+     *
+     * @param namespace The namespace to debug all services in
+     * @param view Full results or tile rows
+     * @return Stream that analyzes and emits results when written
+     * @throws ApiException if there's an error fetching the service list from Kubernetes API
      */
-    private int getSeverityOrder(ServiceDiagnosticResult result) {
-        return switch (result.getStatus()) {
-            case "Critical" -> 0;
-            case "Warning" -> 1;
-            case "Healthy" -> 2;
-            default -> 1; // Unknown treated as warning
+    public BulkResultStream<ServiceDiagnosticResult, BulkServiceDiagnosticResult> streamAllServices(
+            String namespace, ResultView view) throws ApiException {
+        logger.info("Starting streamed debug for all services in namespace: {}", namespace);
+
+        AtomicInteger apiCalls = new AtomicInteger();
+        List<V1Service> services = fetchServices(namespace, apiCalls);
+        logger.debug("Found {} services in namespace: {}", services.size(), namespace);
+
+        Function<V1Service, ServiceDiagnosticResult> analysis = prepareBulkAnalysis(namespace, apiCalls, view);
+
+        return sink -> {
+            SeverityCounts counts = new SeverityCounts();
+            bulkAnalysisExecutor.analyzeEach(services, analysis, this::onAnalysisError, result -> {
+                counts.add(result.getSeverity());
+                sink.accept(result);
+            });
+
+            logger.info("Streamed debug complete for namespace: {}. Total: {}, Critical: {}, Warning: {}, Healthy: {}",
+                        namespace, services.size(), counts.getCritical(), counts.getWarning(), counts.getHealthy());
+            return buildBulkResult(namespace, services.size(), counts, apiCalls.get());
         };
     }
 
+    /**
+     * Pre-fetches the inputs shared by every service in a namespace and returns the per-service analysis.
+     * Endpoints are joined to services by name; inputs that no enabled rule reads are not fetched at all.
+     */
+    private Function<V1Service, ServiceDiagnosticResult> prepareBulkAnalysis(String namespace, AtomicInteger apiCalls,
+                                                                             ResultView view) {
+        RulePlan<ServiceRule> plan = rulePlanner.servicePlan(namespace);
+        Map<String, V1Endpoints> endpointsByName = plan.needs(RuleInput.ENDPOINTS)
+                ? fetchEndpointsByName(namespace, apiCalls) : Map.of();
+
+        // Index pod labels once so every selector resolves by bitset intersection
+        PodLabelIndex podIndex = plan.needs(RuleInput.PODS)
+                ? PodLabelIndex.build(fetchPodsInNamespace(namespace, apiCalls)) : null;
+
+        return bulkAnalysis(endpointsByName, podIndex, view);
+    }
+
+    /**
+     * Per-service analysis for one page: endpoints from one list for the namespace, the pod label index
+     * from {@link #pagePodIndex}.
+     */
+    private Function<V1Service, ServiceDiagnosticResult> preparePageAnalysis(String namespace, String walkVersion,
+                                                                             AtomicInteger apiCalls, ResultView view) {
+        RulePlan<ServiceRule> plan = rulePlanner.servicePlan(namespace);
+        Map<String, V1Endpoints> endpointsByName = plan.needs(RuleInput.ENDPOINTS)
+                ? fetchEndpointsByName(namespace, apiCalls) : Map.of();
+        PodLabelIndex podIndex = plan.needs(RuleInput.PODS) ? pagePodIndex(namespace, walkVersion, apiCalls) : null;
+        return bulkAnalysis(endpointsByName, podIndex, view);
+    }
+
+    /**
+     * Pod label index for a page of services. With the pod cache synced, the index built for an earlier
+     * page is reused while the namespace's pods have the same fingerprint. Without it, the pods listed for
+     * the first page of a walk serve the later ones: continued service pages come from the snapshot at the
+     * walk's resourceVersion, so its pods stay as current as its services. Indexes are dropped after
+     * {@code PAGED_POD_INDEX_TTL_NANOS}, beyond {@code MAX_PAGED_POD_INDEXES} namespaces, and when the
+     * namespace is deleted.
+     */
+    private PodLabelIndex pagePodIndex(String namespace, String walkVersion, AtomicInteger apiCalls) {
+        List<V1Pod> pods = null;
+        String version;
+        if (podCache.isReady()) {
+            pods = podCache.list(namespace);
+            version = "pods:" + ResourceFingerprint.of(pods);
+        } else if (walkVersion != null && !walkVersion.isEmpty()) {
+            version = "walk:" + walkVersion;
+        } else {
+            return PodLabelIndex.build(fetchPodsInNamespace(namespace, apiCalls));
+        }
+
+        long now = System.nanoTime();
+        PagedPodIndex cached = pagedPodIndexes.get(namespace);
+        if (cached != null && cached.version().equals(version) && now - cached.builtAt() < PAGED_POD_INDEX_TTL_NANOS) {
+            return cached.index();
+        }
+        PodLabelIndex index = PodLabelIndex.build(pods != null ? pods : fetchPodsInNamespace(namespace, apiCalls));
+        pagedPodIndexes.put(namespace, new PagedPodIndex(version, index, now));
+        trimPagedPodIndexes(now);
+        return index;
+    }
+
+    /** Drops expired page indexes, then the oldest while there are too many. */
+    private void trimPagedPodIndexes(long now) {
+        pagedPodIndexes.values().removeIf(entry -> now - entry.builtAt() >= PAGED_POD_INDEX_TTL_NANOS);
+        while (pagedPodIndexes.size() > MAX_PAGED_POD_INDEXES) {
+            pagedPodIndexes.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().builtAt()))
+                    .ifPresent(oldest -> pagedPodIndexes.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    /** Per-service analysis over the endpoints and pod index shared by a namespace's services. */
+    private Function<V1Service, ServiceDiagnosticResult> bulkAnalysis(Map<String, V1Endpoints> endpointsByName,
+                                                                     PodLabelIndex podIndex, ResultView view) {
+        return service -> {
+            String serviceName = service.getMetadata() != null ? service.getMetadata().getName() : "unknown";
+            logger.debug("Analyzing service: {}", serviceName);
+
+            // Endpoints share the service name; null when none exist
+            V1Endpoints endpoints = endpointsByName.get(serviceName);
+
+            // Analyze using the same logic as single service debug
+            return serviceAnalyzer.analyze(service, endpoints, podIndex, view);
+        };
+    }
+
+    /**
+     * Logs a failed analysis and creates an error result in its place.
+     */
+    private ServiceDiagnosticResult onAnalysisError(V1Service service, Exception e) {
+        String serviceName = service.getMetadata() != null ? service.getMetadata().getName() : "unknown";
+        logger.warn("Failed to analyze service {}: {}", serviceName, e.getMessage());
+        return createErrorResult(service, e);
+    }
+
+    /**
+     * Builds the bulk result with counts and summary; results are set by the caller.
+     */
+    private BulkServiceDiagnosticResult buildBulkResult(String namespace, int total, SeverityCounts counts,
+                                                        int apiCalls) {
+        BulkServiceDiagnosticResult bulkResult = new BulkServiceDiagnosticResult();
+        bulkResult.setNamespace(namespace);
+        bulkResult.setTotalServices(total);
+        bulkResult.setCriticalCount(counts.getCritical());
+        bulkResult.setWarningCount(counts.getWarning());
+        bulkResult.setHealthyCount(counts.getHealthy());
+        bulkResult.setApiCalls(apiCalls);
+        bulkResult.setSummary(buildBulkSummary(namespace, total,
+                                               counts.getCritical(), counts.getWarning(), counts.getHealthy()));
+        return bulkResult;
+    }
+
     /**
      * Creates an error result for a service that failed analysis.
      */
@@ -180,7 +579,7 @@ public class ServiceDebugService {
         ServiceDiagnosticResult result = new ServiceDiagnosticResult();
         result.setResourceName(service.getMetadata() != null ? service.getMetadata().getName() : "unknown");
         result.setNamespace(service.getMetadata() != null ? service.getMetadata().getNamespace() : "unknown");
-        result.setStatus("Critical");
+        result.setSeverity(Severity.CRITICAL);
         result.setServiceType(service.getSpec() != null ? service.getSpec().getType() : "Unknown");
         result.setSelector(service.getSpec() != null ? service.getSpec().getSelector() : null);
         result.setProbableCauses(List.of("Failed to analyze service: " + e.getMessage()));
@@ -232,18 +631,128 @@ public class ServiceDebugService {
         return summary;
     }
 
+    /**
+     * Fetches a service, from the informer cache when synced.
+     * A cache miss falls back to the API server so a missing service still yields a 404.
+     *
+     * @param namespace The namespace
+     * @param serviceName The service name
+     * @param apiCalls Counter incremented for each API server request
+     * @return V1Service
+     * @throws ApiException if the direct read fails
+     */
+    private V1Service fetchService(String namespace, String serviceName, AtomicInteger apiCalls)
+            throws ApiException {
+        if (serviceCache.isReady()) {
+            V1Service cached = serviceCache.get(namespace, serviceName);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        apiCalls.incrementAndGet();
+        return coreReader.readService(namespace, serviceName);
+    }
+
+    /**
+     * Fetches all services in a namespace, from the informer cache when synced.
+     *
+     * @param namespace The namespace
+     * @param apiCalls Counter incremented for each API server request
+     * @return List of services in the namespace
+     * @throws ApiException if the direct list fails
+     */
+    private List<V1Service> fetchServices(String namespace, AtomicInteger apiCalls) throws ApiException {
+        if (serviceCache.isReady()) {
+            return serviceCache.list(namespace);
+        }
+        apiCalls.incrementAndGet();
+        V1ServiceList serviceList = coreReader.listServices(namespace);
+        return serviceList.getItems() != null ? serviceList.getItems() : new ArrayList<>();
+    }
+
+    /**
+     * Fetches services in every namespace, from the informer cache when synced.
+     *
+     * @param apiCalls Counter incremented for each API server request
+     * @return List of all services
+     * @throws ApiException if the cluster-wide list fails
+     */
+    private List<V1Service> fetchAllServices(AtomicInteger apiCalls) throws ApiException {
+        if (serviceCache.isReady()) {
+            return serviceCache.listAll();
+        }
+        apiCalls.incrementAndGet();
+        V1ServiceList serviceList = coreReader.listServices(null);
+        return serviceList.getItems() != null ? serviceList.getItems() : new ArrayList<>();
+    }
+
+    /**
+     * Fetches endpoints in every namespace with a single list call, keyed by "namespace/name".
+     *
+     * @param apiCalls Counter incremented for each API server request
+     * @return Map of key to V1Endpoints (empty if the list fails)
+     */
+    private Map<String, V1Endpoints> fetchAllEndpointsByKey(AtomicInteger apiCalls) {
+        List<V1Endpoints> endpointsList;
+        if (endpointsCache.isReady()) {
+            endpointsList = endpointsCache.listAll();
+        } else {
+            try {
+                apiCalls.incrementAndGet();
+                V1EndpointsList list = coreReader.listEndpoints(null);
+                endpointsList = list.getItems() != null ? list.getItems() : new ArrayList<>();
+            } catch (ApiException e) {
+                logger.warn("Could not fetch endpoints across namespaces: {}", e.getMessage());
+                endpointsList = new ArrayList<>();
+            }
+        }
+
+        Map<String, V1Endpoints> endpointsByKey = new HashMap<>(endpointsList.size() * 2);
+        for (V1Endpoints endpoints : endpointsList) {
+            if (endpoints.getMetadata() != null && endpoints.getMetadata().getName() != null) {
+                endpointsByKey.put(endpoints.getMetadata().getNamespace() + "/" + endpoints.getMetadata().getName(),
+                                   endpoints);
+            }
+        }
+        return endpointsByKey;
+    }
+
+    /**
+     * Fetches pods in every namespace, from the informer cache when synced.
+     *
+     * @param apiCalls Counter incremented for each API server request
+     * @return List of all pods (empty if the list fails)
+     */
+    private List<V1Pod> fetchAllPods(AtomicInteger apiCalls) {
+        if (podCache.isReady()) {
+            return podCache.listAll();
+        }
+        apiCalls.incrementAndGet();
+        try {
+            V1PodList podList = coreReader.listPods(null, null);
+            return podList.getItems() != null ? podList.getItems() : new ArrayList<>();
+        } catch (ApiException e) {
+            logger.warn("Could not fetch pods across namespaces: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
     /**
      * Fetches endpoints for a service.
      * Endpoints share the same name as the service.
      *
      * @param namespace The namespace
      * @param serviceName The service name
+     * @param apiCalls Counter incremented for each API server request
      * @return V1Endpoints or null if not found
      */
-    private V1Endpoints fetchEndpoints(String namespace, String serviceName) {
+    private V1Endpoints fetchEndpoints(String namespace, String serviceName, AtomicInteger apiCalls) {
+        if (endpointsCache.isReady()) {
+            return endpointsCache.get(namespace, serviceName);
+        }
+        apiCalls.incrementAndGet();
         try {
-            return coreV1Api.readNamespacedEndpoints(serviceName, namespace)
-                    .execute();
+            return coreReader.readEndpoints(namespace, serviceName);
         } catch (ApiException e) {
             logger.warn("Could not fetch endpoints for service {}/{}: {}",
                         namespace, serviceName, e.getMessage());
@@ -252,36 +761,54 @@ public class ServiceDebugService {
     }
 
     /**
-     * Fetches all pods in a namespace.
+     * Fetches all endpoints in a namespace with a single list call, keyed by name.
+     * Endpoints share the same name as their service.
      *
-     * @param namespace The namespace to fetch pods from
-     * @return List of pods in the namespace
+     * @param namespace The namespace
+     * @param apiCalls Counter incremented for each API server request
+     * @return Map of endpoints name to V1Endpoints (empty if the list fails)
      */
-    private List<V1Pod> fetchPodsInNamespace(String namespace) {
-        try {
-            V1PodList podList = coreV1Api.listNamespacedPod(namespace)
-                    .execute();
-            return podList.getItems() != null ? podList.getItems() : new ArrayList<>();
-        } catch (ApiException e) {
-            logger.warn("Could not fetch pods in namespace {}: {}", namespace, e.getMessage());
-            return new ArrayList<>();
+    private Map<String, V1Endpoints> fetchEndpointsByName(String namespace, AtomicInteger apiCalls) {
+        List<V1Endpoints> endpointsList;
+        if (endpointsCache.isReady()) {
+            endpointsList = endpointsCache.list(namespace);
+        } else {
+            try {
+                apiCalls.incrementAndGet();
+                V1EndpointsList list = coreReader.listEndpoints(namespace);
+                endpointsList = list.getItems() != null ? list.getItems() : new ArrayList<>();
+            } catch (ApiException e) {
+                logger.warn("Could not fetch endpoints in namespace {}: {}", namespace, e.getMessage());
+                endpointsList = new ArrayList<>();
+            }
+        }
+
+        Map<String, V1Endpoints> endpointsByName = new HashMap<>(endpointsList.size() * 2);
+        for (V1Endpoints endpoints : endpointsList) {
+            if (endpoints.getMetadata() != null && endpoints.getMetadata().getName() != null) {
+                endpointsByName.put(endpoints.getMetadata().getName(), endpoints);
+            }
         }
+        return endpointsByName;
     }
 
     /**
-     * Fetches CoreDNS pods from kube-system namespace.
-     * CoreDNS pods typically have the label 'k8s-app=kube-dns'.
+     * Fetches all pods in a namespace.
      *
-     * @return List of CoreDNS pods
+     * @param namespace The namespace to fetch pods from
+     * @param apiCalls Counter incremented for each API server request
+     * @return List of pods in the namespace
      */
-    private List<V1Pod> fetchCoreDnsPods() {
+    private List<V1Pod> fetchPodsInNamespace(String namespace, AtomicInteger apiCalls) {
+        if (podCache.isReady()) {
+            return podCache.list(namespace);
+        }
+        apiCalls.incrementAndGet();
         try {
-            V1PodList podList = coreV1Api.listNamespacedPod(KUBE_SYSTEM_NAMESPACE)
-                    .labelSelector(COREDNS_LABEL_SELECTOR)
-                    .execute();
+            V1PodList podList = coreReader.listPods(namespace, null);
             return podList.getItems() != null ? podList.getItems() : new ArrayList<>();
         } catch (ApiException e) {
-            logger.warn("Could not fetch CoreDNS pods: {}", e.getMessage());
+            logger.warn("Could not fetch pods in namespace {}: {}", namespace, e.getMessage());
             return new ArrayList<>();
         }
     }
@@ -0,0 +1,53 @@
+package com.kubediagnose.service;
+
+import com.kubediagnose.model.Severity;
+
+/** Running critical/warning/healthy tally for bulk results. Not thread-safe. */
+final class SeverityCounts {
+
+    private int critical;
+    private int warning;
+    private int healthy;
+
+    SeverityCounts() {
+    }
+
+    /** Starts from totals carried over from earlier pages. */
+    SeverityCounts(int critical, int warning, int healthy) {
+        this.critical = critical;
+        this.warning = warning;
+        this.healthy = healthy;
+    }
+
+    void add(Severity severity) {
+        switch (severity) {
+            case CRITICAL -> critical++;
+            case HEALTHY, COMPLETED -> healthy++;
+            default -> warning++; // Unknown statuses count as warnings
+        }
+    }
+
+    int getCritical() {
+        return critical;
+    }
+
+    int getWarning() {
+        return warning;
+    }
+
+    int getHealthy() {
+        return healthy;
+    }
+
+    int getTotal() {
+        return critical + warning + healthy;
+    }
+
+    /** Worst status present: Critical, then Warning, otherwise Healthy. */
+    String overallHealth() {
+        if (critical > 0) {
+            return Severity.CRITICAL.getLabel();
+        }
+        return warning > 0 ? Severity.WARNING.getLabel() : Severity.HEALTHY.getLabel();
+    }
+}
@@ -0,0 +1,172 @@
+package com.kubediagnose.snapshot;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Streams pods, services and endpoints out of a kubectl JSON dump such as
+ * {@code kubectl get pods,svc,endpoints -A -o json}. Lists are read item by item with a Gson
+ * {@link JsonReader}, so only one object is decoded at a time; files are memory-mapped.
+ * Accepts a List (or PodList, ServiceList, ...), a single object, a bare array, or several such
+ * documents back to back. Other kinds are skipped.
+ */
+public class SnapshotReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotReader.class);
+
+    /** Receives decoded objects in file order. */
+    public interface Visitor {
+
+        void pod(V1Pod pod);
+
+        void service(V1Service service);
+
+        void endpoints(V1Endpoints endpoints);
+    }
+
+    private final Gson gson = new JSON().getGson();
+    private final Visitor visitor;
+    private long objectsRead;
+    private long objectsSkipped;
+
+    public SnapshotReader(Visitor visitor) {
+        this.visitor = visitor;
+    }
+
+    /**
+     * Reads a dump file, or standard input for {@code -}.
+     *
+     * @param path Path to the dump
+     * @throws IOException if the file cannot be read or is not JSON
+     */
+    public void read(Path path) throws IOException {
+        try (InputStream in = "-".equals(path.toString()) ? System.in : new MappedFileInputStream(path);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            read(reader);
+        }
+    }
+
+    public void read(Reader source) throws IOException {
+        JsonReader reader = new JsonReader(source);
+        // Lenient so several documents can follow each other
+        reader.setLenient(true);
+        while (reader.peek() != JsonToken.END_DOCUMENT) {
+            if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    dispatch(JsonParser.parseReader(reader), null);
+                }
+                reader.endArray();
+            } else if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                readDocument(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+    }
+
+    public long getObjectsRead() {
+        return objectsRead;
+    }
+
+    public long getObjectsSkipped() {
+        return objectsSkipped;
+    }
+
+    /** One top-level object: a list whose items are streamed, or a single resource kept whole. */
+    private void readDocument(JsonReader reader) throws IOException {
+        JsonObject fields = new JsonObject();
+        String listKind = null;
+        boolean hasItems = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("items".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                hasItems = true;
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    dispatch(JsonParser.parseReader(reader), itemKind(listKind));
+                }
+                reader.endArray();
+            } else {
+                JsonElement value = JsonParser.parseReader(reader);
+                if ("kind".equals(name) && value.isJsonPrimitive()) {
+                    listKind = value.getAsString();
+                }
+                fields.add(name, value);
+            }
+        }
+        reader.endObject();
+
+        if (!hasItems) {
+            dispatch(fields, null);
+        }
+    }
+
+    private void dispatch(JsonElement element, String defaultKind) {
+        if (!element.isJsonObject()) {
+            objectsSkipped++;
+            return;
+        }
+        JsonObject object = element.getAsJsonObject();
+        JsonElement kindField = object.get("kind");
+        String kind = kindField != null && kindField.isJsonPrimitive() ? kindField.getAsString()
+                : defaultKind != null ? defaultKind : inferKind(object);
+        try {
+            switch (kind != null ? kind : "") {
+                case "Pod" -> visitor.pod(gson.fromJson(object, V1Pod.class));
+                case "Service" -> visitor.service(gson.fromJson(object, V1Service.class));
+                case "Endpoints" -> visitor.endpoints(gson.fromJson(object, V1Endpoints.class));
+                default -> {
+                    objectsSkipped++;
+                    return;
+                }
+            }
+            objectsRead++;
+        } catch (JsonParseException | IllegalArgumentException e) {
+            logger.warn("Skipping {} that could not be decoded: {}", kind, e.getMessage());
+            objectsSkipped++;
+        }
+    }
+
+    /** Item kind of a typed list ({@code PodList} holds {@code Pod}); null for a generic List. */
+    private static String itemKind(String listKind) {
+        return listKind != null && listKind.endsWith("List") && listKind.length() > 4
+                ? listKind.substring(0, listKind.length() - 4) : null;
+    }
+
+    /**
+     * Kind of an item with no kind field and no typed list around it (e.g. {@code kubectl get --raw}).
+     * Null, so the item is skipped, when its shape matches none of the three; other kinds have a spec too.
+     */
+    private static String inferKind(JsonObject object) {
+        if (object.has("spec") && object.get("spec").isJsonObject()) {
+            JsonObject spec = object.getAsJsonObject("spec");
+            if (spec.has("containers")) {
+                return "Pod";
+            }
+            // Workloads have a selector too, but also a pod template
+            return (spec.has("ports") || spec.has("selector")) && !spec.has("template") ? "Service" : null;
+        }
+        return object.has("subsets") ? "Endpoints" : null;
+    }
+}
@@ -0,0 +1,143 @@
+package com.kubediagnose.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubediagnose.cache.CoreDnsTracker;
+import com.kubediagnose.cache.PodProjection;
+import com.kubediagnose.model.ResultView;
+import com.kubediagnose.model.SnapshotDiagnosticResult;
+import com.kubediagnose.service.PodDebugService;
+import com.kubediagnose.service.ServiceDebugService;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Offline analysis of a kubectl JSON dump (profile {@code snapshot}): streams the file with
+ * {@link SnapshotReader}, runs the same pod and service rules as the bulk endpoints per namespace,
+ * and writes a {@link SnapshotDiagnosticResult}. Never contacts a cluster.
+ */
+@Component
+@Profile("snapshot")
+public class SnapshotRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotRunner.class);
+
+    private static final String KUBE_SYSTEM_NAMESPACE = "kube-system";
+
+    private final PodDebugService podDebugService;
+    private final ServiceDebugService serviceDebugService;
+    private final CoreDnsTracker coreDnsTracker;
+    private final ObjectMapper objectMapper;
+    private final String input;
+    private final String output;
+
+    public SnapshotRunner(PodDebugService podDebugService,
+                          ServiceDebugService serviceDebugService,
+                          CoreDnsTracker coreDnsTracker,
+                          ObjectMapper objectMapper,
+                          @Value("${kubediagnose.snapshot.input:}") String input,
+                          @Value("${kubediagnose.snapshot.output:}") String output) {
+        this.podDebugService = podDebugService;
+        this.serviceDebugService = serviceDebugService;
+        this.coreDnsTracker = coreDnsTracker;
+        this.objectMapper = objectMapper;
+        this.input = input;
+        this.output = output;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (input == null || input.isBlank()) {
+            throw new IllegalStateException("Set kubediagnose.snapshot.input to a kubectl JSON dump (or - for stdin)");
+        }
+
+        // Pods are kept compact: the service joins need them after the whole file has been read
+        Map<String, List<V1Pod>> podsByNamespace = new TreeMap<>();
+        Map<String, List<V1Service>> servicesByNamespace = new TreeMap<>();
+        Map<String, Map<String, V1Endpoints>> endpointsByNamespace = new HashMap<>();
+
+        long start = System.nanoTime();
+        SnapshotReader reader = new SnapshotReader(new SnapshotReader.Visitor() {
+            @Override
+            public void pod(V1Pod pod) {
+                podsByNamespace.computeIfAbsent(namespace(pod.getMetadata()), ns -> new ArrayList<>())
+                        .add(PodProjection.compact(pod));
+            }
+
+            @Override
+            public void service(V1Service service) {
+                servicesByNamespace.computeIfAbsent(namespace(service.getMetadata()), ns -> new ArrayList<>())
+                        .add(service);
+            }
+
+            @Override
+            public void endpoints(V1Endpoints endpoints) {
+                V1ObjectMeta metadata = endpoints.getMetadata();
+                if (metadata != null && metadata.getName() != null) {
+                    endpointsByNamespace.computeIfAbsent(namespace(metadata), ns -> new HashMap<>())
+                            .put(metadata.getName(), endpoints);
+                }
+            }
+        });
+        reader.read(Path.of(input));
+        logger.info("Read {} objects from {} in {} ms ({} skipped)", reader.getObjectsRead(), input,
+                (System.nanoTime() - start) / 1_000_000, reader.getObjectsSkipped());
+
+        // Without kube-system pods in the dump CoreDNS stays unknown rather than reported missing
+        List<V1Pod> kubeSystemPods = podsByNamespace.get(KUBE_SYSTEM_NAMESPACE);
+        if (kubeSystemPods != null) {
+            coreDnsTracker.observe(kubeSystemPods);
+        }
+
+        SnapshotDiagnosticResult result = new SnapshotDiagnosticResult();
+        result.setSource(input);
+        result.setObjectsRead(reader.getObjectsRead());
+        result.setObjectsSkipped(reader.getObjectsSkipped());
+        result.setCoreDnsKnown(coreDnsTracker.snapshot().isKnown());
+
+        Set<String> namespaces = new TreeSet<>(podsByNamespace.keySet());
+        namespaces.addAll(servicesByNamespace.keySet());
+        for (String namespace : namespaces) {
+            List<V1Pod> pods = podsByNamespace.getOrDefault(namespace, List.of());
+            if (!pods.isEmpty()) {
+                result.getPods().add(podDebugService.analyzePods(namespace, pods, ResultView.FULL));
+            }
+            List<V1Service> services = servicesByNamespace.get(namespace);
+            if (services != null) {
+                result.getServices().add(serviceDebugService.analyzeServices(namespace, services,
+                        endpointsByNamespace.getOrDefault(namespace, Map.of()), pods, ResultView.FULL));
+            }
+        }
+
+        Path target = Path.of(output != null && !output.isBlank() ? output
+                : "-".equals(input) ? "snapshot-diagnosis.json" : input + "-diagnosis.json");
+        try (OutputStream out = Files.newOutputStream(target)) {
+            objectMapper.writeValue(out, result);
+        }
+        logger.info("Wrote diagnosis of {} namespaces to {}", namespaces.size(), target);
+    }
+
+    private static String namespace(V1ObjectMeta metadata) {
+        return metadata != null && metadata.getNamespace() != null ? metadata.getNamespace() : "default";
+    }
+}
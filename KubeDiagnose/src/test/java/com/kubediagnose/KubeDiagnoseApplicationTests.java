@@ -10,7 +10,9 @@ import org.springframework.test.context.TestPropertySource;
  */
 @SpringBootTest
 @TestPropertySource(properties = {
-    "kubernetes.kubeconfig-path="  // Disable kubeconfig loading for tests
+    "kubernetes.kubeconfig-path=",  // Disable kubeconfig loading for tests
+    "kubernetes.base-path=http://127.0.0.1:1",  // Unreachable API server instead of in-cluster config
+    "kubernetes.informer.enabled=false"  // No watches against a cluster during tests
 })
 class KubeDiagnoseApplicationTests {
 
@@ -0,0 +1,75 @@
+package com.kubediagnose.analyzer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ordering and failure isolation, and a stalled stream sink leaving the pool free.
+ */
+class BulkAnalysisExecutorTest {
+
+    private final BulkAnalysisExecutor executor = new BulkAnalysisExecutor(2, 4);
+    private final List<Integer> items = IntStream.range(0, 1000).boxed().toList();
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void analyzeAllKeepsInputOrderAndIsolatesFailures() {
+        List<String> results = executor.analyzeAll(items, item -> {
+            if (item == 7) {
+                throw new IllegalStateException("boom");
+            }
+            return "ok-" + item;
+        }, (item, e) -> "failed-" + item);
+
+        assertThat(results).hasSize(1000);
+        assertThat(results.get(0)).isEqualTo("ok-0");
+        assertThat(results.get(7)).isEqualTo("failed-7");
+        assertThat(results.get(999)).isEqualTo("ok-999");
+    }
+
+    @Test
+    void analyzeEachWritesEveryResultInInputOrder() {
+        List<Integer> written = new ArrayList<>();
+
+        executor.analyzeEach(items, item -> item * 2, (item, e) -> -1, written::add);
+
+        assertThat(written).containsExactlyElementsOf(items.stream().map(item -> item * 2).toList());
+    }
+
+    @Test
+    void stalledSinkDoesNotHoldThePool() throws Exception {
+        CountDownLatch sinkBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> stream = CompletableFuture.runAsync(() ->
+                executor.analyzeEach(items, item -> item, (item, e) -> -1, result -> {
+                    sinkBlocked.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(sinkBlocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Another bulk request still gets the workers while the stream's client is stuck
+        CompletableFuture<List<Integer>> other = CompletableFuture.supplyAsync(
+                () -> executor.analyzeAll(items, item -> item + 1, (item, e) -> -1));
+        assertThat(other.get(5, TimeUnit.SECONDS)).hasSize(1000);
+
+        release.countDown();
+        stream.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,92 @@
+package com.kubediagnose.analyzer;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reuse by UID and version, least recently used eviction and the disabled cache.
+ */
+class ResultCacheTest {
+
+    @Test
+    void hitsOnSameUidAndVersion() {
+        ResultCache<String> cache = new ResultCache<>(10);
+        cache.put("uid-1", "100", "result");
+
+        assertThat(cache.get("uid-1", "100")).isEqualTo("result");
+        assertThat(cache.get("uid-2", "100")).isNull();
+    }
+
+    @Test
+    void versionBumpMissesAndReplacesTheEntry() {
+        ResultCache<String> cache = new ResultCache<>(10);
+        cache.put("uid-1", "100", "old");
+
+        assertThat(cache.get("uid-1", "101")).isNull();
+
+        cache.put("uid-1", "101", "new");
+        assertThat(cache.get("uid-1", "101")).isEqualTo("new");
+        assertThat(cache.get("uid-1", "100")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void evictRemovesTheEntry() {
+        ResultCache<String> cache = new ResultCache<>(10);
+        cache.put("uid-1", "100", "result");
+
+        cache.evict("uid-1");
+
+        assertThat(cache.get("uid-1", "100")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void dropsLeastRecentlyUsedBeyondMaxEntries() {
+        ResultCache<String> cache = new ResultCache<>(3);
+        cache.put("a", "1", "a");
+        cache.put("b", "1", "b");
+        cache.put("c", "1", "c");
+        cache.get("a", "1");
+
+        cache.put("d", "1", "d");
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("b", "1")).isNull();
+        assertThat(cache.get("a", "1")).isEqualTo("a");
+        assertThat(cache.get("c", "1")).isEqualTo("c");
+        assertThat(cache.get("d", "1")).isEqualTo("d");
+    }
+
+    @Test
+    void sweepsATenthAtOnce() {
+        ResultCache<Integer> cache = new ResultCache<>(100);
+        for (int i = 0; i <= 100; i++) {
+            cache.put("uid-" + i, "1", i);
+        }
+
+        assertThat(cache.size()).isEqualTo(90);
+        assertThat(cache.get("uid-10", "1")).isNull();
+        assertThat(cache.get("uid-11", "1")).isEqualTo(11);
+    }
+
+    @Test
+    void sizeZeroDisablesCaching() {
+        ResultCache<String> cache = new ResultCache<>(0);
+        cache.put("uid-1", "100", "result");
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get("uid-1", "100")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void objectsWithoutUidOrVersionAreNotCacheable() {
+        assertThat(ResultCache.uid(new V1ObjectMeta().uid("uid-1").resourceVersion("100"))).isEqualTo("uid-1");
+        assertThat(ResultCache.uid(new V1ObjectMeta().uid("uid-1"))).isNull();
+        assertThat(ResultCache.uid(new V1ObjectMeta().resourceVersion("100"))).isNull();
+        assertThat(ResultCache.uid(null)).isNull();
+    }
+}
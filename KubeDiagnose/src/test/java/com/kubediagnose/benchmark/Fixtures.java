@@ -0,0 +1,375 @@
+package com.kubediagnose.benchmark;
+
+import com.kubediagnose.analyzer.PodAnalyzer;
+import com.kubediagnose.analyzer.ServiceAnalyzer;
+import com.kubediagnose.cache.CoreDnsTracker;
+import com.kubediagnose.cache.PodCache;
+import com.kubediagnose.cache.ServiceCache;
+import com.kubediagnose.client.CoreReader;
+import com.kubediagnose.config.InformerProperties;
+import com.kubediagnose.config.RuleProperties;
+import com.kubediagnose.metrics.DiagnosticMetrics;
+import com.kubediagnose.rules.CoreDnsRule;
+import com.kubediagnose.rules.CrashLoopBackOffRule;
+import com.kubediagnose.rules.HighRestartCountRule;
+import com.kubediagnose.rules.ImagePullRule;
+import com.kubediagnose.rules.NoEndpointsRule;
+import com.kubediagnose.rules.OomKilledRule;
+import com.kubediagnose.rules.PortMismatchRule;
+import com.kubediagnose.rules.ProbeFailureRule;
+import com.kubediagnose.rules.RulePlanner;
+import com.kubediagnose.rules.SelectorMismatchRule;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStateWaiting;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1EndpointAddress;
+import io.kubernetes.client.openapi.models.V1EndpointSubset;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1OwnerReference;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Synthetic namespaces for the JMH benchmarks and the load-test API server, and analyzers wired
+ * the way Spring wires them but without a cluster: informers off, CoreDNS served from a fixed
+ * kube-system listing.
+ * Pods are grouped into apps of about {@link #PODS_PER_APP}; each app has one service whose
+ * selector uses the first {@code selectorKeys} of the app's four labels.
+ */
+public final class Fixtures {
+
+    public static final String NAMESPACE = "bench";
+    public static final int PODS_PER_APP = 20;
+
+    private static final String[] LABEL_KEYS = {"app", "tier", "track", "release"};
+
+    /** Share of failing pods in a namespace. */
+    public enum Mix {
+        /** Every pod running and ready. */
+        HEALTHY,
+        /** One pod in 20 each crash looping, failing image pulls, OOM-killed and probe-killed. */
+        MIXED,
+        /** One pod in four crash looping. */
+        CRASHLOOP,
+        /** One pod in four restarted after OOMKilled. */
+        OOM
+    }
+
+    private Fixtures() {
+    }
+
+    public static List<V1Pod> pods(int count, Mix mix) {
+        return pods(NAMESPACE, count, mix);
+    }
+
+    public static List<V1Pod> pods(String namespace, int count, Mix mix) {
+        List<V1Pod> pods = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int containers = 1 + (i % 3);
+            List<V1ContainerStatus> statuses = new ArrayList<>(containers);
+            List<V1Container> specs = new ArrayList<>(containers);
+            for (int c = 0; c < containers; c++) {
+                statuses.add(containerStatus(i, c, mix));
+                specs.add(new V1Container()
+                        .name("c" + c)
+                        .image("registry.example.com/app:" + (i % 7))
+                        .ports(c == 0 ? List.of(new V1ContainerPort().name("http").containerPort(8080)) : null));
+            }
+
+            boolean ready = statuses.stream().allMatch(V1ContainerStatus::getReady);
+            pods.add(new V1Pod()
+                    .metadata(new V1ObjectMeta()
+                            .name("pod-" + i)
+                            .namespace(namespace)
+                            .uid(namespace + "-pod-" + i)
+                            .resourceVersion("1")
+                            .labels(labels(app(i, count))))
+                    .spec(new V1PodSpec().containers(specs))
+                    .status(new V1PodStatus()
+                            .phase("Running")
+                            .podIP(ip(i))
+                            .conditions(List.of(
+                                    new V1PodCondition().type("Initialized").status("True"),
+                                    new V1PodCondition()
+                                            .type("Ready")
+                                            .status(ready ? "True" : "False")
+                                            .reason(ready ? null : "ContainersNotReady"),
+                                    new V1PodCondition().type("PodScheduled").status("True")))
+                            .containerStatuses(statuses)));
+        }
+        return pods;
+    }
+
+    /**
+     * {@link #pods} with {@link Mix#MIXED} failures, filled out the way the API server returns Deployment
+     * replicas: managedFields, annotations, owner reference, env, probes, resources and volumes.
+     * Namespaces and label strings are separate copies per pod, as the JSON decoder produces them.
+     */
+    public static List<V1Pod> fullPods(int count) {
+        List<V1Pod> pods = pods(count, Mix.MIXED);
+        OffsetDateTime created = OffsetDateTime.parse("2026-01-10T08:00:00Z");
+        for (int i = 0; i < count; i++) {
+            V1Pod pod = pods.get(i);
+            String app = pod.getMetadata().getLabels().get("app");
+            Map<String, String> labels = new HashMap<>();
+            pod.getMetadata().getLabels().forEach((key, value) -> labels.put(new String(key), new String(value)));
+            labels.put("pod-template-hash", "7d9f" + app.substring("app-".length()));
+
+            Map<String, String> annotations = new HashMap<>();
+            annotations.put("kubectl.kubernetes.io/restartedAt", created.toString());
+            annotations.put("prometheus.io/scrape", "true");
+            annotations.put("prometheus.io/port", "9090");
+
+            pod.apiVersion("v1").kind("Pod");
+            pod.getMetadata()
+                    .namespace(new String(pod.getMetadata().getNamespace()))
+                    .resourceVersion(String.valueOf(48_000_000 + i))
+                    .creationTimestamp(created)
+                    .labels(labels)
+                    .annotations(annotations)
+                    .ownerReferences(List.of(new V1OwnerReference()
+                            .apiVersion("apps/v1").kind("ReplicaSet").name(app + "-7d9f").uid("rs-" + app)))
+                    .managedFields(List.of(
+                            new V1ManagedFieldsEntry().manager("kube-controller-manager").operation("Update")
+                                    .apiVersion("v1").fieldsType("FieldsV1").time(created)
+                                    .fieldsV1(Map.of("f:metadata", Map.of("f:labels", Map.of("f:app", Map.of())))),
+                            new V1ManagedFieldsEntry().manager("kubelet").operation("Update")
+                                    .apiVersion("v1").fieldsType("FieldsV1").subresource("status").time(created)
+                                    .fieldsV1(Map.of("f:status", Map.of("f:conditions", Map.of())))));
+
+            List<V1Container> containers = pod.getSpec().getContainers();
+            for (int c = 0; c < containers.size(); c++) {
+                List<V1EnvVar> env = new ArrayList<>();
+                for (int e = 0; e < 12; e++) {
+                    env.add(new V1EnvVar().name("ENV_VAR_" + e).value("value-" + i + "-" + e));
+                }
+                containers.get(c)
+                        .env(env)
+                        .resources(new V1ResourceRequirements()
+                                .requests(Map.of("cpu", Quantity.fromString("100m"), "memory", Quantity.fromString("128Mi")))
+                                .limits(Map.of("cpu", Quantity.fromString("500m"), "memory", Quantity.fromString("512Mi"))))
+                        .readinessProbe(new V1Probe().httpGet(new V1HTTPGetAction().path("/ready").port(new IntOrString(8080 + c))))
+                        .livenessProbe(new V1Probe().httpGet(new V1HTTPGetAction().path("/healthz").port(new IntOrString(8080 + c))))
+                        .volumeMounts(List.of(new V1VolumeMount().name("config").mountPath("/etc/app")));
+            }
+            pod.getSpec()
+                    .nodeName("node-" + (i % 40))
+                    .serviceAccountName("default")
+                    .volumes(List.of(new V1Volume().name("config")
+                            .configMap(new V1ConfigMapVolumeSource().name(app + "-config"))));
+            pod.getStatus()
+                    .hostIP("192.168.0." + (i % 40))
+                    .qosClass("Burstable")
+                    .startTime(created);
+        }
+        return pods;
+    }
+
+    /**
+     * One service per app. Every tenth selects a label value no pod carries (selector mismatch,
+     * no endpoints) and every seventh targets a port the pods do not expose.
+     */
+    public static List<V1Service> services(int podCount, int selectorKeys) {
+        return services(NAMESPACE, podCount, selectorKeys);
+    }
+
+    public static List<V1Service> services(String namespace, int podCount, int selectorKeys) {
+        int apps = apps(podCount);
+        List<V1Service> services = new ArrayList<>(apps);
+        for (int a = 0; a < apps; a++) {
+            Map<String, String> selector = new LinkedHashMap<>();
+            Map<String, String> labels = labels(a);
+            for (int k = 0; k < selectorKeys; k++) {
+                selector.put(LABEL_KEYS[k], labels.get(LABEL_KEYS[k]));
+            }
+            if (a % 10 == 9) {
+                selector.put("app", "app-" + a + "-previous");
+            }
+            IntOrString targetPort = a % 7 == 6 ? new IntOrString(9090) : new IntOrString("http");
+            services.add(new V1Service()
+                    .metadata(new V1ObjectMeta()
+                            .name("svc-" + a)
+                            .namespace(namespace)
+                            .uid(namespace + "-svc-" + a)
+                            .resourceVersion("1"))
+                    .spec(new V1ServiceSpec()
+                            .type("ClusterIP")
+                            .selector(selector)
+                            .ports(List.of(new V1ServicePort().name("http").port(80).targetPort(targetPort)))));
+        }
+        return services;
+    }
+
+    /** Endpoints for {@link #services}, in the same order: ready and not-ready addresses of each app's pods. */
+    public static List<V1Endpoints> endpoints(List<V1Pod> pods, List<V1Service> services) {
+        int apps = services.size();
+        List<List<V1EndpointAddress>> ready = new ArrayList<>(apps);
+        List<List<V1EndpointAddress>> notReady = new ArrayList<>(apps);
+        for (int a = 0; a < apps; a++) {
+            ready.add(new ArrayList<>());
+            notReady.add(new ArrayList<>());
+        }
+        for (int i = 0; i < pods.size(); i++) {
+            V1Pod pod = pods.get(i);
+            V1EndpointAddress address = new V1EndpointAddress().ip(pod.getStatus().getPodIP());
+            boolean podReady = pod.getStatus().getContainerStatuses().stream().allMatch(V1ContainerStatus::getReady);
+            (podReady ? ready : notReady).get(app(i, pods.size())).add(address);
+        }
+
+        List<V1Endpoints> endpoints = new ArrayList<>(apps);
+        for (int a = 0; a < apps; a++) {
+            V1Endpoints item = new V1Endpoints()
+                    .metadata(new V1ObjectMeta()
+                            .name(services.get(a).getMetadata().getName())
+                            .namespace(services.get(a).getMetadata().getNamespace())
+                            .resourceVersion("1"));
+            if (a % 10 != 9) {
+                item.subsets(List.of(new V1EndpointSubset()
+                        .addresses(ready.get(a).isEmpty() ? null : ready.get(a))
+                        .notReadyAddresses(notReady.get(a).isEmpty() ? null : notReady.get(a))));
+            }
+            endpoints.add(item);
+        }
+        return endpoints;
+    }
+
+    public static PodAnalyzer podAnalyzer(int resultCacheSize, boolean ruleTiming) {
+        return new PodAnalyzer(rulePlanner(), new PodCache(null, null, new InformerProperties()),
+                new DiagnosticMetrics(new SimpleMeterRegistry()), resultCacheSize, ruleTiming);
+    }
+
+    /** Service analyzer reading a two-replica CoreDNS; shut the tracker down after the trial. */
+    public static ServiceAnalyzer serviceAnalyzer(CoreDnsTracker coreDnsTracker, int resultCacheSize, boolean ruleTiming) {
+        return new ServiceAnalyzer(rulePlanner(), new ServiceCache(null, null, new InformerProperties()),
+                coreDnsTracker, new DiagnosticMetrics(new SimpleMeterRegistry()), resultCacheSize, ruleTiming);
+    }
+
+    /** Tracker polling a fixed listing of two ready CoreDNS pods; returns once the first poll has landed. */
+    public static CoreDnsTracker coreDnsTracker() {
+        V1PodList coreDns = new V1PodList().items(coreDnsPods(2));
+        CoreReader reader = new CoreReader(null, null, false) {
+            @Override
+            public V1PodList listPods(String namespace, String labelSelector) {
+                return coreDns;
+            }
+        };
+        CoreDnsTracker tracker = new CoreDnsTracker(new PodCache(null, null, new InformerProperties()),
+                reader, "auto", 3600, 60);
+        while (!tracker.snapshot().isKnown()) {
+            Thread.onSpinWait();
+        }
+        return tracker;
+    }
+
+    private static RulePlanner rulePlanner() {
+        return new RulePlanner(
+                List.of(new CrashLoopBackOffRule(), new ImagePullRule(), new OomKilledRule(),
+                        new ProbeFailureRule(), new HighRestartCountRule()),
+                List.of(new SelectorMismatchRule(), new NoEndpointsRule(), new PortMismatchRule(),
+                        new CoreDnsRule()),
+                new RuleProperties());
+    }
+
+    private static int apps(int podCount) {
+        return Math.max(1, podCount / PODS_PER_APP);
+    }
+
+    /** App of a pod; a remainder of fewer than {@link #PODS_PER_APP} pods joins the last app. */
+    private static int app(int pod, int podCount) {
+        return Math.min(pod / PODS_PER_APP, apps(podCount) - 1);
+    }
+
+    private static Map<String, String> labels(int app) {
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("app", "app-" + app);
+        labels.put("tier", "tier-" + (app % 3));
+        labels.put("track", app % 2 == 0 ? "stable" : "canary");
+        labels.put("release", "r" + (app % 5));
+        return labels;
+    }
+
+    private static String ip(int pod) {
+        return "10.1." + ((pod >> 8) & 0xff) + "." + (pod & 0xff);
+    }
+
+    private static V1ContainerStatus containerStatus(int pod, int container, Mix mix) {
+        V1ContainerStatus status = new V1ContainerStatus()
+                .name("c" + container)
+                .image("registry.example.com/app:" + (pod % 7))
+                .imageID("sha256:" + pod)
+                .restartCount(0)
+                .ready(true)
+                .state(new V1ContainerState().running(new V1ContainerStateRunning().startedAt(OffsetDateTime.now())));
+
+        int failure = switch (mix) {
+            case HEALTHY -> 0;
+            case MIXED -> pod % 20 <= 4 ? pod % 20 : 0;
+            case CRASHLOOP -> pod % 4 == 1 ? 1 : 0;
+            case OOM -> pod % 4 == 1 ? 3 : 0;
+        };
+        switch (failure) {
+            case 1 -> status.ready(false).restartCount(12)
+                    .state(new V1ContainerState().waiting(new V1ContainerStateWaiting()
+                            .reason("CrashLoopBackOff").message("back-off 5m0s restarting failed container")));
+            case 2 -> status.ready(false)
+                    .state(new V1ContainerState().waiting(new V1ContainerStateWaiting()
+                            .reason("ImagePullBackOff").message("Back-off pulling image")));
+            case 3 -> status.restartCount(3)
+                    .lastState(new V1ContainerState().terminated(new V1ContainerStateTerminated()
+                            .reason("OOMKilled").exitCode(137).finishedAt(OffsetDateTime.now())));
+            case 4 -> status.ready(false).restartCount(2)
+                    .lastState(new V1ContainerState().terminated(new V1ContainerStateTerminated()
+                            .reason("Error").exitCode(137)));
+            default -> {
+            }
+        }
+        return status;
+    }
+
+    /** Ready CoreDNS replicas in kube-system, labeled as the tracker expects. */
+    public static List<V1Pod> coreDnsPods(int replicas) {
+        List<V1Pod> pods = new ArrayList<>(replicas);
+        for (int replica = 0; replica < replicas; replica++) {
+            pods.add(new V1Pod()
+                    .metadata(new V1ObjectMeta()
+                            .name("coredns-" + replica)
+                            .namespace("kube-system")
+                            .uid("kube-system-coredns-" + replica)
+                            .resourceVersion("1")
+                            .labels(Map.of("k8s-app", "kube-dns")))
+                    .status(new V1PodStatus()
+                            .phase("Running")
+                            .conditions(List.of(new V1PodCondition().type("Ready").status("True")))));
+        }
+        return pods;
+    }
+}
@@ -0,0 +1,117 @@
+package com.kubediagnose.cache;
+
+import com.kubediagnose.benchmark.Fixtures;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Fields the compact pod keeps for the rules, and the ones it drops.
+ */
+class PodProjectionTest {
+
+    // Pod 1 crash loops and has two containers; see Fixtures.Mix.MIXED
+    private final V1Pod full = Fixtures.fullPods(2).get(1);
+    private final V1Pod compact = PodProjection.compact(full);
+
+    @Test
+    void keepsIdentityAndLabels() {
+        assertThat(compact.getApiVersion()).isEqualTo("v1");
+        assertThat(compact.getKind()).isEqualTo("Pod");
+        assertThat(compact.getMetadata().getName()).isEqualTo(full.getMetadata().getName());
+        assertThat(compact.getMetadata().getNamespace()).isEqualTo(full.getMetadata().getNamespace());
+        assertThat(compact.getMetadata().getUid()).isEqualTo(full.getMetadata().getUid());
+        assertThat(compact.getMetadata().getResourceVersion()).isEqualTo(full.getMetadata().getResourceVersion());
+        assertThat(compact.getMetadata().getCreationTimestamp()).isEqualTo(full.getMetadata().getCreationTimestamp());
+        assertThat(compact.getMetadata().getLabels()).isEqualTo(full.getMetadata().getLabels());
+    }
+
+    @Test
+    void dropsMetadataTheRulesNeverRead() {
+        assertThat(compact.getMetadata().getAnnotations()).isNullOrEmpty();
+        assertThat(compact.getMetadata().getManagedFields()).isNullOrEmpty();
+        assertThat(compact.getMetadata().getOwnerReferences()).isNullOrEmpty();
+    }
+
+    @Test
+    void keepsContainerNamesImagesAndPorts() {
+        assertThat(compact.getSpec().getNodeName()).isEqualTo(full.getSpec().getNodeName());
+        List<V1Container> containers = compact.getSpec().getContainers();
+        assertThat(containers).hasSize(2);
+        V1Container first = containers.get(0);
+        V1Container source = full.getSpec().getContainers().get(0);
+        assertThat(first.getName()).isEqualTo(source.getName());
+        assertThat(first.getImage()).isEqualTo(source.getImage());
+        assertThat(first.getPorts()).singleElement()
+                .satisfies(port -> {
+                    assertThat(port.getName()).isEqualTo("http");
+                    assertThat(port.getContainerPort()).isEqualTo(8080);
+                });
+    }
+
+    @Test
+    void dropsTheRestOfTheSpec() {
+        assertThat(compact.getSpec().getServiceAccountName()).isNull();
+        assertThat(compact.getSpec().getVolumes()).isNullOrEmpty();
+        for (V1Container container : compact.getSpec().getContainers()) {
+            assertThat(container.getEnv()).isNullOrEmpty();
+            assertThat(container.getResources()).isNull();
+            assertThat(container.getReadinessProbe()).isNull();
+            assertThat(container.getLivenessProbe()).isNull();
+            assertThat(container.getVolumeMounts()).isNullOrEmpty();
+        }
+    }
+
+    @Test
+    void keepsPhaseConditionsAndContainerStatuses() {
+        assertThat(compact.getStatus().getPhase()).isEqualTo("Running");
+        assertThat(compact.getStatus().getConditions())
+                .extracting("type", "status", "reason")
+                .containsExactlyElementsOf(full.getStatus().getConditions().stream()
+                        .map(condition -> tuple(
+                                condition.getType(), condition.getStatus(), condition.getReason()))
+                        .toList());
+
+        V1ContainerStatus status = compact.getStatus().getContainerStatuses().get(0);
+        V1ContainerStatus source = full.getStatus().getContainerStatuses().get(0);
+        assertThat(status.getName()).isEqualTo(source.getName());
+        assertThat(status.getImage()).isEqualTo(source.getImage());
+        assertThat(status.getReady()).isFalse();
+        assertThat(status.getRestartCount()).isEqualTo(12);
+        assertThat(status.getState().getWaiting().getReason()).isEqualTo("CrashLoopBackOff");
+        assertThat(status.getImageID()).isNull();
+    }
+
+    @Test
+    void dropsStatusFieldsTheRulesNeverRead() {
+        assertThat(compact.getStatus().getHostIP()).isNull();
+        assertThat(compact.getStatus().getPodIP()).isNull();
+        assertThat(compact.getStatus().getQosClass()).isNull();
+        assertThat(compact.getStatus().getStartTime()).isNull();
+    }
+
+    @Test
+    void internsRepeatedStrings() {
+        V1Pod other = PodProjection.compact(Fixtures.fullPods(2).get(0));
+
+        assertThat(compact.getMetadata().getNamespace()).isSameAs(other.getMetadata().getNamespace());
+        assertThat(compact.getMetadata().getLabels().get("tier"))
+                .isSameAs(other.getMetadata().getLabels().get("tier"));
+        assertThat(full.getMetadata().getNamespace()).isNotSameAs(other.getMetadata().getNamespace());
+    }
+
+    @Test
+    void nullSectionsStayNull() {
+        V1Pod empty = PodProjection.compact(new V1Pod());
+
+        assertThat(empty.getMetadata()).isNull();
+        assertThat(empty.getSpec()).isNull();
+        assertThat(empty.getStatus()).isNull();
+    }
+}
@@ -0,0 +1,133 @@
+package com.kubediagnose.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubediagnose.model.PodDiagnosticResult;
+import com.kubediagnose.model.ResultView;
+import com.kubediagnose.model.Severity;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Parsing of {@code fields}, what the filters write, the view it selects and the ETag suffix.
+ */
+class FieldProjectionTest {
+
+    private final ObjectMapper mapper = new ObjectMapper().setMixIns(FieldProjection.mixIns());
+
+    private JsonNode write(FieldProjection projection, Object value) throws Exception {
+        return mapper.readTree(mapper.writer(projection.getFilters()).writeValueAsString(value));
+    }
+
+    private static PodDiagnosticResult pod() {
+        PodDiagnosticResult result = new PodDiagnosticResult();
+        result.setResourceName("web-1");
+        result.setNamespace("shop");
+        result.setSeverity(Severity.CRITICAL);
+        result.setPhase("Running");
+        result.setRestartCount(12);
+        PodDiagnosticResult.Summary summary = new PodDiagnosticResult.Summary();
+        summary.setIssueCount(1);
+        summary.setMessage("Container is crash looping");
+        result.setSummary(summary);
+        PodDiagnosticResult.ContainerStatus container = new PodDiagnosticResult.ContainerStatus();
+        container.setName("web");
+        container.setState("Waiting");
+        container.setReason("CrashLoopBackOff");
+        result.setContainerStatuses(List.of(container));
+        return result;
+    }
+
+    @Test
+    void noFieldsWritesEverything() throws Exception {
+        assertThat(FieldProjection.forPods(null).isAll()).isTrue();
+        assertThat(FieldProjection.forPods(" ").isAll()).isTrue();
+        assertThat(FieldProjection.forPods(" , ").isAll()).isTrue();
+
+        JsonNode json = write(FieldProjection.ALL, pod());
+        assertThat(json.has("summary")).isTrue();
+        assertThat(json.has("containerStatuses")).isTrue();
+    }
+
+    @Test
+    void writesOnlyRequestedFields() throws Exception {
+        FieldProjection projection = FieldProjection.forPods("resourceName, status,summary.issueCount,containerStatuses.reason");
+
+        JsonNode json = write(projection, pod());
+
+        assertThat(json.fieldNames()).toIterable()
+                .containsExactlyInAnyOrder("resourceName", "status", "summary", "containerStatuses");
+        assertThat(json.get("summary").fieldNames()).toIterable().containsExactly("issueCount");
+        assertThat(json.get("containerStatuses").get(0).fieldNames()).toIterable().containsExactly("reason");
+    }
+
+    @Test
+    void wholeNestedPropertyWinsOverItsChildren() throws Exception {
+        JsonNode json = write(FieldProjection.forPods("summary,summary.message"), pod());
+
+        assertThat(json.get("summary").has("issueCount")).isTrue();
+        assertThat(json.get("summary").has("message")).isTrue();
+    }
+
+    @Test
+    void rejectsUnknownFields() {
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forPods("name"))
+                .withMessageStartingWith("Unknown field 'name'; fields are summary, resourceName");
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forPods("resourceName.length"));
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forPods("summary."));
+        // Service-only nested properties
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forPods("endpointInfo.readyEndpoints"));
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forServices("containerStatuses.name"));
+    }
+
+    @Test
+    void rejectsUnknownNestedFields() {
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forPods("summary.issues"))
+                .withMessage("Unknown field 'summary.issues'; summary fields are "
+                        + "diagnosticTime, resourceType, overallHealth, issueCount, message");
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forPods("containerStatuses.image"))
+                .withMessageContaining("containerStatuses fields are name, state, ready");
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forServices("ports.containerPort"))
+                .withMessageContaining("ports fields are name, protocol, port, targetPort, nodePort");
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forServices("endpointInfo.ready"))
+                .withMessageContaining("endpointInfo fields are readyEndpoints, notReadyEndpoints, addresses");
+        assertThatIllegalArgumentException().isThrownBy(() -> FieldProjection.forServices("summary.message.text"));
+
+        assertThat(FieldProjection.forServices("summary.message,ports.targetPort,endpointInfo.addresses").isAll())
+                .isFalse();
+    }
+
+    @Test
+    void tileFieldsSelectTheTileView() {
+        assertThat(FieldProjection.forPods("resourceName,status,restartCount").view(ResultView.FULL))
+                .isEqualTo(ResultView.TILE);
+        assertThat(FieldProjection.forServices("status,endpointInfo.readyEndpoints").view(ResultView.FULL))
+                .isEqualTo(ResultView.TILE);
+    }
+
+    @Test
+    void otherFieldsKeepTheRequestedView() {
+        assertThat(FieldProjection.forPods("status,summary.message").view(ResultView.FULL))
+                .isEqualTo(ResultView.FULL);
+        assertThat(FieldProjection.forServices("status,endpointInfo").view(ResultView.FULL))
+                .isEqualTo(ResultView.FULL);
+        assertThat(FieldProjection.ALL.view(ResultView.TILE)).isEqualTo(ResultView.TILE);
+    }
+
+    @Test
+    void etagCarriesTheFields() {
+        String etag = "\"abc123\"";
+
+        assertThat(FieldProjection.ALL.etag(etag)).isEqualTo(etag);
+        assertThat(FieldProjection.forPods("status").etag(null)).isNull();
+
+        String projected = FieldProjection.forPods("status,resourceName").etag(etag);
+        assertThat(projected).startsWith("\"abc123-f").endsWith("\"");
+        assertThat(FieldProjection.forPods(" resourceName,status,status").etag(etag)).isEqualTo(projected);
+        assertThat(FieldProjection.forPods("status").etag(etag)).isNotEqualTo(projected);
+    }
+}
@@ -0,0 +1,300 @@
+package com.kubediagnose.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.common.KubernetesObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for the Kubernetes API server over a {@link SyntheticCluster}, for load tests without a cluster.
+ * Serves the core/v1 LIST, GET and WATCH calls {@code CoreV1Api} makes for namespaces, pods, services and
+ * endpoints: namespaced and all-namespaces lists, equality label selectors, and limit/continue paging.
+ * JSON only, so run KubeDiagnose with protobuf reads off.
+ * <p>
+ * Every request waits {@code latency} ms plus or minus up to {@code jitter} ms, and fails with a
+ * 500 Status at {@code errorRate}.
+ * A watch starts with a BOOKMARK at the current resourceVersion, then streams the cluster's changes
+ * until its timeoutSeconds; changes between a LIST and the following WATCH are not replayed.
+ */
+public class FakeKubernetesApiServer implements AutoCloseable {
+
+    private static final Map<String, String> KINDS = Map.of(
+            SyntheticCluster.PODS, "Pod",
+            SyntheticCluster.SERVICES, "Service",
+            SyntheticCluster.ENDPOINTS, "Endpoints",
+            SyntheticCluster.NAMESPACES, "Namespace");
+    private static final long MAX_WATCH_SECONDS = 300;
+
+    private final SyntheticCluster cluster;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double errorRate;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private volatile boolean stopped;
+
+    /**
+     * @param port Port to listen on; 0 picks a free one (see {@link #getUrl()})
+     * @param latencyMillis Delay before every response
+     * @param jitterMillis Uniform random extra delay of up to this many ms either way
+     * @param errorRate Share of requests answered with 500 (0 to 1)
+     */
+    public FakeKubernetesApiServer(SyntheticCluster cluster, int port, long latencyMillis, long jitterMillis,
+                                   double errorRate) throws IOException {
+        this.cluster = cluster;
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        // Watches hold a thread each for their whole lifetime
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-apiserver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public FakeKubernetesApiServer start() {
+        server.start();
+        return this;
+    }
+
+    /** Base path for {@code kubernetes.base-path}. */
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        stopped = true;
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            URI uri = exchange.getRequestURI();
+            Map<String, String> query = query(uri.getRawQuery());
+            delay();
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                status(exchange, 405, "MethodNotAllowed", exchange.getRequestMethod() + " is not supported");
+                return;
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                status(exchange, 500, "InternalError", "injected error");
+                return;
+            }
+
+            // /api/v1/{resource}, /api/v1/namespaces/{ns}[/{resource}[/{name}]]
+            String[] path = uri.getPath().replaceAll("^/+|/+$", "").split("/");
+            if (path.length < 3 || !"api".equals(path[0]) || !"v1".equals(path[1])) {
+                status(exchange, 404, "NotFound", "the server could not find the requested resource");
+                return;
+            }
+            String resource;
+            String namespace = null;
+            String name = null;
+            if (SyntheticCluster.NAMESPACES.equals(path[2]) && path.length >= 5) {
+                namespace = path[3];
+                resource = path[4];
+                name = path.length >= 6 ? path[5] : null;
+            } else if (SyntheticCluster.NAMESPACES.equals(path[2]) && path.length == 4) {
+                resource = SyntheticCluster.NAMESPACES;
+                name = path[3];
+            } else {
+                resource = path[2];
+            }
+            if (!KINDS.containsKey(resource)) {
+                status(exchange, 404, "NotFound", "the server could not find the requested resource");
+                return;
+            }
+
+            if (name != null) {
+                SyntheticCluster.Stored stored = cluster.get(resource, namespace, name);
+                if (stored == null) {
+                    status(exchange, 404, "NotFound", resource + " \"" + name + "\" not found");
+                } else {
+                    respond(exchange, 200, stored.json());
+                }
+            } else if ("true".equals(query.get("watch"))) {
+                watch(exchange, resource, namespace, query);
+            } else {
+                list(exchange, resource, namespace, query);
+            }
+        } catch (IOException e) {
+            // Client went away, typically a watch being cancelled
+        }
+    }
+
+    private void list(HttpExchange exchange, String resource, String namespace, Map<String, String> query)
+            throws IOException {
+        List<SyntheticCluster.Stored> items = cluster.list(resource, namespace);
+        Map<String, String> selector = labelSelector(query.get("labelSelector"));
+        if (!selector.isEmpty()) {
+            items = items.stream().filter(stored -> matches(stored.object(), selector)).toList();
+        }
+
+        int offset = parseInt(query.get("continue"), 0);
+        int limit = parseInt(query.get("limit"), 0);
+        int end = limit > 0 ? Math.min(items.size(), offset + limit) : items.size();
+        String continueToken = end < items.size() ? Integer.toString(end) : null;
+
+        int length = 128;
+        for (int i = Math.min(offset, end); i < end; i++) {
+            length += items.get(i).json().length() + 1;
+        }
+        StringBuilder body = new StringBuilder(length);
+        body.append("{\"kind\":\"").append(KINDS.get(resource)).append("List\",\"apiVersion\":\"v1\",")
+                .append("\"metadata\":{\"resourceVersion\":\"").append(cluster.getResourceVersion()).append('"');
+        if (continueToken != null) {
+            body.append(",\"continue\":\"").append(continueToken).append('"');
+        }
+        body.append("},\"items\":[");
+        for (int i = Math.min(offset, end); i < end; i++) {
+            if (i > offset) {
+                body.append(',');
+            }
+            body.append(items.get(i).json());
+        }
+        body.append("]}");
+        respond(exchange, 200, body.toString());
+    }
+
+    private void watch(HttpExchange exchange, String resource, String namespace, Map<String, String> query)
+            throws IOException {
+        long timeoutSeconds = Math.min(MAX_WATCH_SECONDS, parseInt(query.get("timeoutSeconds"), (int) MAX_WATCH_SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        Map<String, String> selector = labelSelector(query.get("labelSelector"));
+
+        BlockingQueue<SyntheticCluster.Event> events = new LinkedBlockingQueue<>();
+        Consumer<SyntheticCluster.Event> listener = event -> {
+            if (event.resource().equals(resource)
+                    && (namespace == null || namespace.equals(event.stored().object().getMetadata().getNamespace()))
+                    && matches(event.stored().object(), selector)) {
+                events.add(event);
+            }
+        };
+        cluster.addListener(listener);
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            write(out, "{\"type\":\"BOOKMARK\",\"object\":{\"kind\":\"" + KINDS.get(resource)
+                    + "\",\"apiVersion\":\"v1\",\"metadata\":{\"resourceVersion\":\""
+                    + cluster.getResourceVersion() + "\"}}}");
+            while (!stopped) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                SyntheticCluster.Event event = events.poll(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)),
+                        TimeUnit.NANOSECONDS);
+                if (event != null) {
+                    write(out, "{\"type\":\"" + event.type() + "\",\"object\":" + event.stored().json() + "}");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            cluster.removeListener(listener);
+        }
+    }
+
+    private static void write(OutputStream out, String line) throws IOException {
+        out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void delay() {
+        long millis = latencyMillis;
+        if (jitterMillis > 0) {
+            millis += ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1);
+        }
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void status(HttpExchange exchange, int code, String reason, String message) throws IOException {
+        respond(exchange, code, "{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"metadata\":{},\"status\":\"Failure\","
+                + "\"message\":\"" + message.replace("\"", "\\\"") + "\",\"reason\":\"" + reason
+                + "\",\"code\":" + code + "}");
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static boolean matches(KubernetesObject object, Map<String, String> selector) {
+        if (selector.isEmpty()) {
+            return true;
+        }
+        Map<String, String> labels = object.getMetadata().getLabels();
+        return labels != null && labels.entrySet().containsAll(selector.entrySet());
+    }
+
+    /** Equality-based selectors only ({@code a=b,c==d}). */
+    private static Map<String, String> labelSelector(String selector) {
+        Map<String, String> terms = new HashMap<>();
+        if (selector == null || selector.isBlank()) {
+            return terms;
+        }
+        for (String term : selector.split(",")) {
+            String[] keyValue = term.split("==?", 2);
+            if (keyValue.length == 2) {
+                terms.put(keyValue[0].trim(), keyValue[1].trim());
+            }
+        }
+        return terms;
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(key, value);
+        }
+        return params;
+    }
+
+    private static int parseInt(String value, int fallback) {
+        if (value == null || value.isEmpty()) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
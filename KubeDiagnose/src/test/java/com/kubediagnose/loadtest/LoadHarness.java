@@ -0,0 +1,261 @@
+package com.kubediagnose.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubediagnose.KubeDiagnoseApplication;
+import com.kubediagnose.benchmark.Fixtures;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * End-to-end load test without a cluster: starts a {@link FakeKubernetesApiServer} over a
+ * {@link SyntheticCluster}, starts KubeDiagnose against it, then drives the bulk endpoints
+ * {@code /api/debug/pods/{ns}} and {@code /api/debug/services/{ns}} with a fixed number of concurrent
+ * clients and prints p50, p90, p99 and throughput. Not a test; run with:
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.kubediagnose.loadtest.LoadHarness
+ * <p>
+ * Options as {@code -Dexec.args="key=value ..."} (defaults in brackets):
+ * namespaces [5], pods (per namespace) [1000], mix [MIXED], selector-keys [2],
+ * latency-ms [5], jitter-ms [2], error-rate [0], churn-per-second [0] for the fake API server;
+ * informers [true], concurrency [16], warmup-seconds [10], duration-seconds [30], endpoints [pods,services].
+ * {@code serve-only=true} only runs the fake API server (on api-port [0]) for a KubeDiagnose started
+ * separately with {@code kubernetes.base-path}; {@code target=http://host:port} drives a running
+ * KubeDiagnose instead of starting one.
+ */
+public class LoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int namespaces = intOption(options, "namespaces", 5);
+        int pods = intOption(options, "pods", 1000);
+
+        SyntheticCluster cluster = new SyntheticCluster(namespaces, pods,
+                Fixtures.Mix.valueOf(options.getOrDefault("mix", "MIXED")), intOption(options, "selector-keys", 2));
+        FakeKubernetesApiServer apiServer = new FakeKubernetesApiServer(cluster, intOption(options, "api-port", 0),
+                intOption(options, "latency-ms", 5), intOption(options, "jitter-ms", 2),
+                Double.parseDouble(options.getOrDefault("error-rate", "0"))).start();
+        System.out.printf("fake API server at %s: %d namespaces, %d pods, %d services%n", apiServer.getUrl(),
+                namespaces, cluster.size(SyntheticCluster.PODS), cluster.size(SyntheticCluster.SERVICES));
+
+        ScheduledExecutorService churn = startChurn(cluster, Double.parseDouble(options.getOrDefault("churn-per-second", "0")));
+        if (Boolean.parseBoolean(options.getOrDefault("serve-only", "false"))) {
+            System.out.println("serving until interrupted");
+            Thread.currentThread().join();
+        }
+
+        ConfigurableApplicationContext app = null;
+        String target = options.get("target");
+        if (target == null) {
+            app = new SpringApplicationBuilder(KubeDiagnoseApplication.class)
+                    .properties(
+                            "server.port=0",
+                            "kubernetes.base-path=" + apiServer.getUrl(),
+                            "kubernetes.kubeconfig-path=",
+                            "kubernetes.informer.enabled=" + options.getOrDefault("informers", "true"),
+                            "kubernetes.protobuf.enabled=false",
+                            "logging.level.com.kubediagnose=INFO")
+                    .run();
+            target = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+        }
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            awaitCaches(http, target);
+            int concurrency = intOption(options, "concurrency", 16);
+            int warmupSeconds = intOption(options, "warmup-seconds", 10);
+            int durationSeconds = intOption(options, "duration-seconds", 30);
+            System.out.printf("concurrency=%d warmup=%ds duration=%ds%n", concurrency, warmupSeconds, durationSeconds);
+            System.out.printf("%-10s %9s %7s %10s %9s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+            for (String endpoint : options.getOrDefault("endpoints", "pods,services").split(",")) {
+                run(http, target, endpoint.trim(), namespaces, concurrency, warmupSeconds, false);
+                run(http, target, endpoint.trim(), namespaces, concurrency, durationSeconds, true).print();
+            }
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+            if (churn != null) {
+                churn.shutdownNow();
+            }
+            apiServer.close();
+        }
+    }
+
+    /** Requests {@code /api/debug/{endpoint}/{ns}} round-robin over the namespaces from {@code concurrency} threads. */
+    private static Result run(HttpClient http, String target, String endpoint, int namespaces,
+                              int concurrency, int seconds, boolean measured) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+        AtomicInteger next = new AtomicInteger();
+        List<Worker> workers = new ArrayList<>(concurrency);
+        List<Thread> threads = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(() -> {
+                String namespace = SyntheticCluster.namespaceName(next.getAndIncrement() % namespaces);
+                return HttpRequest.newBuilder(URI.create(target + "/api/debug/" + endpoint + "/" + namespace))
+                        .timeout(Duration.ofSeconds(60))
+                        .GET()
+                        .build();
+            }, http, deadline);
+            workers.add(worker);
+            Thread thread = new Thread(worker, "load-" + endpoint + "-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        return measured ? Result.of(endpoint, workers, elapsed) : null;
+    }
+
+    /** Waits until every informer cache reports synced (or disabled). */
+    private static void awaitCaches(HttpClient http, String target) throws IOException, InterruptedException {
+        ObjectMapper mapper = new ObjectMapper();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(target + "/api/cache")).GET().build();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        while (System.nanoTime() < deadline) {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                boolean ready = true;
+                for (JsonNode cache : mapper.readTree(response.body())) {
+                    ready &= !cache.path("enabled").asBoolean() || cache.path("synced").asBoolean();
+                }
+                if (ready) {
+                    return;
+                }
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("Informer caches did not sync within 2 minutes");
+    }
+
+    private static ScheduledExecutorService startChurn(SyntheticCluster cluster, double perSecond) {
+        if (perSecond <= 0) {
+            return null;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        Random random = new Random(42);
+        double[] carry = new double[1];
+        executor.scheduleAtFixedRate(() -> {
+            carry[0] += perSecond / 10;
+            int count = (int) carry[0];
+            carry[0] -= count;
+            if (count > 0) {
+                cluster.churn(count, random);
+            }
+        }, 100, 100, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) {
+                options.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String key, int fallback) {
+        String value = options.get(key);
+        return value != null ? Integer.parseInt(value) : fallback;
+    }
+
+    /** One client thread: sends requests back to back until the deadline, recording latency per request. */
+    private static final class Worker implements Runnable {
+
+        private final Supplier<HttpRequest> requests;
+        private final HttpClient http;
+        private final long deadline;
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        Worker(Supplier<HttpRequest> requests, HttpClient http, long deadline) {
+            this.requests = requests;
+            this.http = http;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = requests.get();
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    ok = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                } catch (IOException e) {
+                    ok = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - start;
+                if (!ok) {
+                    errors++;
+                }
+            }
+        }
+    }
+
+    /** Latency percentiles and throughput over all workers of one run. */
+    private record Result(String endpoint, long[] latencies, int errors, long elapsedNanos) {
+
+        static Result of(String endpoint, List<Worker> workers, long elapsedNanos) {
+            long[] all = new long[workers.stream().mapToInt(worker -> worker.count).sum()];
+            int offset = 0;
+            int errors = 0;
+            for (Worker worker : workers) {
+                System.arraycopy(worker.latencies, 0, all, offset, worker.count);
+                offset += worker.count;
+                errors += worker.errors;
+            }
+            Arrays.sort(all);
+            return new Result(endpoint, all, errors, elapsedNanos);
+        }
+
+        void print() {
+            double seconds = elapsedNanos / 1e9;
+            System.out.printf("%-10s %9d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    endpoint, latencies.length, errors, latencies.length / seconds,
+                    millis(0.50), millis(0.90), millis(0.99), millis(1.0));
+        }
+
+        private double millis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.kubediagnose.loadtest;
+
+import com.kubediagnose.benchmark.Fixtures;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1Namespace;
+import io.kubernetes.client.openapi.models.V1NamespaceStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Generated cluster state served by {@link FakeKubernetesApiServer}: namespaces {@code load-0..n-1}
+ * built with {@link Fixtures}, plus kube-system with two CoreDNS replicas. Objects are stored with
+ * their JSON so the fake server does not pay for serialization on every LIST.
+ * {@link #churn} modifies pods and notifies watchers, as a live cluster would.
+ */
+public class SyntheticCluster {
+
+    public static final String PODS = "pods";
+    public static final String SERVICES = "services";
+    public static final String ENDPOINTS = "endpoints";
+    public static final String NAMESPACES = "namespaces";
+
+    private final JSON json = new JSON();
+    private final AtomicLong resourceVersion = new AtomicLong(1);
+    // resource -> namespace -> objects in list order; namespaces are stored under ""
+    private final Map<String, Map<String, List<Stored>>> store = new LinkedHashMap<>();
+    private final List<Consumer<Event>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param namespaces Number of generated namespaces
+     * @param podsPerNamespace Pods in each; services and endpoints follow ({@link Fixtures#PODS_PER_APP} pods per service)
+     * @param mix Share of failing pods
+     * @param selectorKeys Labels in each service selector (1 to 4)
+     */
+    public SyntheticCluster(int namespaces, int podsPerNamespace, Fixtures.Mix mix, int selectorKeys) {
+        for (String resource : List.of(PODS, SERVICES, ENDPOINTS, NAMESPACES)) {
+            store.put(resource, new LinkedHashMap<>());
+        }
+        addNamespace("kube-system", Fixtures.coreDnsPods(2), List.of(), List.of());
+        for (int n = 0; n < namespaces; n++) {
+            String namespace = namespaceName(n);
+            List<V1Pod> pods = Fixtures.pods(namespace, podsPerNamespace, mix);
+            List<V1Service> services = Fixtures.services(namespace, podsPerNamespace, selectorKeys);
+            addNamespace(namespace, pods, services, Fixtures.endpoints(pods, services));
+        }
+    }
+
+    public static String namespaceName(int index) {
+        return "load-" + index;
+    }
+
+    /** Current cluster-wide resourceVersion. */
+    public String getResourceVersion() {
+        return Long.toString(resourceVersion.get());
+    }
+
+    /** Objects of one resource in a namespace, or in all namespaces when {@code namespace} is null. */
+    public synchronized List<Stored> list(String resource, String namespace) {
+        Map<String, List<Stored>> byNamespace = store.get(resource);
+        if (byNamespace == null) {
+            return List.of();
+        }
+        if (NAMESPACES.equals(resource)) {
+            return List.copyOf(byNamespace.getOrDefault("", List.of()));
+        }
+        if (namespace != null) {
+            return List.copyOf(byNamespace.getOrDefault(namespace, List.of()));
+        }
+        List<Stored> all = new ArrayList<>();
+        byNamespace.values().forEach(all::addAll);
+        return all;
+    }
+
+    /** One object, or null. */
+    public synchronized Stored get(String resource, String namespace, String name) {
+        for (Stored stored : list(resource, namespace)) {
+            if (name.equals(stored.object().getMetadata().getName())) {
+                return stored;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Bumps the first container's restart count on {@code count} random pods in the generated
+     * namespaces, each with a new resourceVersion, and sends MODIFIED to watchers.
+     */
+    public void churn(int count, Random random) {
+        List<Event> events = new ArrayList<>(count);
+        synchronized (this) {
+            Map<String, List<Stored>> pods = store.get(PODS);
+            List<String> namespaces = pods.keySet().stream().filter(ns -> !"kube-system".equals(ns)).toList();
+            for (int i = 0; i < count && !namespaces.isEmpty(); i++) {
+                List<Stored> items = pods.get(namespaces.get(random.nextInt(namespaces.size())));
+                if (items.isEmpty()) {
+                    continue;
+                }
+                int index = random.nextInt(items.size());
+                // Stored objects are shared with readers; modify a copy
+                V1Pod pod = json.deserialize(items.get(index).json(), V1Pod.class);
+                pod.getMetadata().setResourceVersion(Long.toString(resourceVersion.incrementAndGet()));
+                List<V1ContainerStatus> statuses = pod.getStatus().getContainerStatuses();
+                if (statuses != null && !statuses.isEmpty()) {
+                    statuses.get(0).setRestartCount(statuses.get(0).getRestartCount() + 1);
+                }
+                Stored updated = stored(pod);
+                items.set(index, updated);
+                events.add(new Event("MODIFIED", PODS, updated));
+            }
+        }
+        for (Event event : events) {
+            listeners.forEach(listener -> listener.accept(event));
+        }
+    }
+
+    public void addListener(Consumer<Event> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<Event> listener) {
+        listeners.remove(listener);
+    }
+
+    public int size(String resource) {
+        return list(resource, null).size();
+    }
+
+    private void addNamespace(String name, List<V1Pod> pods, List<V1Service> services, List<V1Endpoints> endpoints) {
+        V1Namespace namespace = new V1Namespace()
+                .metadata(new V1ObjectMeta().name(name).uid("ns-" + name).resourceVersion("1"))
+                .status(new V1NamespaceStatus().phase("Active"));
+        store.get(NAMESPACES).computeIfAbsent("", ns -> new ArrayList<>()).add(stored(namespace));
+        store.get(PODS).put(name, new ArrayList<>(pods.stream().map(this::stored).toList()));
+        store.get(SERVICES).put(name, new ArrayList<>(services.stream().map(this::stored).toList()));
+        store.get(ENDPOINTS).put(name, new ArrayList<>(endpoints.stream().map(this::stored).toList()));
+    }
+
+    private Stored stored(KubernetesObject object) {
+        return new Stored(object, json.serialize(object));
+    }
+
+    /** An object and its JSON. */
+    public record Stored(KubernetesObject object, String json) {
+    }
+
+    /** A watch event for one object. */
+    public record Event(String type, String resource, Stored stored) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.kubediagnose.rules;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Selector resolution through the label index, as used by the selector and port rules.
+ */
+class PodLabelIndexTest {
+
+    private static V1Pod pod(String name, Map<String, String> labels) {
+        return new V1Pod().metadata(new V1ObjectMeta().name(name).resourceVersion("1").labels(labels));
+    }
+
+    private final V1Pod webV1 = pod("web-v1", Map.of("app", "web", "version", "v1"));
+    private final V1Pod webV2 = pod("web-v2", Map.of("app", "web", "version", "v2"));
+    private final V1Pod db = pod("db", Map.of("app", "db"));
+    private final V1Pod unlabeled = pod("unlabeled", null);
+
+    private final PodLabelIndex index = PodLabelIndex.build(List.of(webV1, unlabeled, webV2, db));
+
+    @Test
+    void nullSelectorMatchesNothing() {
+        PodLabelIndex.SelectorMatch match = index.match(null);
+
+        assertThat(match.getMatchCount()).isZero();
+        assertThat(match.getMatchingPods()).isEmpty();
+        assertThat(match.getTotalPods()).isEqualTo(4);
+    }
+
+    @Test
+    void emptySelectorMatchesEveryLabeledPod() {
+        PodLabelIndex.SelectorMatch match = index.match(Map.of());
+
+        assertThat(match.getMatchingPods()).containsExactly(webV1, webV2, db);
+    }
+
+    @Test
+    void singleKeyMatchesInListOrder() {
+        PodLabelIndex.SelectorMatch match = index.match(Map.of("app", "web"));
+
+        assertThat(match.getMatchCount()).isEqualTo(2);
+        assertThat(match.getMatchingPods()).containsExactly(webV1, webV2);
+        assertThat(match.getNonMatchingPods(3)).containsExactly(db);
+    }
+
+    @Test
+    void multiKeySelectorIntersects() {
+        PodLabelIndex.SelectorMatch match = index.match(Map.of("app", "web", "version", "v2"));
+
+        assertThat(match.getMatchingPods()).containsExactly(webV2);
+        assertThat(match.getNonMatchingPods(3)).containsExactly(webV1, db);
+    }
+
+    @Test
+    void disjointKeysMatchNothing() {
+        assertThat(index.match(Map.of("app", "db", "version", "v1")).getMatchCount()).isZero();
+    }
+
+    @Test
+    void unknownKeyOrValueMatchesNothing() {
+        assertThat(index.match(Map.of("tier", "frontend")).getMatchCount()).isZero();
+        assertThat(index.match(Map.of("app", "cache")).getMatchCount()).isZero();
+        assertThat(index.match(Map.of("app", "web", "tier", "frontend")).getMatchCount()).isZero();
+    }
+
+    @Test
+    void nonMatchingPodsHonourLimitAndSkipUnlabeled() {
+        PodLabelIndex.SelectorMatch match = index.match(Map.of("app", "db"));
+
+        assertThat(match.getNonMatchingPods(1)).containsExactly(webV1);
+        assertThat(match.getNonMatchingPods(10)).containsExactly(webV1, webV2);
+    }
+
+    @Test
+    void emptyNamespace() {
+        PodLabelIndex.SelectorMatch match = PodLabelIndex.build(List.of()).match(Map.of("app", "web"));
+
+        assertThat(match.getMatchCount()).isZero();
+        assertThat(match.getTotalPods()).isZero();
+    }
+}
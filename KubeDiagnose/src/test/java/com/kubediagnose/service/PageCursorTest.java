@@ -0,0 +1,90 @@
+package com.kubediagnose.service;
+
+import com.kubediagnose.model.Severity;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Round trip of the paging cursor, rejection of malformed ones and the page size limits.
+ */
+class PageCursorTest {
+
+    private static SeverityCounts counts(int critical, int warning, int healthy) {
+        return new SeverityCounts(critical, warning, healthy);
+    }
+
+    @Test
+    void firstPageHasNoTokenAndZeroTotals() {
+        assertThat(PageCursor.FIRST.getContinueToken()).isNull();
+        assertThat(PageCursor.FIRST.getAnalyzed()).isZero();
+        assertThat(PageCursor.FIRST.startingCounts().getTotal()).isZero();
+    }
+
+    @Test
+    void carriesTokenAndTotalsAcrossPages() {
+        String first = PageCursor.FIRST.next("token-1", 200, counts(3, 5, 192));
+        PageCursor second = PageCursor.decode(first);
+
+        assertThat(second.getContinueToken()).isEqualTo("token-1");
+        assertThat(second.getAnalyzed()).isEqualTo(200);
+        SeverityCounts totals = second.startingCounts();
+        assertThat(totals.getCritical()).isEqualTo(3);
+        assertThat(totals.getWarning()).isEqualTo(5);
+        assertThat(totals.getHealthy()).isEqualTo(192);
+
+        totals.add(Severity.CRITICAL);
+        PageCursor third = PageCursor.decode(second.next("token-2", 150, totals));
+        assertThat(third.getAnalyzed()).isEqualTo(350);
+        assertThat(third.startingCounts().getCritical()).isEqualTo(4);
+    }
+
+    @Test
+    void keepsContinueTokensContainingSeparators() {
+        String token = "eyJ2IjoibWV0YS5rOHMuaW8vdjEiLCJydiI6MTIzfQ==:with.dots";
+
+        assertThat(PageCursor.decode(PageCursor.FIRST.next(token, 10, counts(0, 0, 10))).getContinueToken())
+                .isEqualTo(token);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        assertThat(PageCursor.FIRST.next(null, 10, counts(0, 0, 10))).isNull();
+        assertThat(PageCursor.FIRST.next("", 10, counts(0, 0, 10))).isNull();
+    }
+
+    @Test
+    void acceptsCursorsFromAnyInstance() {
+        // A cursor carries no per-process state, so another replica or a restarted one reads it
+        PageCursor decoded = PageCursor.decode(encode("v1:200:3:5:192:token-1"));
+        assertThat(decoded.getContinueToken()).isEqualTo("token-1");
+        assertThat(decoded.getAnalyzed()).isEqualTo(200);
+        assertThat(decoded.startingCounts().getHealthy()).isEqualTo(192);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode("not a cursor!"))
+                .withMessage("Invalid continue cursor");
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(""));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode("v2:200:0:0:200:token-1")));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode("v1:200:0:0:200:")));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode("v1:200:x:0:200:token-1")));
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode("v1:200:-3:0:200:token-1")));
+    }
+
+    @Test
+    void pageSizeDefaultsAndIsCapped() {
+        assertThat(PageCursor.pageSize(null)).isEqualTo(PageCursor.DEFAULT_LIMIT);
+        assertThat(PageCursor.pageSize(200)).isEqualTo(200);
+        assertThat(PageCursor.pageSize(1_000_000)).isEqualTo(PageCursor.MAX_LIMIT);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
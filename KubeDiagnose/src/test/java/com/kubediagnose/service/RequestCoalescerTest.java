@@ -0,0 +1,106 @@
+package com.kubediagnose.service;
+
+import io.kubernetes.client.openapi.ApiException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Joining a running call, reuse within the window, release after it, and failures.
+ */
+class RequestCoalescerTest {
+
+    @Test
+    void concurrentCallersShareOneRun() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 0);
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> execute(coalescer, "pods:default", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        }));
+        await().atMost(Duration.ofSeconds(5)).until(() -> coalescer.status().getInFlight() == 1);
+        CompletableFuture<Object> second = CompletableFuture.supplyAsync(() -> execute(coalescer, "pods:default", () -> {
+            throw new AssertionError("joined call must not run");
+        }));
+        await().atMost(Duration.ofSeconds(5)).until(() -> coalescer.status().getCoalesced() == 1);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(result);
+        assertThat(coalescer.status().getExecuted()).isEqualTo(1);
+        assertThat(coalescer.flightCount()).isZero();
+    }
+
+    @Test
+    void reusesAResultWithinTheWindow() throws ApiException {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 60_000);
+        Object result = new Object();
+
+        coalescer.execute("pods:default", () -> result);
+        Object reused = coalescer.execute("pods:default", Object::new);
+
+        assertThat(reused).isSameAs(result);
+        assertThat(coalescer.status().getExecuted()).isEqualTo(1);
+        assertThat(coalescer.status().getReused()).isEqualTo(1);
+    }
+
+    @Test
+    void releasesTheResultWhenTheWindowEnds() throws ApiException {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 50);
+        Object result = new Object();
+
+        coalescer.execute("pods:default", () -> result);
+        assertThat(coalescer.flightCount()).isEqualTo(1);
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> coalescer.flightCount() == 0);
+        assertThat(coalescer.execute("pods:default", Object::new)).isNotSameAs(result);
+        assertThat(coalescer.status().getExecuted()).isEqualTo(2);
+        assertThat(coalescer.status().getReused()).isZero();
+    }
+
+    @Test
+    void neverReusesAFailure() throws ApiException {
+        RequestCoalescer coalescer = new RequestCoalescer(true, 60_000);
+
+        assertThatExceptionOfType(ApiException.class).isThrownBy(() -> coalescer.execute("pods:default", () -> {
+            throw new ApiException(503, "unavailable");
+        }));
+        Object result = coalescer.execute("pods:default", () -> "ok");
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(coalescer.status().getExecuted()).isEqualTo(2);
+        assertThat(coalescer.status().getReused()).isZero();
+    }
+
+    @Test
+    void disabledRunsEveryCall() throws ApiException {
+        RequestCoalescer coalescer = new RequestCoalescer(false, 60_000);
+
+        coalescer.execute("pods:default", Object::new);
+        coalescer.execute("pods:default", Object::new);
+
+        assertThat(coalescer.status().getExecuted()).isEqualTo(2);
+        assertThat(coalescer.flightCount()).isZero();
+    }
+
+    private static Object execute(RequestCoalescer coalescer, String key, RequestCoalescer.ApiCall<Object> call) {
+        try {
+            return coalescer.execute(key, call);
+        } catch (ApiException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
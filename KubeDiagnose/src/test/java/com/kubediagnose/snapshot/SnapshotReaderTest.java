@@ -0,0 +1,124 @@
+package com.kubediagnose.snapshot;
+
+import io.kubernetes.client.openapi.models.V1Endpoints;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Document shapes the reader accepts, and kind-less objects it infers or skips.
+ */
+class SnapshotReaderTest {
+
+    private static final String POD = """
+            {"apiVersion": "v1", "kind": "Pod", "metadata": {"name": "web-1", "namespace": "shop"},
+             "spec": {"containers": [{"name": "web", "image": "nginx"}]}}""";
+    private static final String SERVICE = """
+            {"apiVersion": "v1", "kind": "Service", "metadata": {"name": "web", "namespace": "shop"},
+             "spec": {"selector": {"app": "web"}, "ports": [{"port": 80}]}}""";
+    private static final String ENDPOINTS = """
+            {"apiVersion": "v1", "kind": "Endpoints", "metadata": {"name": "web", "namespace": "shop"},
+             "subsets": []}""";
+    private static final String CONFIG_MAP = """
+            {"apiVersion": "v1", "kind": "ConfigMap", "metadata": {"name": "settings", "namespace": "shop"},
+             "data": {"key": "value"}}""";
+
+    /** Records what the reader hands over, as kind/name. */
+    private static final class Collected implements SnapshotReader.Visitor {
+        private final List<String> objects = new ArrayList<>();
+
+        @Override
+        public void pod(V1Pod pod) {
+            objects.add("Pod/" + pod.getMetadata().getName());
+        }
+
+        @Override
+        public void service(V1Service service) {
+            objects.add("Service/" + service.getMetadata().getName());
+        }
+
+        @Override
+        public void endpoints(V1Endpoints endpoints) {
+            objects.add("Endpoints/" + endpoints.getMetadata().getName());
+        }
+    }
+
+    private final Collected collected = new Collected();
+    private final SnapshotReader reader = new SnapshotReader(collected);
+
+    private void read(String json) throws IOException {
+        reader.read(new StringReader(json));
+    }
+
+    @Test
+    void readsAGenericListAndSkipsOtherKinds() throws IOException {
+        // kubectl -o json puts items before kind
+        read("{\"apiVersion\": \"v1\", \"items\": [" + POD + ", " + SERVICE + ", " + ENDPOINTS + ", "
+                + CONFIG_MAP + "], \"kind\": \"List\"}");
+
+        assertThat(collected.objects).containsExactly("Pod/web-1", "Service/web", "Endpoints/web");
+        assertThat(reader.getObjectsRead()).isEqualTo(3);
+        assertThat(reader.getObjectsSkipped()).isEqualTo(1);
+    }
+
+    @Test
+    void takesTheItemKindFromATypedList() throws IOException {
+        // kubectl get --raw /api/v1/pods: kind first, items without kind
+        read("""
+                {"kind": "PodList", "apiVersion": "v1", "metadata": {}, "items": [
+                  {"metadata": {"name": "web-1", "namespace": "shop"}, "spec": {"containers": []}},
+                  {"metadata": {"name": "web-2", "namespace": "shop"}}
+                ]}""");
+
+        assertThat(collected.objects).containsExactly("Pod/web-1", "Pod/web-2");
+    }
+
+    @Test
+    void readsABareArray() throws IOException {
+        read("[" + POD + ", " + ENDPOINTS + "]");
+
+        assertThat(collected.objects).containsExactly("Pod/web-1", "Endpoints/web");
+    }
+
+    @Test
+    void readsDocumentsBackToBack() throws IOException {
+        read(POD + "\n" + "{\"kind\": \"List\", \"items\": [" + SERVICE + "]}\n" + ENDPOINTS);
+
+        assertThat(collected.objects).containsExactly("Pod/web-1", "Service/web", "Endpoints/web");
+    }
+
+    @Test
+    void infersTheKindOfKindlessObjects() throws IOException {
+        read("""
+                [
+                  {"metadata": {"name": "web-1"}, "spec": {"containers": [{"name": "web"}]}},
+                  {"metadata": {"name": "web"}, "spec": {"ports": [{"port": 80}]}},
+                  {"metadata": {"name": "db"}, "spec": {"selector": {"app": "db"}}},
+                  {"metadata": {"name": "web"}, "subsets": []}
+                ]""");
+
+        assertThat(collected.objects).containsExactly("Pod/web-1", "Service/web", "Service/db", "Endpoints/web");
+    }
+
+    @Test
+    void skipsKindlessObjectsOfOtherShapes() throws IOException {
+        read("""
+                [
+                  {"metadata": {"name": "data"}, "spec": {"accessModes": ["ReadWriteOnce"]}},
+                  {"metadata": {"name": "web"}, "spec": {"selector": {"matchLabels": {"app": "web"}},
+                   "template": {"spec": {"containers": []}}}},
+                  {"metadata": {"name": "settings"}, "data": {}},
+                  "not an object"
+                ]""");
+
+        assertThat(collected.objects).isEmpty();
+        assertThat(reader.getObjectsSkipped()).isEqualTo(4);
+    }
+}